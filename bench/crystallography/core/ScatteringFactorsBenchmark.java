@@ -0,0 +1,132 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package crystallography.core;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the tabulated scattering factors (
+ * {@link ScatteringFactors#getFromS(int, double)}) against the evaluation of
+ * the fitted functions ({@link ScatteringFactors#calculateFromS(int, double)}
+ * ). The setup fails if the interpolation error exceeds {@link #MAX_ERROR}.
+ * 
+ * @author Philippe T. Pinard
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScatteringFactorsBenchmark {
+
+    /** Maximum error of the interpolated scattering factors. */
+    public static final double MAX_ERROR = 1e-7;
+
+    /** Number of evaluations per invocation. */
+    private static final int COUNT = 1024;
+
+    /** Type of scattering factors. */
+    @Param({ "ELECTRON", "XRAY" })
+    public ScatteringFactorsEnum type;
+
+    /** Scattering factors. */
+    private ScatteringFactors scatter;
+
+    /** Atomic numbers. */
+    private int[] atomicNumbers;
+
+    /** Values of s. */
+    private double[] s;
+
+
+
+    /**
+     * Evaluates the fitted functions.
+     * 
+     * @return sum of the scattering factors
+     */
+    @Benchmark
+    public double calculated() {
+        double sum = 0.0;
+        for (int i = 0; i < COUNT; i++)
+            sum += scatter.calculateFromS(atomicNumbers[i], s[i]);
+        return sum;
+    }
+
+
+
+    /**
+     * Creates the scattering factors and the random atomic numbers and values
+     * of s, builds the tables and checks their accuracy.
+     * 
+     * @throws Exception
+     *             if the scattering factors cannot be created
+     * @throws IllegalStateException
+     *             if the interpolation error exceeds {@link #MAX_ERROR}
+     */
+    @Setup
+    public void setup() throws Exception {
+        scatter = type.getScatteringFactors().newInstance();
+
+        Random random = new Random(0);
+        atomicNumbers = new int[COUNT];
+        s = new double[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            atomicNumbers[i] = 2 + random.nextInt(97);
+            s[i] = 6.0 * random.nextDouble();
+        }
+
+        double maxError = 0.0;
+        for (int atomicNumber = 2; atomicNumber <= 98; atomicNumber++) {
+            for (double x = 0.0; x < 6.0; x += 0.0013) {
+                double error =
+                        Math.abs(scatter.getFromS(atomicNumber, x)
+                                - scatter.calculateFromS(atomicNumber, x));
+                maxError = Math.max(maxError, error);
+            }
+        }
+
+        if (maxError > MAX_ERROR)
+            throw new IllegalStateException("Interpolation error (" + maxError
+                    + ") exceeds " + MAX_ERROR + ".");
+    }
+
+
+
+    /**
+     * Interpolates the tabulated scattering factors.
+     * 
+     * @return sum of the scattering factors
+     */
+    @Benchmark
+    public double tabulated() {
+        double sum = 0.0;
+        for (int i = 0; i < COUNT; i++)
+            sum += scatter.getFromS(atomicNumbers[i], s[i]);
+        return sum;
+    }
+
+}
@@ -0,0 +1,305 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the allocation profiler and compares the results
+ * with a baseline.
+ * <p/>
+ * The arguments are the ones of JMH (e.g. a regular expression to select the
+ * benchmarks). The following system properties are also read:
+ * <ul>
+ * <li><code>bench.results</code>: CSV file where the results are written
+ * (default: <code>bench-results.csv</code>)</li>
+ * <li><code>bench.baseline</code>: CSV file of the results of a previous run
+ * (optional)</li>
+ * <li><code>bench.tolerance</code>: relative tolerance before a difference
+ * with the baseline is reported as a regression (default: 0.1)</li>
+ * </ul>
+ * Each row of the CSV file is a benchmark with its parameters, its throughput
+ * and the memory it allocates per operation. A results file can be used as
+ * the baseline of a later run. The process exits with the status 1 if a
+ * benchmark of the baseline is slower or allocates more.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class Benchmarks {
+
+    /** Result of a benchmark. */
+    private static class Score {
+
+        /** Throughput. */
+        public final double throughput;
+
+        /** Unit of the throughput. */
+        public final String unit;
+
+        /** Allocated memory per operation (in bytes) or NaN. */
+        public final double allocated;
+
+
+
+        /**
+         * Creates a new <code>Score</code>.
+         * 
+         * @param throughput
+         *            throughput
+         * @param unit
+         *            unit of the throughput
+         * @param allocated
+         *            allocated memory per operation (in bytes) or NaN
+         */
+        public Score(double throughput, String unit, double allocated) {
+            this.throughput = throughput;
+            this.unit = unit;
+            this.allocated = allocated;
+        }
+    }
+
+    /** Header of the CSV file of the results. */
+    private static final String HEADER =
+            "Benchmark,Parameters,Throughput,Unit,Allocated (B/op)";
+
+    /** Label of the allocated memory per operation of the GC profiler. */
+    private static final String ALLOCATED_LABEL = "gc.alloc.rate.norm";
+
+
+
+    /**
+     * Compares the results with the baseline and prints the regressions.
+     * 
+     * @param baseline
+     *            results of the baseline
+     * @param results
+     *            results of the current run
+     * @param tolerance
+     *            relative tolerance
+     * @return number of regressions
+     */
+    private static int compare(Map<String, Score> baseline,
+            Map<String, Score> results, double tolerance) {
+        int regressions = 0;
+
+        for (Entry<String, Score> entry : baseline.entrySet()) {
+            Score expected = entry.getValue();
+            Score actual = results.get(entry.getKey());
+            if (actual == null)
+                continue;
+
+            if (actual.throughput < expected.throughput * (1.0 - tolerance)) {
+                System.out.println("REGRESSION " + entry.getKey()
+                        + ": throughput " + actual.throughput + " "
+                        + actual.unit + " (baseline: " + expected.throughput
+                        + " " + expected.unit + ")");
+                regressions++;
+            }
+
+            if (actual.allocated > expected.allocated * (1.0 + tolerance)
+                    && actual.allocated - expected.allocated >= 1.0) {
+                System.out.println("REGRESSION " + entry.getKey()
+                        + ": allocated " + actual.allocated
+                        + " B/op (baseline: " + expected.allocated + " B/op)");
+                regressions++;
+            }
+        }
+
+        return regressions;
+    }
+
+
+
+    /**
+     * Returns the key of a benchmark: its name and its parameters.
+     * 
+     * @param params
+     *            parameters of the benchmark
+     * @return key
+     */
+    private static String getKey(BenchmarkParams params) {
+        StringBuilder key = new StringBuilder(params.getBenchmark());
+
+        key.append(',');
+        boolean first = true;
+        for (String name : params.getParamsKeys()) {
+            if (!first)
+                key.append(';');
+            key.append(name).append('=').append(params.getParam(name));
+            first = false;
+        }
+
+        return key.toString();
+    }
+
+
+
+    /**
+     * Reads a CSV file of results.
+     * 
+     * @param file
+     *            CSV file
+     * @return results of each benchmark
+     * @throws IOException
+     *             if an error occurs while reading the file
+     */
+    private static Map<String, Score> load(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<String, Score>();
+
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            String line = reader.readLine(); // header
+
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split(",");
+                if (columns.length != 5)
+                    throw new IOException("Invalid line in " + file + ": "
+                            + line);
+
+                scores.put(columns[0] + "," + columns[1], new Score(
+                        Double.parseDouble(columns[2]), columns[3],
+                        Double.parseDouble(columns[4])));
+            }
+        } finally {
+            reader.close();
+        }
+
+        return scores;
+    }
+
+
+
+    /**
+     * Runs the benchmarks.
+     * 
+     * @param args
+     *            arguments of JMH
+     * @throws Exception
+     *             if an error occurs while running the benchmarks
+     */
+    public static void main(String[] args) throws Exception {
+        File resultsFile =
+                new File(System.getProperty("bench.results",
+                        "bench-results.csv"));
+        String baselinePath = System.getProperty("bench.baseline");
+        String tolerance = System.getProperty("bench.tolerance", "0.1");
+
+        Options options =
+                new OptionsBuilder().parent(new CommandLineOptions(args))
+                        .addProfiler(GCProfiler.class).build();
+        Map<String, Score> results = toScores(new Runner(options).run());
+
+        save(results, resultsFile);
+        System.out.println("Results saved in " + resultsFile);
+
+        if (baselinePath == null)
+            return;
+
+        File baselineFile = new File(baselinePath);
+        if (!baselineFile.exists()) {
+            System.out.println("No baseline " + baselineFile);
+            return;
+        }
+
+        int regressions =
+                compare(load(baselineFile), results,
+                        Double.parseDouble(tolerance));
+        System.out.println(regressions + " regression(s) compared to "
+                + baselineFile);
+        if (regressions > 0)
+            System.exit(1);
+    }
+
+
+
+    /**
+     * Writes the results in a CSV file.
+     * 
+     * @param scores
+     *            results of each benchmark
+     * @param file
+     *            CSV file
+     * @throws IOException
+     *             if an error occurs while writing the file
+     */
+    private static void save(Map<String, Score> scores, File file)
+            throws IOException {
+        Writer writer = new FileWriter(file);
+        try {
+            writer.write(HEADER + "\n");
+            for (Entry<String, Score> entry : scores.entrySet()) {
+                Score score = entry.getValue();
+                writer.write(entry.getKey() + "," + score.throughput + ","
+                        + score.unit + "," + score.allocated + "\n");
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+
+
+    /**
+     * Extracts the throughput and the allocated memory of the results of JMH.
+     * 
+     * @param runResults
+     *            results of JMH
+     * @return results of each benchmark
+     */
+    private static Map<String, Score> toScores(
+            Collection<RunResult> runResults) {
+        Map<String, Score> scores = new LinkedHashMap<String, Score>();
+
+        for (RunResult runResult : runResults) {
+            Result<?> primary = runResult.getPrimaryResult();
+
+            // The secondary results are returned with the raw Result type
+            double allocated = Double.NaN;
+            for (String label : runResult.getSecondaryResults().keySet())
+                if (label.endsWith(ALLOCATED_LABEL)) {
+                    Result<?> secondary =
+                            runResult.getSecondaryResults().get(label);
+                    allocated = secondary.getScore();
+                }
+
+            scores.put(getKey(runResult.getParams()), new Score(
+                    primary.getScore(), primary.getScoreUnit(), allocated));
+        }
+
+        return scores;
+    }
+
+}
@@ -0,0 +1,408 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Random;
+
+import org.apache.commons.math.geometry.Rotation;
+import org.apache.commons.math.geometry.RotationOrder;
+import org.apache.commons.math.geometry.Vector3D;
+import org.ebsdimage.core.AcquisitionConfig;
+import org.ebsdimage.core.Camera;
+import org.ebsdimage.core.HoughMap;
+import org.ebsdimage.core.Microscope;
+import org.ebsdimage.core.Transform;
+import org.ebsdimage.core.exp.ops.hough.op.HoughTransform;
+import org.ebsdimage.core.run.Operation;
+import org.ebsdimage.core.sim.Sim;
+import org.ebsdimage.core.sim.SimMetadata;
+import org.ebsdimage.core.sim.ops.patternsim.PatternFilledBand;
+import org.ebsdimage.core.sim.ops.patternsim.PatternSimOp;
+import org.ebsdimage.io.SmpOutputStream;
+
+import crystallography.core.AtomSitesFactory;
+import crystallography.core.Crystal;
+import crystallography.core.ScatteringFactorsEnum;
+import crystallography.core.SpaceGroups;
+import crystallography.core.UnitCellFactory;
+
+/**
+ * Synthetic fixtures of the benchmarks: simulated patterns of the standard
+ * camera sizes, SMP files of simulated patterns and generated CTF and ANG
+ * files. All the fixtures are generated from a seed, so that two runs of a
+ * benchmark work on the same data.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class Fixtures {
+
+    /** Seed of the random generators. */
+    public static final long SEED = 0;
+
+    /** Name of the phase of the generated CTF and ANG files. */
+    private static final String PHASE_NAME = "Silicon";
+
+
+
+
+    /**
+     * Generates an ANG file of a single phase map with random orientations.
+     * About 5% of the pixels are not indexed.
+     * 
+     * @param size
+     *            size of the map (e.g. <code>512x512</code>)
+     * @return ANG file (deleted when the JVM exits)
+     * @throws IOException
+     *             if an error occurs while writing the file
+     */
+    public static File createAngFile(String size) throws IOException {
+        int width = parseWidth(size);
+        int height = parseHeight(size);
+        File file = createTempFile(".ang");
+        Random random = new Random(SEED);
+
+        Writer writer = new FileWriter(file);
+        try {
+            writer.write("# TEM_PIXperUM          1.000000\r\n");
+            writer.write("# x-star                0.500000\r\n");
+            writer.write("# y-star                0.500000\r\n");
+            writer.write("# z-star                0.700000\r\n");
+            writer.write("# WorkingDistance       15.000000\r\n");
+            writer.write("#\r\n");
+            writer.write("# Phase 1\r\n");
+            writer.write("# MaterialName  \t" + PHASE_NAME + "\r\n");
+            writer.write("# Formula     \tSi\r\n");
+            writer.write("# Info\t\t\r\n");
+            writer.write("# Symmetry              43\r\n");
+            writer.write("# LatticeConstants      5.430 5.430 5.430  "
+                    + "90.000  90.000  90.000\r\n");
+            writer.write("# NumberFamilies        1\r\n");
+            writer.write("# hklFamilies   \t 1  1  1 1 0.000000\r\n");
+            writer.write("# Categories 0 0 0 0 0 \r\n");
+            writer.write("#\r\n");
+            writer.write("# GRID: SqrGrid\r\n");
+            writer.write("# XSTEP: 0.100000\r\n");
+            writer.write("# YSTEP: 0.100000\r\n");
+            writer.write("# NCOLS_ODD: " + width + "\r\n");
+            writer.write("# NCOLS_EVEN: " + width + "\r\n");
+            writer.write("# NROWS: " + height + "\r\n");
+            writer.write("#\r\n");
+            writer.write("# OPERATOR: \tBenchmark\r\n");
+            writer.write("#\r\n");
+            writer.write("# SAMPLEID: \t\r\n");
+            writer.write("#\r\n");
+            writer.write("# SCANID: \t\r\n");
+            writer.write("#\r\n");
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    boolean indexed = random.nextDouble() >= 0.05;
+
+                    double theta1 = 12.56637;
+                    double theta2 = 12.56637;
+                    double theta3 = 12.56637;
+                    if (indexed) {
+                        theta1 = 2 * Math.PI * random.nextDouble();
+                        theta2 = Math.PI * random.nextDouble();
+                        theta3 = 2 * Math.PI * random.nextDouble();
+                    }
+
+                    writer.write(String.format(Locale.US,
+                            " %9.5f %9.5f %9.5f %12.5f %12.5f %6.1f %6.3f "
+                                    + "%2d %6d %7.3f\r\n", theta1, theta2,
+                            theta3, x * 0.1, y * 0.1,
+                            20 + 100 * random.nextDouble(),
+                            indexed ? random.nextDouble() : -1.0,
+                            indexed ? 1 : 0, random.nextInt(16384),
+                            indexed ? 2.5 * random.nextDouble() : 180.0));
+                }
+            }
+        } finally {
+            writer.close();
+        }
+
+        return file;
+    }
+
+
+
+    /**
+     * Generates a CTF file of a single phase map with random orientations.
+     * About 5% of the pixels are not indexed.
+     * 
+     * @param size
+     *            size of the map (e.g. <code>512x512</code>)
+     * @return CTF file (deleted when the JVM exits)
+     * @throws IOException
+     *             if an error occurs while writing the file
+     */
+    public static File createCtfFile(String size) throws IOException {
+        int width = parseWidth(size);
+        int height = parseHeight(size);
+        File file = createTempFile(".ctf");
+        Random random = new Random(SEED);
+
+        Writer writer = new FileWriter(file);
+        try {
+            writer.write("Channel Text File\r\n");
+            writer.write("Prj\tBenchmark.cpr\r\n");
+            writer.write("Author\t[Unknown]\r\n");
+            writer.write("JobMode\tGrid\r\n");
+            writer.write("XCells\t" + width + "\r\n");
+            writer.write("YCells\t" + height + "\r\n");
+            writer.write("XStep\t0.1\r\n");
+            writer.write("YStep\t0.1\r\n");
+            writer.write("AcqE1\t0\r\n");
+            writer.write("AcqE2\t0\r\n");
+            writer.write("AcqE3\t0\r\n");
+            writer.write("Euler angles refer to Sample Coordinate system "
+                    + "(CS0)!\tMag\t600\tCoverage\t100\tDevice\t0\tKV\t20"
+                    + "\tTiltAngle\t70\tTiltAxis\t0\r\n");
+            writer.write("Phases\t1\r\n");
+            writer.write("5.43;5.43;5.43\t90;90;90\t" + PHASE_NAME
+                    + "\t11\t216\t0\t0\tBenchmark\r\n");
+            writer.write("Phase\tX\tY\tBands\tError\tEuler1\tEuler2\tEuler3"
+                    + "\tMAD\tBC\tBS\r\n");
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    boolean indexed = random.nextDouble() >= 0.05;
+
+                    if (indexed)
+                        writer.write(String.format(Locale.US,
+                                "1\t%.4f\t%.4f\t%d\t0\t%.3f\t%.3f\t%.3f\t%.4f"
+                                        + "\t%d\t%d\r\n", x * 0.1, y * 0.1,
+                                5 + random.nextInt(4),
+                                360 * random.nextDouble(),
+                                180 * random.nextDouble(),
+                                360 * random.nextDouble(),
+                                random.nextDouble(), 50 + random.nextInt(150),
+                                100 + random.nextInt(156)));
+                    else
+                        writer.write(String.format(Locale.US,
+                                "0\t%.4f\t%.4f\t0\t3\t0\t0\t0\t0\t%d\t%d\r\n",
+                                x * 0.1, y * 0.1, random.nextInt(50),
+                                random.nextInt(100)));
+                }
+            }
+        } finally {
+            writer.close();
+        }
+
+        return file;
+    }
+
+
+
+    /**
+     * Calculates the Hough transform of a simulated pattern with the default
+     * resolution of the Hough transform operation.
+     * 
+     * @param size
+     *            size of the pattern (e.g. <code>336x256</code>)
+     * @return Hough map
+     * @see HoughTransform#DEFAULT
+     */
+    public static HoughMap createHoughMap(String size) {
+        Rotation rotation = createRotations(1)[0];
+        return Transform.hough(simulatePattern(size, rotation).getPatternMap(),
+                HoughTransform.DEFAULT.deltaTheta,
+                HoughTransform.DEFAULT.deltaRho);
+    }
+
+
+
+    /**
+     * Creates the acquisition configuration and the simulation parameters of
+     * a 4:3 camera.
+     * 
+     * @return simulation metadata
+     */
+    public static SimMetadata createMetadata() {
+        Camera camera =
+                new Camera(new Vector3D(1, 0, 0), new Vector3D(0, -1, 0), 0.04,
+                        0.03);
+        Vector3D tiltAxis = new Vector3D(0, 1, 0);
+
+        Microscope microscope = new Microscope("Benchmark", camera, tiltAxis);
+        AcquisitionConfig acqConfig =
+                new AcquisitionConfig(microscope, Math.toRadians(70), 0.015,
+                        20e3, 100, Rotation.IDENTITY, 0.5, 0.5, 0.02);
+
+        return new SimMetadata(acqConfig, ScatteringFactorsEnum.XRAY, 4);
+    }
+
+
+
+    /**
+     * Creates random rotations.
+     * 
+     * @param count
+     *            number of rotations
+     * @return rotations
+     */
+    public static Rotation[] createRotations(int count) {
+        Random random = new Random(SEED);
+
+        Rotation[] rotations = new Rotation[count];
+        for (int i = 0; i < count; i++)
+            rotations[i] =
+                    new Rotation(RotationOrder.ZXZ, 2 * Math.PI
+                            * random.nextDouble(), Math.PI
+                            * random.nextDouble(), 2 * Math.PI
+                            * random.nextDouble());
+
+        return rotations;
+    }
+
+
+
+    /**
+     * Creates a simulation of patterns of silicon.
+     * 
+     * @param size
+     *            size of the patterns (e.g. <code>336x256</code>)
+     * @param ops
+     *            operations of the simulation, after the pattern simulation
+     *            operation
+     * @param rotations
+     *            rotations of the patterns
+     * @return simulation
+     */
+    public static Sim createSim(String size, Operation[] ops,
+            Rotation[] rotations) {
+        Operation[] allOps = new Operation[ops.length + 1];
+        allOps[0] = new PatternFilledBand(parseWidth(size), parseHeight(size));
+        System.arraycopy(ops, 0, allOps, 1, ops.length);
+
+        return new Sim(createMetadata(), allOps, new Crystal[] { silicon() },
+                rotations);
+    }
+
+
+
+    /**
+     * Generates a SMP file of simulated patterns of silicon with random
+     * orientations.
+     * 
+     * @param size
+     *            size of the patterns (e.g. <code>336x256</code>)
+     * @param count
+     *            number of patterns
+     * @return SMP file (deleted when the JVM exits)
+     * @throws IOException
+     *             if an error occurs while writing the file
+     */
+    public static File createSmpFile(String size, int count)
+            throws IOException {
+        File file = createTempFile(".smp");
+
+        SmpOutputStream smp = new SmpOutputStream(file);
+        try {
+            for (Rotation rotation : createRotations(count))
+                smp.writeMap(simulatePattern(size, rotation).getPatternMap());
+        } finally {
+            smp.close();
+        }
+
+        return file;
+    }
+
+
+
+    /**
+     * Creates an empty temporary file, deleted when the JVM exits.
+     * 
+     * @param suffix
+     *            suffix of the file name (e.g. <code>.ctf</code>)
+     * @return temporary file
+     * @throws IOException
+     *             if the file cannot be created
+     */
+    public static File createTempFile(String suffix) throws IOException {
+        File file = File.createTempFile("ebsd-bench", suffix);
+        file.deleteOnExit();
+        return file;
+    }
+
+
+
+    /**
+     * Returns the height of a size (e.g. 256 for <code>336x256</code>).
+     * 
+     * @param size
+     *            size
+     * @return height
+     */
+    public static int parseHeight(String size) {
+        return Integer.parseInt(size.substring(size.indexOf('x') + 1));
+    }
+
+
+
+    /**
+     * Returns the width of a size (e.g. 336 for <code>336x256</code>).
+     * 
+     * @param size
+     *            size
+     * @return width
+     */
+    public static int parseWidth(String size) {
+        return Integer.parseInt(size.substring(0, size.indexOf('x')));
+    }
+
+
+
+    /**
+     * Returns the silicon phase used by the fixtures.
+     * 
+     * @return silicon
+     */
+    public static Crystal silicon() {
+        return new Crystal(PHASE_NAME, UnitCellFactory.cubic(5.43),
+                AtomSitesFactory.atomSitesFCC(14), SpaceGroups.fromIndex(216));
+    }
+
+
+
+    /**
+     * Simulates a pattern of silicon. The pattern map, the bands and their
+     * Hough peaks are available from the returned operation.
+     * 
+     * @param size
+     *            size of the pattern (e.g. <code>336x256</code>)
+     * @param rotation
+     *            orientation of the crystal
+     * @return pattern simulation operation holding the pattern
+     */
+    public static PatternSimOp simulatePattern(String size, Rotation rotation) {
+        Sim sim =
+                createSim(size, new Operation[0], new Rotation[] { rotation });
+        PatternSimOp op = sim.getPatternSimOp();
+
+        op.simulate(sim, sim.getMetadata(), sim.getReflectors()[0], rotation);
+
+        return op;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ebsdimage.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import rmlimage.core.IdentMap;
+import rmlimage.core.Identification;
+
+/**
+ * Benchmark of the calculation of the center of mass of the peaks of the
+ * Hough map of a simulated pattern (
+ * {@link Analysis#getCenterOfMass(IdentMap, HoughMap)}). The peaks are
+ * detected with the automatic top hat thresholding.
+ * 
+ * @author Philippe T. Pinard
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AnalysisBenchmark {
+
+    /** Size of the pattern. */
+    @Param({ "168x128", "336x256", "672x512" })
+    public String size;
+
+    /** Hough map of the simulated pattern. */
+    private HoughMap houghMap;
+
+    /** Identified peaks of the Hough map. */
+    private IdentMap peaksMap;
+
+
+
+    /**
+     * Calculates the center of mass of the peaks.
+     * 
+     * @return centroids of the peaks
+     */
+    @Benchmark
+    public Centroid getCenterOfMass() {
+        return Analysis.getCenterOfMass(peaksMap, houghMap);
+    }
+
+
+
+    /**
+     * Simulates the pattern, calculates its Hough map and identifies its
+     * peaks.
+     */
+    @Setup
+    public void setup() {
+        houghMap = Fixtures.createHoughMap(size);
+        peaksMap = Identification.identify(Threshold.automaticTopHat(houghMap));
+    }
+
+}
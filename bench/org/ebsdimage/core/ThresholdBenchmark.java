@@ -0,0 +1,74 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ebsdimage.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import rmlimage.core.BinMap;
+
+/**
+ * Benchmark of the automatic top hat thresholding of the Hough map of a
+ * simulated pattern ({@link Threshold#automaticTopHat(HoughMap)}).
+ * 
+ * @author Philippe T. Pinard
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThresholdBenchmark {
+
+    /** Size of the pattern. */
+    @Param({ "168x128", "336x256", "672x512" })
+    public String size;
+
+    /** Hough map of the simulated pattern. */
+    private HoughMap houghMap;
+
+
+
+    /**
+     * Thresholds the Hough map.
+     * 
+     * @return peaks map
+     */
+    @Benchmark
+    public BinMap automaticTopHat() {
+        return Threshold.automaticTopHat(houghMap);
+    }
+
+
+
+    /**
+     * Simulates the pattern and calculates its Hough map.
+     */
+    @Setup
+    public void setup() {
+        houghMap = Fixtures.createHoughMap(size);
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math.geometry.Rotation;
+import org.ebsdimage.Fixtures;
+import org.ebsdimage.core.exp.ops.hough.op.HoughTransform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import rmlimage.core.ByteMap;
+
+/**
+ * Benchmark of the Hough transform ({@link Transform#hough(ByteMap, double)})
+ * of simulated patterns of standard camera sizes, with the resolution of
+ * {@link HoughTransform#DEFAULT}.
+ * 
+ * @author Philippe T. Pinard
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransformBenchmark {
+
+    /** Size of the pattern. */
+    @Param({ "168x128", "336x256", "672x512" })
+    public String size;
+
+    /** Simulated pattern. */
+    private ByteMap patternMap;
+
+
+
+    /**
+     * Calculates the Hough transform of the pattern.
+     * 
+     * @return Hough map
+     */
+    @Benchmark
+    public HoughMap hough() {
+        return Transform.hough(patternMap, HoughTransform.DEFAULT.deltaTheta,
+                HoughTransform.DEFAULT.deltaRho);
+    }
+
+
+
+    /**
+     * Simulates the pattern.
+     */
+    @Setup
+    public void setup() {
+        Rotation rotation = Fixtures.createRotations(1)[0];
+        patternMap = Fixtures.simulatePattern(size, rotation).getPatternMap();
+    }
+
+}
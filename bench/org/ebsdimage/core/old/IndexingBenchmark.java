@@ -0,0 +1,103 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.old;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math.geometry.Rotation;
+import org.ebsdimage.Fixtures;
+import org.ebsdimage.core.Camera;
+import org.ebsdimage.core.HoughPeak;
+import org.ebsdimage.core.HoughPeakIntensityComparator;
+import org.ebsdimage.core.Solution;
+import org.ebsdimage.core.sim.SimMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import crystallography.core.Reflectors;
+import crystallography.core.ReflectorsFactory;
+
+/**
+ * Benchmark of the indexing (
+ * {@link Indexing#doIndex(Reflectors[], HoughPeak[], Camera)}) of the most
+ * intense Hough peaks of a simulated pattern.
+ * 
+ * @author Philippe T. Pinard
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IndexingBenchmark {
+
+    /** Number of Hough peaks to index. */
+    @Param({ "5", "8" })
+    public int peakCount;
+
+    /** Reflectors of the phase. */
+    private Reflectors[] reflectors;
+
+    /** Most intense Hough peaks. */
+    private HoughPeak[] peaks;
+
+    /** Camera. */
+    private Camera camera;
+
+
+
+    /**
+     * Indexes the Hough peaks.
+     * 
+     * @return solutions
+     */
+    @Benchmark
+    public Solution[] doIndex() {
+        return new Indexing().doIndex(reflectors, peaks, camera);
+    }
+
+
+
+    /**
+     * Simulates the pattern and selects its most intense Hough peaks.
+     */
+    @Setup
+    public void setup() {
+        SimMetadata metadata = Fixtures.createMetadata();
+        Rotation rotation = Fixtures.createRotations(1)[0];
+
+        HoughPeak[] allPeaks =
+                Fixtures.simulatePattern("336x256", rotation).getHoughPeaks();
+        Arrays.sort(allPeaks, Collections.reverseOrder(
+                new HoughPeakIntensityComparator()));
+        peaks = Arrays.copyOf(allPeaks, Math.min(peakCount, allPeaks.length));
+
+        reflectors =
+                new Reflectors[] { ReflectorsFactory.generate(
+                        Fixtures.silicon(), metadata.getScatteringFactors(),
+                        metadata.getMaxIndex()) };
+        camera = metadata.acquisitionConfig.camera;
+    }
+
+}
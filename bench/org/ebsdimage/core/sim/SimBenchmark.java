@@ -0,0 +1,129 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.sim;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.ebsdimage.Fixtures;
+import org.ebsdimage.core.run.Operation;
+import org.ebsdimage.core.sim.ops.output.OutputOps;
+import org.ebsdimage.core.sim.ops.patternsim.PatternSimOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import rmlshared.io.FileUtil;
+
+/**
+ * Benchmark of a simulation ({@link Sim#run()}) of patterns of silicon with
+ * random orientations. The patterns are either drawn or only their bands are
+ * calculated.
+ * 
+ * @author Philippe T. Pinard
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+public class SimBenchmark {
+
+    /** Listener forcing the simulation to draw the patterns. */
+    private static class DrawingListener implements SimListener {
+
+        @Override
+        public void outputOpPerformed(Sim sim, OutputOps op) {
+        }
+
+
+
+        @Override
+        public void patternSimOpPerformed(Sim sim, PatternSimOp op) {
+        }
+    }
+
+    /** Number of simulated patterns. */
+    private static final int COUNT = 16;
+
+    /** Size of the patterns. */
+    @Param({ "168x128", "336x256" })
+    public String size;
+
+    /** Whether the patterns are drawn. */
+    @Param({ "true", "false" })
+    public boolean drawn;
+
+    /** Number of threads of the simulation. */
+    @Param({ "1", "4" })
+    public int threadCount;
+
+    /** Simulation. */
+    private Sim sim;
+
+    /** Directory of the simulation. */
+    private File dir;
+
+
+
+    /**
+     * Runs the simulation.
+     * 
+     * @return simulation
+     */
+    @Benchmark
+    public Sim run() {
+        sim.run();
+        return sim;
+    }
+
+
+
+    /**
+     * Creates the simulation.
+     */
+    @Setup
+    public void setup() {
+        dir = new File(FileUtil.getTempDirFile(), "simbenchmark");
+
+        sim =
+                Fixtures.createSim(size, new Operation[0],
+                        Fixtures.createRotations(COUNT));
+        sim.setName("SimBenchmark");
+        sim.setDir(dir);
+        sim.setThreadCount(threadCount);
+        if (drawn)
+            sim.addSimListener(new DrawingListener());
+    }
+
+
+
+    /**
+     * Deletes the directory of the simulation.
+     */
+    @TearDown
+    public void tearDown() {
+        if (dir.exists())
+            FileUtil.rmdir(dir);
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.ebsdimage.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import rmlimage.core.ByteMap;
+import rmlimage.core.Map;
+
+/**
+ * Benchmark of the reading of the patterns of a SMP file of simulated
+ * patterns, in a new map ({@link SmpInputStream#readMap(int)}) or in a reused
+ * map ({@link SmpInputStream#readMap(int, Map)}).
+ * 
+ * @author Philippe T. Pinard
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SmpInputStreamBenchmark {
+
+    /** Number of patterns in the SMP file. */
+    private static final int COUNT = 64;
+
+    /** Size of the patterns. */
+    @Param({ "168x128", "336x256", "672x512" })
+    public String size;
+
+    /** SMP file. */
+    private SmpInputStream smp;
+
+    /** Reused map. */
+    private ByteMap map;
+
+    /** Index of the next pattern to read. */
+    private int index;
+
+
+
+    /**
+     * Reads the next pattern in a new map.
+     * 
+     * @return pattern
+     * @throws IOException
+     *             if an error occurs while reading the pattern
+     */
+    @Benchmark
+    public Map readMap() throws IOException {
+        return smp.readMap(nextIndex());
+    }
+
+
+
+    /**
+     * Reads the next pattern in the reused map.
+     * 
+     * @return pattern
+     * @throws IOException
+     *             if an error occurs while reading the pattern
+     */
+    @Benchmark
+    public Map readMapReused() throws IOException {
+        smp.readMap(nextIndex(), map);
+        return map;
+    }
+
+
+
+    /**
+     * Returns the index of the next pattern to read, cycling through the
+     * patterns of the file.
+     * 
+     * @return index
+     */
+    private int nextIndex() {
+        int next = smp.getStartIndex() + index;
+        index = (index + 1) % COUNT;
+        return next;
+    }
+
+
+
+    /**
+     * Generates and opens the SMP file.
+     * 
+     * @throws IOException
+     *             if an error occurs while creating the SMP file
+     */
+    @Setup
+    public void setup() throws IOException {
+        File file = Fixtures.createSmpFile(size, COUNT);
+        smp = new SmpInputStream(file);
+        map = new ByteMap(smp.getMapWidth(), smp.getMapHeight());
+        index = 0;
+    }
+
+
+
+    /**
+     * Closes the SMP file.
+     * 
+     * @throws IOException
+     *             if an error occurs while closing the SMP file
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        smp.close();
+    }
+
+}
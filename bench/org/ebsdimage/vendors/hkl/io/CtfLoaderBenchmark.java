@@ -0,0 +1,92 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.vendors.hkl.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.ebsdimage.Fixtures;
+import org.ebsdimage.core.Microscope;
+import org.ebsdimage.vendors.hkl.core.HklMMap;
+import org.ebsdimage.vendors.hkl.core.HklMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import crystallography.core.Crystal;
+
+/**
+ * Benchmark of the parsing of a generated CTF file (
+ * {@link CtfLoader#load(File, HklMetadata, Crystal[])}).
+ * 
+ * @author Philippe T. Pinard
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CtfLoaderBenchmark {
+
+    /** Size of the map. */
+    @Param({ "128x128", "512x512" })
+    public String size;
+
+    /** CTF file. */
+    private File file;
+
+    /** Metadata of the CTF file. */
+    private HklMetadata metadata;
+
+    /** Phases of the CTF file. */
+    private Crystal[] phases;
+
+
+
+    /**
+     * Loads the CTF file.
+     * 
+     * @return multimap
+     * @throws IOException
+     *             if an error occurs while loading the CTF file
+     */
+    @Benchmark
+    public HklMMap load() throws IOException {
+        return new CtfLoader().load(file, metadata, phases);
+    }
+
+
+
+    /**
+     * Generates the CTF file and loads its metadata.
+     * 
+     * @throws IOException
+     *             if an error occurs while creating the CTF file
+     */
+    @Setup
+    public void setup() throws IOException {
+        file = Fixtures.createCtfFile(size);
+        metadata = new CtfLoader().loadMetadata(file, Microscope.DEFAULT);
+        phases = new Crystal[] { Fixtures.silicon() };
+    }
+
+}
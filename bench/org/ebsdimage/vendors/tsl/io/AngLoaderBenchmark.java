@@ -0,0 +1,92 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.vendors.tsl.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.ebsdimage.Fixtures;
+import org.ebsdimage.core.Microscope;
+import org.ebsdimage.vendors.tsl.core.TslMMap;
+import org.ebsdimage.vendors.tsl.core.TslMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import crystallography.core.Crystal;
+
+/**
+ * Benchmark of the parsing of a generated ANG file (
+ * {@link AngLoader#load(File, TslMetadata, Crystal[])}).
+ * 
+ * @author Philippe T. Pinard
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AngLoaderBenchmark {
+
+    /** Size of the map. */
+    @Param({ "128x128", "512x512" })
+    public String size;
+
+    /** ANG file. */
+    private File file;
+
+    /** Metadata of the ANG file. */
+    private TslMetadata metadata;
+
+    /** Phases of the ANG file. */
+    private Crystal[] phases;
+
+
+
+    /**
+     * Loads the ANG file.
+     * 
+     * @return multimap
+     * @throws IOException
+     *             if an error occurs while loading the ANG file
+     */
+    @Benchmark
+    public TslMMap load() throws IOException {
+        return new AngLoader().load(file, metadata, phases);
+    }
+
+
+
+    /**
+     * Generates the ANG file and loads its metadata.
+     * 
+     * @throws IOException
+     *             if an error occurs while creating the ANG file
+     */
+    @Setup
+    public void setup() throws IOException {
+        file = Fixtures.createAngFile(size);
+        metadata = new AngLoader().loadMetadata(file, Microscope.DEFAULT);
+        phases = new Crystal[] { Fixtures.silicon() };
+    }
+
+}
@@ -478,7 +478,7 @@ public class Calculations {
 
     /**
      * Reduce a rotation to its fundamental group based on the given point
-     * group.
+     * group. See {@link Quaternions#reduce(double[], int, LaueGroup)}.
      * 
      * @param q
      *            a rotation
@@ -488,17 +488,10 @@ public class Calculations {
      */
     @CheckReturnValue
     public static Rotation reduce(Rotation q, LaueGroup lg) {
-        Rotation equiv =
-                new Rotation(q.getQ0(), q.getQ1(), q.getQ2(), q.getQ3(), false);
-
-        Rotation out;
-        for (Rotation op : lg.getOperators()) {
-            out = op.applyTo(q);
-            if (Math.abs(out.getQ0()) > Math.abs(equiv.getQ0()))
-                equiv = out;
-        }
+        double[] equiv = { q.getQ0(), q.getQ1(), q.getQ2(), q.getQ3() };
+        Quaternions.reduce(equiv, 0, lg);
 
-        return equiv;
+        return new Rotation(equiv[0], equiv[1], equiv[2], equiv[3], false);
     }
 
 
@@ -20,7 +20,6 @@ package crystallography.core;
 import java.io.IOException;
 import java.net.URL;
 import java.util.HashMap;
-import java.util.logging.Logger;
 
 import rmlshared.io.CsvReader;
 import static rmlshared.io.FileUtil.getURL;
@@ -91,7 +90,9 @@ public class ElectronScatteringFactors extends ScatteringFactors {
      *            fitting variable
      * @return scattering factor
      */
-    private double calculateScatteringFactor02(int atomicNumber, double s) {
+    @Override
+    protected double calculateScatteringFactor02(int atomicNumber,
+            double s) {
         HashMap<String, Double> coeffs = coefficients02.get(atomicNumber);
 
         double[] a =
@@ -115,7 +116,9 @@ public class ElectronScatteringFactors extends ScatteringFactors {
      *            fitting variable
      * @return scattering factor
      */
-    private double calculateScatteringFactor26(int atomicNumber, double s) {
+    @Override
+    protected double calculateScatteringFactor26(int atomicNumber,
+            double s) {
         HashMap<String, Double> coeffs = coefficients26.get(atomicNumber);
 
         double[] a =
@@ -159,39 +162,6 @@ public class ElectronScatteringFactors extends ScatteringFactors {
 
 
 
-    /**
-     * Returns the scattering factor from the fitting variable <code>s</code>.
-     * <p/>
-     * The variable s used in the calculations is defined as
-     * <code>s = (4pi * sin(theta)) / lambda</code>.
-     * <p/>
-     * The values are limited for 0 < s < 6 A^{-1}. A warning is returned is s
-     * exceeds these limits.
-     * 
-     * @param atomicNumber
-     *            atomic number of the atom
-     * @param s
-     *            fitting variable
-     * @return scattering factor
-     */
-    @Override
-    public double getFromS(int atomicNumber, double s) {
-        // For s between 0 and 2.
-        if (s >= 0 && s < 2)
-            return calculateScatteringFactor02(atomicNumber, s);
-        else if (s >= 2 && s < 6)
-            return calculateScatteringFactor26(atomicNumber, s);
-        else {
-            Logger logger = Logger.getLogger("crystallography");
-
-            logger.warning("Outside table range of s (" + s + ") < 6 angstroms");
-
-            return calculateScatteringFactor26(atomicNumber, s);
-        }
-    }
-
-
-
     /**
      * Reads the csv file with values between <code>s=0</code> to
      * <code>s=2</code> angstroms.
@@ -0,0 +1,413 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package crystallography.core;
+
+import org.apache.commons.math.geometry.Rotation;
+
+/**
+ * Operations on quaternions stored as primitive values. The quaternions are
+ * stored either as 4 consecutive values <code>(q0, q1, q2, q3)</code> of a
+ * <code>double</code> array or as 4 parallel <code>float</code> arrays (e.g.
+ * the pixel arrays of the <code>Q0</code> to <code>Q3</code> maps). No object
+ * is created by the operations.
+ * <p/>
+ * The components and the product follow the convention of the
+ * <code>Rotation</code> of commons-math: the product <code>a * b</code> is
+ * equal to <code>b.applyTo(a)</code>. The symmetry operators of each Laue
+ * group are expanded once in a packed array.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class Quaternions {
+
+    /** Number of pixels processed at once by the whole-array reduction. */
+    private static final int BLOCK_SIZE = 1024;
+
+    /**
+     * Scalar part above which a misorientation is the smallest one. The
+     * smallest rotation between two symmetry operators is 60 deg (6-fold
+     * axis), so a misorientation smaller than 30 deg
+     * (<code>cos(15 deg)</code>) cannot be improved by another operator.
+     */
+    private static final double UNIQUE_SCALAR = Math.cos(Math.PI / 12.0);
+
+    /** Packed symmetry operators of each Laue group (by ordinal). */
+    private static final double[][] OPERATORS = createOperators();
+
+
+
+    /**
+     * Returns the arc sine of a value between 0 and <code>sin(15 deg)</code>
+     * from its Taylor series. The error is below <code>1e-9</code> and the
+     * calculation is much faster than {@link Math#asin(double)}.
+     * 
+     * @param x
+     *            value between 0 and <code>sin(15 deg)</code>
+     * @return arc sine
+     */
+    private static double asinSmall(double x) {
+        double x2 = x * x;
+        return x
+                * (1.0 + x2
+                        * (1.0 / 6.0 + x2
+                                * (3.0 / 40.0 + x2
+                                        * (5.0 / 112.0 + x2
+                                                * (35.0 / 1152.0 + x2
+                                                        * (63.0 / 2816.0))))));
+    }
+
+
+
+    /**
+     * Creates the packed symmetry operators of all the Laue groups.
+     * 
+     * @return packed symmetry operators indexed by the ordinal of the Laue
+     *         group
+     */
+    private static double[][] createOperators() {
+        LaueGroup[] lgs = LaueGroup.values();
+        double[][] operators = new double[lgs.length][];
+
+        for (LaueGroup lg : lgs) {
+            Rotation[] ops = lg.getOperators();
+            double[] packed = new double[ops.length * 4];
+
+            for (int i = 0; i < ops.length; i++) {
+                packed[i * 4] = ops[i].getQ0();
+                packed[i * 4 + 1] = ops[i].getQ1();
+                packed[i * 4 + 2] = ops[i].getQ2();
+                packed[i * 4 + 3] = ops[i].getQ3();
+            }
+
+            operators[lg.ordinal()] = packed;
+        }
+
+        return operators;
+    }
+
+
+
+    /**
+     * Returns the symmetry operators of a Laue group as a packed array of
+     * quaternions (<code>4 * n</code> values).
+     * 
+     * @param lg
+     *            Laue group
+     * @return packed symmetry operators
+     */
+    public static double[] getOperators(LaueGroup lg) {
+        return OPERATORS[lg.ordinal()].clone();
+    }
+
+
+
+    /**
+     * Returns the largest absolute scalar part of the products of a quaternion
+     * with the symmetry operators. The search stops as soon as the scalar
+     * part is above {@link #UNIQUE_SCALAR}.
+     * 
+     * @param d0
+     *            scalar part of the quaternion
+     * @param d1
+     *            first component of the vector part of the quaternion
+     * @param d2
+     *            second component of the vector part of the quaternion
+     * @param d3
+     *            third component of the vector part of the quaternion
+     * @param ops
+     *            packed symmetry operators
+     * @return largest absolute scalar part
+     */
+    private static double maxScalar(double d0, double d1, double d2,
+            double d3, double[] ops) {
+        double max = 0.0;
+
+        for (int k = 0; k < ops.length; k += 4) {
+            double w =
+                    Math.abs(d0 * ops[k] - d1 * ops[k + 1] - d2 * ops[k + 2]
+                            - d3 * ops[k + 3]);
+            if (w > max) {
+                max = w;
+                if (max > UNIQUE_SCALAR)
+                    break;
+            }
+        }
+
+        return max;
+    }
+
+
+
+    /**
+     * Returns the misorientation angle (in radians) between two quaternions,
+     * taking into account the symmetry of the Laue group. The angle is between
+     * 0 and <code>PI</code>.
+     * 
+     * @param a
+     *            array of the first quaternion
+     * @param ia
+     *            offset of the first quaternion
+     * @param b
+     *            array of the second quaternion
+     * @param ib
+     *            offset of the second quaternion
+     * @param lg
+     *            Laue group
+     * @return misorientation angle
+     */
+    public static double misorientation(double[] a, int ia, double[] b,
+            int ib, LaueGroup lg) {
+        return misorientation(a[ia], a[ia + 1], a[ia + 2], a[ia + 3], b[ib],
+                b[ib + 1], b[ib + 2], b[ib + 3], OPERATORS[lg.ordinal()]);
+    }
+
+
+
+    /**
+     * Returns the misorientation angle (in radians) between two quaternions.
+     * The symmetrically equivalent misorientations are
+     * <code>Si* (a* b) Sj</code>. Since the scalar part of a product is
+     * invariant under cyclic permutations and the operators form a group, the
+     * largest scalar part is found by only looping over the operators
+     * <code>Sk = Sj Si*</code>.
+     * 
+     * @param a0
+     *            scalar part of the first quaternion
+     * @param a1
+     *            vector part (x) of the first quaternion
+     * @param a2
+     *            vector part (y) of the first quaternion
+     * @param a3
+     *            vector part (z) of the first quaternion
+     * @param b0
+     *            scalar part of the second quaternion
+     * @param b1
+     *            vector part (x) of the second quaternion
+     * @param b2
+     *            vector part (y) of the second quaternion
+     * @param b3
+     *            vector part (z) of the second quaternion
+     * @param ops
+     *            packed symmetry operators
+     * @return misorientation angle
+     */
+    private static double misorientation(double a0, double a1, double a2,
+            double a3, double b0, double b1, double b2, double b3,
+            double[] ops) {
+        // d = a* b
+        double d0 = a0 * b0 + a1 * b1 + a2 * b2 + a3 * b3;
+        double d1 = a0 * b1 - b0 * a1 - (a2 * b3 - a3 * b2);
+        double d2 = a0 * b2 - b0 * a2 - (a3 * b1 - a1 * b3);
+        double d3 = a0 * b3 - b0 * a3 - (a1 * b2 - a2 * b1);
+
+        double w = maxScalar(d0, d1, d2, d3, ops);
+        if (w > 1.0)
+            w = 1.0;
+
+        if (w > UNIQUE_SCALAR)
+            return 2.0 * asinSmall(Math.sqrt((1.0 - w) * (1.0 + w)));
+        else
+            return 2.0 * Math.acos(w);
+    }
+
+
+
+    /**
+     * Returns the misorientation angle (in radians) between the quaternions of
+     * two pixels, taking into account the symmetry of the Laue group. The
+     * angle is between 0 and <code>PI</code>.
+     * 
+     * @param q0
+     *            scalar parts
+     * @param q1
+     *            vector parts (x)
+     * @param q2
+     *            vector parts (y)
+     * @param q3
+     *            vector parts (z)
+     * @param i
+     *            index of the first pixel
+     * @param j
+     *            index of the second pixel
+     * @param lg
+     *            Laue group
+     * @return misorientation angle
+     */
+    public static double misorientation(float[] q0, float[] q1, float[] q2,
+            float[] q3, int i, int j, LaueGroup lg) {
+        return misorientation(q0[i], q1[i], q2[i], q3[i], q0[j], q1[j], q2[j],
+                q3[j], OPERATORS[lg.ordinal()]);
+    }
+
+
+
+    /**
+     * Multiplies two quaternions. The result may be stored in one of the
+     * input quaternions.
+     * 
+     * @param a
+     *            array of the first quaternion
+     * @param ia
+     *            offset of the first quaternion
+     * @param b
+     *            array of the second quaternion
+     * @param ib
+     *            offset of the second quaternion
+     * @param out
+     *            array of the result
+     * @param iout
+     *            offset of the result
+     */
+    public static void multiply(double[] a, int ia, double[] b, int ib,
+            double[] out, int iout) {
+        double a0 = a[ia];
+        double a1 = a[ia + 1];
+        double a2 = a[ia + 2];
+        double a3 = a[ia + 3];
+        double b0 = b[ib];
+        double b1 = b[ib + 1];
+        double b2 = b[ib + 2];
+        double b3 = b[ib + 3];
+
+        out[iout] = a0 * b0 - (a1 * b1 + a2 * b2 + a3 * b3);
+        out[iout + 1] = a1 * b0 + a0 * b1 + (a2 * b3 - a3 * b2);
+        out[iout + 2] = a2 * b0 + a0 * b2 + (a3 * b1 - a1 * b3);
+        out[iout + 3] = a3 * b0 + a0 * b3 + (a1 * b2 - a2 * b1);
+    }
+
+
+
+    /**
+     * Reduces a quaternion to the fundamental zone of a Laue group, in place.
+     * The reduced quaternion is the product of the quaternion with the
+     * symmetry operator giving the largest absolute scalar part. The result is
+     * identical to {@link Calculations#reduce(Rotation, LaueGroup)}.
+     * 
+     * @param q
+     *            array of the quaternion
+     * @param offset
+     *            offset of the quaternion
+     * @param lg
+     *            Laue group
+     */
+    public static void reduce(double[] q, int offset, LaueGroup lg) {
+        double[] ops = OPERATORS[lg.ordinal()];
+
+        double q0 = q[offset];
+        double q1 = q[offset + 1];
+        double q2 = q[offset + 2];
+        double q3 = q[offset + 3];
+
+        for (int k = 0; k < ops.length; k += 4) {
+            double o0 = ops[k];
+            double o1 = ops[k + 1];
+            double o2 = ops[k + 2];
+            double o3 = ops[k + 3];
+
+            double r0 = q0 * o0 - (q1 * o1 + q2 * o2 + q3 * o3);
+            if (Math.abs(r0) > Math.abs(q[offset])) {
+                q[offset] = r0;
+                q[offset + 1] = q1 * o0 + q0 * o1 + (q2 * o3 - q3 * o2);
+                q[offset + 2] = q2 * o0 + q0 * o2 + (q3 * o1 - q1 * o3);
+                q[offset + 3] = q3 * o0 + q0 * o3 + (q1 * o2 - q2 * o1);
+            }
+        }
+    }
+
+
+
+    /**
+     * Reduces the quaternions of all the pixels to the fundamental zone of a
+     * Laue group, in place. The pixels are processed by blocks, with one loop
+     * per symmetry operator over the pixels of the block.
+     * 
+     * @param q0
+     *            scalar parts
+     * @param q1
+     *            vector parts (x)
+     * @param q2
+     *            vector parts (y)
+     * @param q3
+     *            vector parts (z)
+     * @param lg
+     *            Laue group
+     * @throws IllegalArgumentException
+     *             if the arrays do not have the same length
+     */
+    public static void reduce(float[] q0, float[] q1, float[] q2, float[] q3,
+            LaueGroup lg) {
+        int size = q0.length;
+        if (q1.length != size || q2.length != size || q3.length != size)
+            throw new IllegalArgumentException(
+                    "The arrays must have the same length.");
+
+        double[] ops = OPERATORS[lg.ordinal()];
+
+        // Original quaternions of the block
+        float[] p0 = new float[BLOCK_SIZE];
+        float[] p1 = new float[BLOCK_SIZE];
+        float[] p2 = new float[BLOCK_SIZE];
+        float[] p3 = new float[BLOCK_SIZE];
+
+        // Largest absolute scalar part of the block
+        double[] max = new double[BLOCK_SIZE];
+
+        for (int start = 0; start < size; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, size - start);
+
+            System.arraycopy(q0, start, p0, 0, length);
+            System.arraycopy(q1, start, p1, 0, length);
+            System.arraycopy(q2, start, p2, 0, length);
+            System.arraycopy(q3, start, p3, 0, length);
+
+            for (int i = 0; i < length; i++)
+                max[i] = Math.abs(p0[i]);
+
+            for (int k = 0; k < ops.length; k += 4) {
+                double o0 = ops[k];
+                double o1 = ops[k + 1];
+                double o2 = ops[k + 2];
+                double o3 = ops[k + 3];
+
+                for (int i = 0; i < length; i++) {
+                    double a0 = p0[i];
+                    double a1 = p1[i];
+                    double a2 = p2[i];
+                    double a3 = p3[i];
+
+                    double r0 = a0 * o0 - (a1 * o1 + a2 * o2 + a3 * o3);
+                    double w = Math.abs(r0);
+
+                    if (w > max[i]) {
+                        double r1 = a1 * o0 + a0 * o1 + (a2 * o3 - a3 * o2);
+                        double r2 = a2 * o0 + a0 * o2 + (a3 * o1 - a1 * o3);
+                        double r3 = a3 * o0 + a0 * o3 + (a1 * o2 - a2 * o1);
+
+                        int n = start + i;
+                        q0[n] = (float) r0;
+                        q1[n] = (float) r1;
+                        q2[n] = (float) r2;
+                        q3[n] = (float) r3;
+                        max[i] = w;
+                    }
+                }
+            }
+        }
+    }
+
+}
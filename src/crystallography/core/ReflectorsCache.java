@@ -0,0 +1,354 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package crystallography.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.logging.Logger;
+
+/**
+ * On-disk cache of the reflectors generated by
+ * <code>ReflectorsFactory</code>. The reflectors of a crystal are saved in a
+ * binary file named after a hash of the content of the crystal (unit cell,
+ * atom sites and space group), the scattering factors and the maximum index.
+ * The name of the crystal is not part of the hash, so two crystals with the
+ * same structure share their reflectors. The hash also includes the version
+ * of the calculation ({@link ReflectorsFactory#VERSION}) and of the table of
+ * the scattering factors ({@link ScatteringFactorsEnum#getVersion()}): the
+ * files saved before a change of either are not used anymore.
+ * <p/>
+ * Each file contains the header <code>RFL1</code>, the number of reflectors
+ * and, for each reflector, the indices (<code>short</code>), the plane spacing,
+ * the intensity and the normalized intensity (<code>double</code>). The
+ * reflectors loaded during the session are also kept in memory.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class ReflectorsCache {
+
+    /** Header of the cache files. */
+    private static final String HEADER = "RFL1";
+
+    /** Extension of the cache files. */
+    private static final String EXTENSION = ".rfl";
+
+    /** Directory where the cache files are saved. */
+    public final File dir;
+
+    /** Reflectors loaded during the session. */
+    private final HashMap<String, Reflector[]> memory =
+            new HashMap<String, Reflector[]>();
+
+    /** Logger. */
+    private final Logger logger = Logger.getLogger("ebsd");
+
+
+
+    /**
+     * Creates a new <code>ReflectorsCache</code>. The directory is created
+     * when the first reflectors are saved, if it does not exist.
+     * 
+     * @param dir
+     *            directory where the cache files are saved
+     * @throws NullPointerException
+     *             if the directory is null
+     */
+    public ReflectorsCache(File dir) {
+        if (dir == null)
+            throw new NullPointerException("Directory cannot be null.");
+
+        this.dir = dir;
+    }
+
+
+
+    /**
+     * Removes all the cache files and the reflectors kept in memory.
+     */
+    public synchronized void clear() {
+        memory.clear();
+
+        File[] files = dir.listFiles();
+        if (files == null)
+            return;
+
+        for (File file : files)
+            if (file.getName().endsWith(EXTENSION))
+                if (!file.delete())
+                    logger.warning("Cache file " + file + " could not be "
+                            + "deleted.");
+    }
+
+
+
+    /**
+     * Returns the reflectors of a crystal. The reflectors are loaded from the
+     * cache if they were already generated, otherwise they are generated and
+     * saved in the cache.
+     * 
+     * @param crystal
+     *            a <code>Crystal</code>
+     * @param scatterType
+     *            scattering factors
+     * @param maxIndex
+     *            maximum index of the planes to compute
+     * @return reflectors for the given crystal
+     * @throws NullPointerException
+     *             if the crystal is null
+     * @throws NullPointerException
+     *             if the scattering factors is null
+     * @throws IllegalArgumentException
+     *             if the maxIndex is less than 1
+     * @see ReflectorsFactory#generate(Crystal, ScatteringFactorsEnum, int)
+     */
+    public synchronized Reflectors get(Crystal crystal,
+            ScatteringFactorsEnum scatterType, int maxIndex) {
+        if (crystal == null)
+            throw new NullPointerException("Crystal cannot be null.");
+        if (scatterType == null)
+            throw new NullPointerException("Scattering factors cannot be null.");
+
+        String key = getKey(crystal, scatterType, maxIndex);
+
+        // Memory
+        Reflector[] reflectors = memory.get(key);
+        if (reflectors != null)
+            return new Reflectors(crystal, reflectors);
+
+        // Disk
+        File file = getFile(key);
+        if (file.exists()) {
+            try {
+                reflectors = load(file);
+            } catch (IOException ex) {
+                logger.warning("Cache file " + file + " could not be read "
+                        + "because: " + ex.getMessage());
+            }
+        }
+
+        // Generate
+        if (reflectors == null) {
+            Reflectors refls =
+                    ReflectorsFactory.calculate(crystal, scatterType, maxIndex);
+            reflectors = refls.getReflectorsSortedByIntensity(true);
+
+            try {
+                save(reflectors, file);
+            } catch (IOException ex) {
+                logger.warning("Cache file " + file + " could not be saved "
+                        + "because: " + ex.getMessage());
+            }
+        }
+
+        memory.put(key, reflectors);
+
+        return new Reflectors(crystal, reflectors);
+    }
+
+
+
+    /**
+     * Returns the cache file of a key.
+     * 
+     * @param key
+     *            key of the reflectors
+     * @return cache file
+     */
+    protected File getFile(String key) {
+        return new File(dir, key + EXTENSION);
+    }
+
+
+
+    /**
+     * Returns the key identifying the reflectors of a crystal. The key is the
+     * SHA-1 hash (in hexadecimal) of the versions of the calculation and of
+     * the scattering factors, the unit cell, the atom sites, the space group,
+     * the scattering factors and the maximum index.
+     * 
+     * @param crystal
+     *            a <code>Crystal</code>
+     * @param scatterType
+     *            scattering factors
+     * @param maxIndex
+     *            maximum index of the planes to compute
+     * @return key
+     */
+    protected static String getKey(Crystal crystal,
+            ScatteringFactorsEnum scatterType, int maxIndex) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        try {
+            out.writeBytes(HEADER);
+            out.writeInt(ReflectorsFactory.VERSION);
+            out.writeInt(scatterType.getVersion());
+
+            UnitCell unitCell = crystal.unitCell;
+            out.writeDouble(unitCell.a);
+            out.writeDouble(unitCell.b);
+            out.writeDouble(unitCell.c);
+            out.writeDouble(unitCell.alpha);
+            out.writeDouble(unitCell.beta);
+            out.writeDouble(unitCell.gamma);
+
+            out.writeInt(crystal.atoms.size());
+            for (AtomSite atom : crystal.atoms) {
+                out.writeInt(atom.atomicNumber);
+                out.writeDouble(atom.position.getX());
+                out.writeDouble(atom.position.getY());
+                out.writeDouble(atom.position.getZ());
+                out.writeDouble(atom.occupancy);
+            }
+
+            out.writeInt(crystal.spaceGroup.index);
+            out.writeUTF(scatterType.name());
+            out.writeInt(maxIndex);
+
+            out.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        byte[] hash = digest.digest(bytes.toByteArray());
+
+        StringBuilder key = new StringBuilder();
+        for (byte b : hash)
+            key.append(String.format("%02x", b & 0xff));
+
+        return key.toString();
+    }
+
+
+
+    /**
+     * Loads the reflectors from a cache file.
+     * 
+     * @param file
+     *            cache file
+     * @return reflectors
+     * @throws IOException
+     *             if an error occurs while reading the file or if the file is
+     *             not a valid cache file
+     */
+    private Reflector[] load(File file) throws IOException {
+        DataInputStream in =
+                new DataInputStream(new BufferedInputStream(
+                        new FileInputStream(file)));
+
+        try {
+            byte[] header = new byte[HEADER.length()];
+            in.readFully(header);
+            if (!HEADER.equals(new String(header, "US-ASCII")))
+                throw new IOException("Invalid header.");
+
+            int count = in.readInt();
+            if (count < 1)
+                throw new IOException("Invalid number of reflectors ("
+                        + count + ").");
+
+            Reflector[] reflectors = new Reflector[count];
+            for (int i = 0; i < count; i++) {
+                int h = in.readShort();
+                int k = in.readShort();
+                int l = in.readShort();
+                double planeSpacing = in.readDouble();
+                double intensity = in.readDouble();
+                double normalizedIntensity = in.readDouble();
+
+                try {
+                    reflectors[i] =
+                            new Reflector(h, k, l, planeSpacing, intensity,
+                                    normalizedIntensity);
+                } catch (IllegalArgumentException ex) {
+                    throw new IOException(ex.getMessage());
+                }
+            }
+
+            return reflectors;
+        } finally {
+            in.close();
+        }
+    }
+
+
+
+    /**
+     * Saves the reflectors in a cache file. The reflectors are first written
+     * in a temporary file which is then renamed, so that an interrupted save
+     * never leaves a truncated cache file.
+     * 
+     * @param reflectors
+     *            reflectors
+     * @param file
+     *            cache file
+     * @throws IOException
+     *             if an error occurs while writing the file
+     */
+    private void save(Reflector[] reflectors, File file) throws IOException {
+        if (!dir.exists() && !dir.mkdirs())
+            throw new IOException("Directory " + dir
+                    + " could not be created.");
+
+        File tmpFile = File.createTempFile("reflectors", ".tmp", dir);
+
+        DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(
+                        new FileOutputStream(tmpFile)));
+
+        try {
+            out.writeBytes(HEADER);
+            out.writeInt(reflectors.length);
+
+            for (Reflector refl : reflectors) {
+                out.writeShort(refl.h);
+                out.writeShort(refl.k);
+                out.writeShort(refl.l);
+                out.writeDouble(refl.planeSpacing);
+                out.writeDouble(refl.intensity);
+                out.writeDouble(refl.normalizedIntensity);
+            }
+        } finally {
+            out.close();
+        }
+
+        if (!tmpFile.renameTo(file)) {
+            tmpFile.delete();
+            throw new IOException("Temporary file could not be renamed to "
+                    + file + ".");
+        }
+    }
+
+}
@@ -20,10 +20,11 @@ package crystallography.core;
 import java.util.ArrayList;
 import java.util.Collections;
 
-import org.apache.commons.math.geometry.Vector3D;
+import org.apache.commons.math.linear.LUDecompositionImpl;
+import org.apache.commons.math.linear.RealMatrix;
 
-import ptpshared.geom.Vector3DUtils;
 import rmlshared.thread.Reflection;
+import static org.apache.commons.math.linear.MatrixUtils.createRealMatrix;
 
 /**
  * Factory to create reflectors of a crystal.
@@ -33,7 +34,20 @@ import rmlshared.thread.Reflection;
 public class ReflectorsFactory {
 
     /**
-     * Generates a new list of <code>Reflector</code>s for the given crystal.
+     * Version of the calculation of the reflectors. It must be incremented
+     * when the calculation changes, so that the reflectors saved by a
+     * <code>ReflectorsCache</code> are calculated again.
+     */
+    public static final int VERSION = 1;
+
+    /** Cache of the reflectors or <code>null</code>. */
+    private static ReflectorsCache cache = null;
+
+
+
+    /**
+     * Calculates a new list of <code>Reflector</code>s for the given crystal,
+     * without using the cache.
      * The reflectors are automatically computed for all planes with indices
      * less or equal to <code>maxIndice</code>. Only diffracting plane are
      * added.
@@ -52,7 +66,7 @@ public class ReflectorsFactory {
      *             if the maxIndex is less than 0
      * @return reflectors for the given crystal
      */
-    public static Reflectors generate(Crystal crystal,
+    static Reflectors calculate(Crystal crystal,
             ScatteringFactorsEnum scatterType, int maxIndex) {
         if (crystal == null)
             throw new NullPointerException("Crystal cannot be null.");
@@ -72,37 +86,82 @@ public class ReflectorsFactory {
                 Calculations.maximumDiffractionIntensity(unitCell, atoms,
                         scatter);
 
-        // Find reflectors
-        for (int h = -maxIndex; h <= maxIndex; h++)
-            for (int k = -maxIndex; k <= maxIndex; k++)
-                for (int l = -maxIndex; l <= maxIndex; l++) {
-                    if (h == 0 && k == 0 & l == 0)
-                        continue;
+        // Inverse of the metrical matrix to calculate the plane spacings
+        RealMatrix metricalMatrix = createRealMatrix(unitCell.metricalMatrix);
+        double[][] g =
+                new LUDecompositionImpl(metricalMatrix).getSolver().getInverse().getData();
+
+        // Atom sites as arrays, with an index to their atomic number
+        int size = atoms.size();
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        double[] zs = new double[size];
+        double[] occupancies = new double[size];
+        int[] species = new int[size];
+        ArrayList<Integer> atomicNumbers = new ArrayList<Integer>();
+
+        int n = 0;
+        for (AtomSite atom : atoms) {
+            xs[n] = atom.position.getX();
+            ys[n] = atom.position.getY();
+            zs[n] = atom.position.getZ();
+            occupancies[n] = atom.occupancy;
+
+            if (!atomicNumbers.contains(atom.atomicNumber))
+                atomicNumbers.add(atom.atomicNumber);
+            species[n] = atomicNumbers.indexOf(atom.atomicNumber);
+
+            n++;
+        }
 
-                    // Create plane
-                    // Only look at positive planes since negative plane are
-                    // equivalent
-                    Vector3D p = Vector3DUtils.positive(new Vector3D(h, k, l));
+        // Scattering factor of each atomic number for the current plane
+        double[] factors = new double[atomicNumbers.size()];
+
+        // Find reflectors
+        // Only look at positive planes (first non-zero index positive) since
+        // negative planes are equivalent. Each plane is therefore only
+        // evaluated once and no duplicate can be found.
+        for (int h = 0; h <= maxIndex; h++) {
+            for (int k = (h == 0 ? 0 : -maxIndex); k <= maxIndex; k++) {
+                int lMin = (h == 0 && k == 0) ? 1 : -maxIndex;
+
+                for (int l = lMin; l <= maxIndex; l++) {
+                    // Plane spacing (d = 1 / sqrt(s^2))
+                    double gh = g[0][0] * h + g[0][1] * k + g[0][2] * l;
+                    double gk = g[1][0] * h + g[1][1] * k + g[1][2] * l;
+                    double gl = g[2][0] * h + g[2][1] * k + g[2][2] * l;
+                    double planeSpacing =
+                            1.0 / Math.sqrt(h * gh + k * gk + l * gl);
+
+                    for (int i = 0; i < factors.length; i++)
+                        factors[i] =
+                                scatter.getFromPlaneSpacing(
+                                        atomicNumbers.get(i), planeSpacing);
+
+                    // Form factor: f = sum(fi * exp(2 pi i (hx + ky + lz)))
+                    double real = 0.0;
+                    double imaginary = 0.0;
+                    for (int i = 0; i < size; i++) {
+                        double fi = factors[species[i]] * occupancies[i];
+                        double x =
+                                2 * Math.PI
+                                        * (h * xs[i] + k * ys[i] + l * zs[i]);
+
+                        real += fi * Math.cos(x);
+                        imaginary += fi * Math.sin(x);
+                    }
 
                     // Calculate the intensities
-                    double intensity =
-                            Calculations.diffractionIntensity(p, unitCell,
-                                    atoms, scatter);
+                    double intensity = real * real + imaginary * imaginary;
 
                     // Check if the plane diffracts
                     if (Calculations.isDiffracting(intensity,
-                            maxDiffractionIntensity, 1e-14)) {
-                        double planeSpacing =
-                                Calculations.planeSpacing(p, unitCell);
-                        Reflector reflector =
-                                new Reflector((int) p.getX(), (int) p.getY(),
-                                        (int) p.getZ(), planeSpacing, intensity);
-
-                        // Add only if it doesn't already exists
-                        if (!(tmpRefls.contains(reflector)))
-                            tmpRefls.add(reflector);
-                    }
+                            maxDiffractionIntensity, 1e-14))
+                        tmpRefls.add(new Reflector(h, k, l, planeSpacing,
+                                intensity));
                 }
+            }
+        }
 
         // Sort reflectors by intensity
         Collections.sort(tmpRefls, new IntensityComparator());
@@ -123,4 +182,62 @@ public class ReflectorsFactory {
 
         return new Reflectors(crystal, reflectors);
     }
+
+
+
+    /**
+     * Generates a new list of <code>Reflector</code>s for the given crystal.
+     * The reflectors are automatically computed for all planes with indices
+     * less or equal to <code>maxIndice</code>. Only diffracting plane are
+     * added. If a cache is defined (see {@link #setCache(ReflectorsCache)}),
+     * the reflectors are taken from the cache.
+     * 
+     * @param crystal
+     *            a <code>Crystal</code> representing a unit cell and atom sites
+     * @param scatterType
+     *            scattering factors
+     * @param maxIndex
+     *            maximum index of the planes to compute
+     * @throws NullPointerException
+     *             if the crystal is null
+     * @throws NullPointerException
+     *             if the scattering factors is null
+     * @throws IllegalArgumentException
+     *             if the maxIndex is less than 0
+     * @return reflectors for the given crystal
+     */
+    public static Reflectors generate(Crystal crystal,
+            ScatteringFactorsEnum scatterType, int maxIndex) {
+        ReflectorsCache cache = getCache();
+
+        if (cache != null)
+            return cache.get(crystal, scatterType, maxIndex);
+        else
+            return calculate(crystal, scatterType, maxIndex);
+    }
+
+
+
+    /**
+     * Returns the cache of the reflectors.
+     * 
+     * @return cache or <code>null</code> if no cache is used
+     */
+    public static synchronized ReflectorsCache getCache() {
+        return cache;
+    }
+
+
+
+    /**
+     * Sets the cache of the reflectors used by
+     * {@link #generate(Crystal, ScatteringFactorsEnum, int)}.
+     * 
+     * @param cache
+     *            cache or <code>null</code> to always calculate the reflectors
+     */
+    public static synchronized void setCache(ReflectorsCache cache) {
+        ReflectorsFactory.cache = cache;
+    }
+
 }
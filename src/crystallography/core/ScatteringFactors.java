@@ -18,20 +18,94 @@
 package crystallography.core;
 
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Logger;
 
 /**
  * Abstract class for the scattering factors.
+ * <p/>
+ * The scattering factors are fitted by two different functions, one for
+ * <code>0 &lt;= s &lt; 2</code> and one for <code>2 &lt;= s &lt; 6</code>.
+ * Inside these ranges, {@link #getFromS(int, double)} interpolates the
+ * scattering factor (cubic Lagrange interpolation) from a table of the fitted
+ * function with a step of {@link #TABLE_STEP}. The tables of an element are
+ * calculated on its first use. The interpolation error is bounded by
+ * <code>3/128 * TABLE_STEP^4 * max|f''''|</code>, i.e. less than
+ * <code>1e-8</code> for the fitted functions of the International
+ * Crystallography Tables. Outside the ranges, the fitted function of the
+ * second range is evaluated and a warning is logged, at most once every
+ * {@link #WARNING_INTERVAL} milliseconds.
  * 
  * @author Philippe T. Pinard
  */
 public abstract class ScatteringFactors {
 
+    /** Step of the tables of scattering factors. */
+    public static final double TABLE_STEP = 1.0 / 2048.0;
+
+    /** Minimum interval between two warnings (in milliseconds). */
+    public static final long WARNING_INTERVAL = 10000;
+
+    /** Maximum atomic number of the tables. */
+    private static final int MAX_ATOMIC_NUMBER = 118;
+
+    /** Limit between the two ranges of <code>s</code>. */
+    private static final double S_MIDDLE = 2.0;
+
+    /** Upper limit of the second range of <code>s</code>. */
+    private static final double S_MAX = 6.0;
+
+
+
+    /**
+     * Interpolates a value of a table with the cubic Lagrange polynomial
+     * passing through the four closest values.
+     * 
+     * @param table
+     *            table
+     * @param x
+     *            position in the table (in steps from the lower limit of the
+     *            range)
+     * @return interpolated value
+     */
+    private static double interpolate(double[] table, double x) {
+        int i = (int) x;
+        double t = x - i;
+
+        // Values at -1, 0, 1 and 2 steps from i
+        double p0 = table[i];
+        double p1 = table[i + 1];
+        double p2 = table[i + 2];
+        double p3 = table[i + 3];
+
+        double tm1 = t - 1.0;
+        double tm2 = t - 2.0;
+        double tp1 = t + 1.0;
+
+        return (p3 * tp1 * t * tm1 - p0 * t * tm1 * tm2) / 6.0
+                + (p1 * tp1 * tm1 * tm2 - p2 * tp1 * t * tm2) / 2.0;
+    }
+
     /** Store coefficients for <code>s=0</code> to <code>s=2</code>. */
     public final HashMap<Integer, HashMap<String, Double>> coefficients02;
 
     /** Store coefficients for <code>s=2</code> to <code>s=6</code>. */
     public final HashMap<Integer, HashMap<String, Double>> coefficients26;
 
+    /** Tables of the scattering factors for <code>0 &lt;= s &lt; 2</code>. */
+    private final AtomicReferenceArray<double[]> tables02 =
+            new AtomicReferenceArray<double[]>(MAX_ATOMIC_NUMBER + 1);
+
+    /** Tables of the scattering factors for <code>2 &lt;= s &lt; 6</code>. */
+    private final AtomicReferenceArray<double[]> tables26 =
+            new AtomicReferenceArray<double[]>(MAX_ATOMIC_NUMBER + 1);
+
+    /** Time of the last warning. */
+    private long lastWarning = 0;
+
+    /** Number of warnings not logged since the last warning. */
+    private int skippedWarnings = 0;
+
 
 
     /**
@@ -44,6 +118,87 @@ public abstract class ScatteringFactors {
 
 
 
+    /**
+     * Returns the scattering factor from the fitted functions, without
+     * interpolation.
+     * 
+     * @param atomicNumber
+     *            atomic number
+     * @param s
+     *            fitting variable
+     * @return scattering factor
+     */
+    public double calculateFromS(int atomicNumber, double s) {
+        if (s >= 0 && s < S_MIDDLE)
+            return calculateScatteringFactor02(atomicNumber, s);
+        else
+            return calculateScatteringFactor26(atomicNumber, s);
+    }
+
+
+
+    /**
+     * Calculates the scattering factor from the fitted function for values of
+     * s between 0 and 2.
+     * 
+     * @param atomicNumber
+     *            atomic number of the element
+     * @param s
+     *            fitting variable
+     * @return scattering factor
+     */
+    protected abstract double calculateScatteringFactor02(int atomicNumber,
+            double s);
+
+
+
+    /**
+     * Calculates the scattering factor from the fitted function for values of
+     * s between 2 and 6.
+     * 
+     * @param atomicNumber
+     *            atomic number of the element
+     * @param s
+     *            fitting variable
+     * @return scattering factor
+     */
+    protected abstract double calculateScatteringFactor26(int atomicNumber,
+            double s);
+
+
+
+    /**
+     * Calculates the table of a fitted function. The table contains the value
+     * of the function at <code>s0 + (i - 1) * TABLE_STEP</code>, i.e. one
+     * value before the range and two values after the range, so that every
+     * interpolation uses four values of the same function.
+     * 
+     * @param atomicNumber
+     *            atomic number
+     * @param s0
+     *            lower limit of the range
+     * @param s1
+     *            upper limit of the range
+     * @return table
+     */
+    private double[] createTable(int atomicNumber, double s0, double s1) {
+        int n = (int) Math.ceil((s1 - s0) / TABLE_STEP);
+        double[] table = new double[n + 3];
+
+        for (int i = 0; i < table.length; i++) {
+            double s = s0 + (i - 1) * TABLE_STEP;
+
+            if (s0 < S_MIDDLE)
+                table[i] = calculateScatteringFactor02(atomicNumber, s);
+            else
+                table[i] = calculateScatteringFactor26(atomicNumber, s);
+        }
+
+        return table;
+    }
+
+
+
     /**
      * Returns the scattering factor for the given atomic number and plane
      * spacing.
@@ -63,6 +218,9 @@ public abstract class ScatteringFactors {
      * Returns the scattering factor from the fitting variable <code>s</code>.
      * The equation for <code>s</code> varies between different types of
      * scattering factors.
+     * <p/>
+     * The values are limited for 0 < s < 6. A warning is logged if s exceeds
+     * these limits.
      * 
      * @param atomicNumber
      *            atomic number
@@ -70,6 +228,80 @@ public abstract class ScatteringFactors {
      *            fitting variable
      * @return scattering factor
      */
-    public abstract double getFromS(int atomicNumber, double s);
+    public double getFromS(int atomicNumber, double s) {
+        if (atomicNumber < 0 || atomicNumber > MAX_ATOMIC_NUMBER)
+            return calculateFromS(atomicNumber, s);
+
+        if (s >= 0 && s < S_MIDDLE)
+            return interpolate(getTable(tables02, atomicNumber, 0.0, S_MIDDLE),
+                    s / TABLE_STEP);
+        else if (s >= S_MIDDLE && s < S_MAX)
+            return interpolate(
+                    getTable(tables26, atomicNumber, S_MIDDLE, S_MAX),
+                    (s - S_MIDDLE) / TABLE_STEP);
+        else {
+            warnOutsideRange(s);
+            return calculateScatteringFactor26(atomicNumber, s);
+        }
+    }
+
+
+
+    /**
+     * Returns the table of an element. The table is created on the first
+     * call.
+     * 
+     * @param tables
+     *            tables of one of the ranges
+     * @param atomicNumber
+     *            atomic number
+     * @param s0
+     *            lower limit of the range
+     * @param s1
+     *            upper limit of the range
+     * @return table
+     */
+    private double[] getTable(AtomicReferenceArray<double[]> tables,
+            int atomicNumber, double s0, double s1) {
+        double[] table = tables.get(atomicNumber);
+
+        if (table == null) {
+            table = createTable(atomicNumber, s0, s1);
+
+            // Another thread may have created the same table in the meantime
+            if (!tables.compareAndSet(atomicNumber, null, table))
+                table = tables.get(atomicNumber);
+        }
+
+        return table;
+    }
+
+
+
+    /**
+     * Logs a warning for a value of <code>s</code> outside the range of the
+     * fitted functions. The warnings are limited to one every
+     * {@link #WARNING_INTERVAL} milliseconds.
+     * 
+     * @param s
+     *            fitting variable
+     */
+    private synchronized void warnOutsideRange(double s) {
+        long now = System.currentTimeMillis();
+
+        if (now - lastWarning < WARNING_INTERVAL) {
+            skippedWarnings++;
+            return;
+        }
+
+        String message = "Outside table range of s (" + s + ") < 6 angstroms";
+        if (skippedWarnings > 0)
+            message += " (" + skippedWarnings + " similar warnings skipped)";
+
+        Logger.getLogger("crystallography").warning(message);
+
+        lastWarning = now;
+        skippedWarnings = 0;
+    }
 
 }
@@ -33,14 +33,17 @@ import org.simpleframework.xml.stream.OutputNode;
 public enum ScatteringFactorsEnum {
 
     /** Scattering factors based on X-ray diffraction. */
-    XRAY(XrayScatteringFactors.class),
+    XRAY(XrayScatteringFactors.class, 1),
 
     /** Scattering factors based on electron diffraction (TEM). */
-    ELECTRON(ElectronScatteringFactors.class);
+    ELECTRON(ElectronScatteringFactors.class, 1);
 
     /** Scattering factors class. */
     private final Class<? extends ScatteringFactors> clasz;
 
+    /** Version of the table of the scattering factors. */
+    private final int version;
+
 
 
     /**
@@ -48,9 +51,13 @@ public enum ScatteringFactorsEnum {
      * 
      * @param clasz
      *            scattering factors class
+     * @param version
+     *            version of the table of the scattering factors
      */
-    private ScatteringFactorsEnum(Class<? extends ScatteringFactors> clasz) {
+    private ScatteringFactorsEnum(Class<? extends ScatteringFactors> clasz,
+            int version) {
         this.clasz = clasz;
+        this.version = version;
     }
 
 
@@ -64,6 +71,19 @@ public enum ScatteringFactorsEnum {
     public Class<? extends ScatteringFactors> getScatteringFactors() {
         return clasz;
     }
+
+
+
+    /**
+     * Returns the version of the table of the scattering factors. The version
+     * must be incremented when the values of the table change, so that the
+     * reflectors saved by a <code>ReflectorsCache</code> are calculated again.
+     * 
+     * @return version of the table
+     */
+    public int getVersion() {
+        return version;
+    }
 }
 
 /**
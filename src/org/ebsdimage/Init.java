@@ -17,6 +17,7 @@
  */
 package org.ebsdimage;
 
+import java.io.File;
 import java.io.IOException;
 
 import org.ebsdimage.io.*;
@@ -24,6 +25,8 @@ import org.ebsdimage.io.exp.ExpMMapLoader;
 import org.ebsdimage.io.sim.SimMMapLoader;
 
 import rmlimage.RMLImage;
+import crystallography.core.ReflectorsCache;
+import crystallography.core.ReflectorsFactory;
 
 /**
  * Init class for the EBSD module.
@@ -32,6 +35,18 @@ import rmlimage.RMLImage;
  */
 public class Init extends rmlimage.module.Init {
 
+    /**
+     * Installs the cache of the reflectors in the configuration directory.
+     * This initialization is shared by the GUI and the command line
+     * interfaces.
+     */
+    public static void initReflectorsCache() {
+        ReflectorsFactory.setCache(new ReflectorsCache(new File(
+                RMLImage.getConfigDir(), "reflectors")));
+    }
+
+
+
     @Override
     public void postGUI() {
         // Activate the Cancel button
@@ -72,6 +87,9 @@ public class Init extends rmlimage.module.Init {
         // MapMath
         rmlimage.core.MapMath.addHandler(org.ebsdimage.core.MapMath.class);
 
+        // Reflectors cache
+        initReflectorsCache();
+
         // Run operation validator
         try {
             new InitValidator().validate();
@@ -0,0 +1,177 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core;
+
+import net.jcip.annotations.Immutable;
+import rmlimage.core.ByteMap;
+import rmlshared.math.Stats;
+import rmlshared.util.Range;
+
+/**
+ * Statistics of a <code>ByteMap</code> calculated in a single pass over its
+ * pixels. The histogram of the pixel values is accumulated and all the other
+ * statistics are derived from it. As in {@link MapStats}, <b>pixels with value
+ * = 0 are not included in the statistics</b>.
+ * 
+ * @author Philippe T. Pinard
+ */
+@Immutable
+public class ByteMapStats {
+
+    /** Number of pixels with a value different from 0. */
+    public final int count;
+
+    /** Sum of the pixel values. */
+    public final double sum;
+
+    /** Sum of the square of the pixel values. */
+    public final double sumSquares;
+
+    /** Lowest pixel value (0 if all the pixels are 0). */
+    public final int min;
+
+    /** Highest pixel value (0 if all the pixels are 0). */
+    public final int max;
+
+    /** Number of pixels of each value. */
+    private final int[] histogram;
+
+
+
+    /**
+     * Calculates the statistics of a <code>ByteMap</code>.
+     * 
+     * @param map
+     *            a <code>ByteMap</code>
+     * @throws NullPointerException
+     *             if the map is null
+     */
+    public ByteMapStats(ByteMap map) {
+        if (map == null)
+            throw new NullPointerException("Map cannot be null.");
+
+        byte[] pixArray = map.pixArray;
+        int size = map.size;
+
+        histogram = new int[256];
+        for (int n = 0; n < size; n++)
+            histogram[pixArray[n] & 0xff]++;
+
+        int count = 0;
+        double sum = 0.0;
+        double sumSquares = 0.0;
+        int min = 0;
+        int max = 0;
+        for (int value = 1; value < 256; value++) {
+            int nb = histogram[value];
+            if (nb == 0)
+                continue;
+
+            if (count == 0)
+                min = value;
+            max = value;
+
+            count += nb;
+            sum += (double) nb * value;
+            sumSquares += (double) nb * value * value;
+        }
+
+        this.count = count;
+        this.sum = sum;
+        this.sumSquares = sumSquares;
+        this.min = min;
+        this.max = max;
+    }
+
+
+
+    /**
+     * Returns the average pixel value.
+     * 
+     * @return average pixel value
+     * @see MapStats#average(ByteMap)
+     */
+    public double average() {
+        return sum / count;
+    }
+
+
+
+    /**
+     * Returns the entropy of the normalized histogram.
+     * 
+     * @return entropy
+     * @see MapStats#entropy(ByteMap)
+     */
+    public double entropy() {
+        double[] values = new double[256];
+        for (int value = 1; value < 256; value++)
+            values[value] = (double) histogram[value] / count;
+
+        return Stats.entropy(values);
+    }
+
+
+
+    /**
+     * Returns the number of pixels of each value (including 0).
+     * 
+     * @return histogram
+     */
+    public int[] getHistogram() {
+        return histogram.clone();
+    }
+
+
+
+    /**
+     * Returns the lowest and highest pixel values.
+     * 
+     * @return range of the pixel values
+     * @see MapStats#range(ByteMap)
+     */
+    public Range<Integer> range() {
+        return new Range<Integer>(min, max);
+    }
+
+
+
+    /**
+     * Returns the population standard deviation of the pixel values.
+     * 
+     * @return population standard deviation
+     * @see MapStats#standardDeviation(ByteMap)
+     */
+    public double standardDeviation() {
+        return Math.sqrt(variance());
+    }
+
+
+
+    /**
+     * Returns the population variance of the pixel values.
+     * 
+     * @return population variance
+     * @see MapStats#variance(ByteMap)
+     */
+    public double variance() {
+        double average = sum / count;
+        return (sumSquares / count) - (average * average);
+    }
+
+}
@@ -17,7 +17,13 @@
  */
 package org.ebsdimage.core;
 
-import org.apache.commons.math.geometry.CardanEulerSingularityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.apache.commons.math.geometry.Rotation;
 
 import ptpshared.geom.RotationUtils;
@@ -36,38 +42,133 @@ import static java.lang.Math.PI;
  */
 public class Conversion implements ConversionHandler {
 
+    /** Number of bands of rows per thread in the RGB conversion. */
+    private static final int BANDS_PER_THREAD = 4;
+
+
+
     /**
-     * Converts the rotation to Euler angles in the Bunge convention (ZXZ) and
-     * returns an array of three integers for the red, green and blue color.
+     * Fills a band of rows of the RGB Eulers map. With a step greater than 1,
+     * only one pixel out of <code>step</code> in each direction is converted
+     * and its color is given to the whole <code>step</code> x
+     * <code>step</code> block.
      * 
-     * @param rotation
-     *            rotation
-     * @param n
-     *            index of the pixel (for exception message)
-     * @return array of three integers for the red, green and blue color
+     * @param phases
+     *            phase id of each pixel
+     * @param q0
+     *            first component of the quaternion of each pixel
+     * @param q1
+     *            second component of the quaternion of each pixel
+     * @param q2
+     *            third component of the quaternion of each pixel
+     * @param q3
+     *            fourth component of the quaternion of each pixel
+     * @param dest
+     *            color of each pixel
+     * @param width
+     *            width of the map
+     * @param height
+     *            height of the map
+     * @param step
+     *            sampling step
+     * @param startRow
+     *            first row of the band (multiple of the step)
+     * @param endRow
+     *            row after the last row of the band
      */
-    private static int[] getRGBFromRotation(Rotation rotation, int n) {
-        double[] eulers;
-
-        try {
-            eulers = RotationUtils.getBungeEulerAngles(rotation);
-        } catch (CardanEulerSingularityException e) {
-            return new int[] { 0, 0, 0 };
+    private static void fillRGBBand(byte[] phases, float[] q0, float[] q1,
+            float[] q2, float[] q3, int[] dest, int width, int height,
+            int step, int startRow, int endRow) {
+        for (int y = startRow; y < endRow; y += step) {
+            int blockHeight = Math.min(step, height - y);
+
+            for (int x = 0; x < width; x += step) {
+                int n = y * width + x;
+
+                int rgb;
+                if (phases[n] == 0)
+                    rgb = 0;
+                else
+                    rgb = getRGBFromQuaternion(q0[n], q1[n], q2[n], q3[n], n);
+
+                if (step == 1) {
+                    dest[n] = rgb;
+                    continue;
+                }
+
+                int blockWidth = Math.min(step, width - x);
+                for (int j = 0; j < blockHeight; j++) {
+                    int start = n + j * width;
+                    Arrays.fill(dest, start, start + blockWidth, rgb);
+                }
+            }
         }
+    }
+
+
 
-        int red = (int) ((eulers[0] + PI) / (2 * PI) * 255 + 0.5);
-        assert (red >= 0 && red <= 255) : "Invalid euler1 (" + eulers[0]
+    /**
+     * Converts the quaternion of a rotation to Euler angles in the Bunge
+     * convention (ZXZ) and returns the red, green and blue color packed in an
+     * integer. The calculation is the same as
+     * {@link RotationUtils#getBungeEulerAngles(Rotation)}, but without
+     * creating any object.
+     * 
+     * @param q0
+     *            scalar component of the quaternion
+     * @param q1
+     *            first vector component of the quaternion
+     * @param q2
+     *            second vector component of the quaternion
+     * @param q3
+     *            third vector component of the quaternion
+     * @param n
+     *            index of the pixel (for exception message)
+     * @return color (0 if the rotation cannot be represented as Euler angles)
+     */
+    private static int getRGBFromQuaternion(double q0, double q1, double q2,
+            double q3, int n) {
+        // Same operations as Rotation.applyTo(Vector3D.PLUS_K) and
+        // Rotation.applyInverseTo(Vector3D.PLUS_K), to give the same angles
+        double x = 0.0;
+        double y = 0.0;
+        double z = 1.0;
+        double s = q1 * x + q2 * y + q3 * z;
+
+        double v1x = 2 * (q0 * (x * q0 - (q2 * z - q3 * y)) + s * q1) - x;
+        double v1y = 2 * (q0 * (y * q0 - (q3 * x - q1 * z)) + s * q2) - y;
+
+        double m0 = -q0;
+        double v2x = 2 * (m0 * (x * m0 - (q2 * z - q3 * y)) + s * q1) - x;
+        double v2y = 2 * (m0 * (y * m0 - (q3 * x - q1 * z)) + s * q2) - y;
+        double v2z = 2 * (m0 * (z * m0 - (q1 * y - q2 * x)) + s * q3) - z;
+
+        // Singularity
+        if ((v2z < -0.9999999999) || (v2z > 0.9999999999))
+            return 0;
+
+        double euler1 = Math.atan2(v1x, -v1y);
+        double euler2 = Math.acos(v2z);
+        double euler3 = Math.atan2(v2x, v2y);
+
+        if (euler1 < 0)
+            euler1 += 2 * PI;
+        if (euler3 < 0)
+            euler3 += 2 * PI;
+
+        int red = (int) ((euler1 + PI) / (2 * PI) * 255 + 0.5);
+        assert (red >= 0 && red <= 255) : "Invalid euler1 (" + euler1
                 + ") for index " + n + ".\n" + "Should be between -PI and PI.";
 
-        int green = (int) (eulers[1] / PI * 255 + 0.5);
-        assert (green >= 0 && green <= 255) : "Invalid euler2 (" + eulers[1]
+        int green = (int) (euler2 / PI * 255 + 0.5);
+        assert (green >= 0 && green <= 255) : "Invalid euler2 (" + euler2
                 + ") for index " + n + ".\n" + "Should be between 0 and PI.";
 
-        int blue = (int) ((eulers[2] + PI) / (2 * PI) * 255 + 0.5);
-        assert (blue >= 0 && blue <= 255) : "Invalid euler3 (" + eulers[2]
+        int blue = (int) ((euler3 + PI) / (2 * PI) * 255 + 0.5);
+        assert (blue >= 0 && blue <= 255) : "Invalid euler3 (" + euler3
                 + ") for index " + n + ".\n" + "Should be between -PI and PI.";
 
-        return new int[] { red, green, blue };
+        return (red << 16) | (green << 8) | blue;
     }
 
 
@@ -227,7 +328,7 @@ public class Conversion implements ConversionHandler {
 
     /**
      * Converts the three Euler maps in an <code>EbsdMMap</code> into a
-     * <code>RGBMap</code>.
+     * <code>RGBMap</code>. All the available processors are used.
      * 
      * @param src
      *            an <code>EbsdMMap</code>
@@ -235,26 +336,92 @@ public class Conversion implements ConversionHandler {
      *            <code>RGBMap</code> to put the result in
      */
     public static void toRGBMap(EbsdMMap src, RGBMap dest) {
-        rmlimage.core.Conversion.validate(src, dest);
+        toRGBMap(src, dest, 1, Runtime.getRuntime().availableProcessors());
+    }
 
-        // Set pixArray values
-        int red;
-        int green;
-        int blue;
-        int size = src.size;
-        for (int n = 0; n < size; n++) {
-            if (src.getPhaseId(n) == 0) {
-                red = 0;
-                green = 0;
-                blue = 0;
-            } else {
-                int[] rgb = getRGBFromRotation(src.getRotation(n), n);
-                red = rgb[0];
-                green = rgb[1];
-                blue = rgb[2];
-            }
 
-            dest.pixArray[n] = (red << 16) | (green << 8) | blue;
+
+    /**
+     * Converts the three Euler maps in an <code>EbsdMMap</code> into a
+     * <code>RGBMap</code>. The quaternion and phase arrays are read directly
+     * and the map is divided in bands of rows converted in parallel.
+     * <p/>
+     * For a progressive rendering, a first conversion can be done with a step
+     * greater than 1: only one pixel out of <code>step</code> in each
+     * direction is converted and its color fills the <code>step</code> x
+     * <code>step</code> block. A conversion with a step of 1 then gives the
+     * full resolution map.
+     * 
+     * @param src
+     *            an <code>EbsdMMap</code>
+     * @param dest
+     *            <code>RGBMap</code> to put the result in
+     * @param step
+     *            sampling step (1 for the full resolution)
+     * @param nbThreads
+     *            number of threads
+     * @throws IllegalArgumentException
+     *             if the step is less than 1
+     * @throws IllegalArgumentException
+     *             if the number of threads is less than 1
+     */
+    public static void toRGBMap(EbsdMMap src, RGBMap dest, final int step,
+            int nbThreads) {
+        rmlimage.core.Conversion.validate(src, dest);
+        if (step < 1)
+            throw new IllegalArgumentException("The step (" + step
+                    + ") must be greater than 0.");
+        if (nbThreads < 1)
+            throw new IllegalArgumentException("Number of threads ("
+                    + nbThreads + ") must be greater than 0.");
+
+        final byte[] phases = src.getPhaseMap().pixArray;
+        final float[] q0 = src.getQ0Map().pixArray;
+        final float[] q1 = src.getQ1Map().pixArray;
+        final float[] q2 = src.getQ2Map().pixArray;
+        final float[] q3 = src.getQ3Map().pixArray;
+        final int[] pixArray = dest.pixArray;
+        final int width = src.width;
+        final int height = src.height;
+
+        // Bands of rows, aligned on the step
+        int nbBlockRows = (height + step - 1) / step;
+        int nbBands = Math.min(nbThreads * BANDS_PER_THREAD, nbBlockRows);
+        final int[] rows = new int[nbBands + 1];
+        for (int i = 0; i <= nbBands; i++)
+            rows[i] =
+                    Math.min((int) ((long) nbBlockRows * i / nbBands) * step,
+                            height);
+
+        if (nbThreads == 1 || nbBands == 1)
+            fillRGBBand(phases, q0, q1, q2, q3, pixArray, width, height, step,
+                    0, height);
+        else {
+            ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+            try {
+                ArrayList<Future<?>> futures = new ArrayList<Future<?>>();
+                for (int i = 0; i < nbBands; i++) {
+                    final int band = i;
+                    futures.add(executor.submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            fillRGBBand(phases, q0, q1, q2, q3, pixArray,
+                                    width, height, step, rows[band],
+                                    rows[band + 1]);
+                        }
+                    }));
+                }
+
+                for (Future<?> future : futures)
+                    future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            } finally {
+                executor.shutdown();
+            }
         }
 
         // Copy metadata and LUT
@@ -0,0 +1,400 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import rmlimage.module.integer.core.IntMap;
+import rmlimage.module.real.core.RealMap;
+import crystallography.core.Crystal;
+import crystallography.core.LaueGroup;
+import crystallography.core.Quaternions;
+
+/**
+ * Grain reconstruction and kernel average misorientation (KAM) from the
+ * orientations of an <code>EbsdMMap</code>.
+ * <p/>
+ * The misorientation between each pair of 4-connected pixels is calculated
+ * from the <code>Q0</code> to <code>Q3</code> maps, with the symmetry of the
+ * Laue group of the phase of the pixels. Pixels of different phases, not
+ * indexed (phase 0) or without orientation (<code>NaN</code>) are never
+ * neighbours.
+ * <ul>
+ * <li>KAM: average misorientation (in radians) between a pixel and its
+ * neighbours, excluding the misorientations above the KAM threshold.
+ * <code>NaN</code> if the pixel has no neighbour.</li>
+ * <li>Grains: id of the grain of each pixel, starting at 1 in the raster
+ * order. Two neighbours are in the same grain if their misorientation is
+ * below the grain threshold (union-find). 0 for the pixels without
+ * orientation.</li>
+ * </ul>
+ * The map is divided in horizontal bands processed in parallel. The pairs of
+ * pixels across two bands (seams) are merged afterwards.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class Grains {
+
+    /** Alias of the KAM map. */
+    public static final String KAM = "KAM";
+
+    /** Alias of the grains map. */
+    public static final String GRAINS = "Grains";
+
+    /** Default grain threshold (5 deg). */
+    public static final double DEFAULT_GRAIN_THRESHOLD = Math.toRadians(5.0);
+
+    /** Default KAM threshold (5 deg). */
+    public static final double DEFAULT_KAM_THRESHOLD = Math.toRadians(5.0);
+
+    /** Number of bands per thread. */
+    private static final int BANDS_PER_THREAD = 4;
+
+    /** Minimum misorientation for two neighbours to be in different grains. */
+    public final double grainThreshold;
+
+    /** Maximum misorientation included in the KAM. */
+    public final double kamThreshold;
+
+    /** Number of threads. */
+    public final int nbThreads;
+
+    /** Width of the maps. */
+    private int width;
+
+    /** Quaternion maps. */
+    private float[] q0, q1, q2, q3;
+
+    /** Phase id of each pixel. */
+    private byte[] phases;
+
+    /** Laue group of each phase id (<code>null</code> if not indexed). */
+    private LaueGroup[] laueGroups;
+
+    /** Sum of the misorientations, then KAM. */
+    private float[] kam;
+
+    /** Number of misorientations in the KAM. */
+    private byte[] counts;
+
+    /** Parent of each pixel (union-find), then grain id. */
+    private int[] parents;
+
+
+
+    /**
+     * Creates a new <code>Grains</code> with the default thresholds, using
+     * all the available processors.
+     */
+    public Grains() {
+        this(DEFAULT_GRAIN_THRESHOLD, DEFAULT_KAM_THRESHOLD,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+
+
+    /**
+     * Creates a new <code>Grains</code>.
+     * 
+     * @param grainThreshold
+     *            minimum misorientation (in radians) for two neighbours to be
+     *            in different grains
+     * @param kamThreshold
+     *            maximum misorientation (in radians) included in the KAM
+     * @param nbThreads
+     *            number of threads
+     * @throws IllegalArgumentException
+     *             if a threshold is not positive
+     * @throws IllegalArgumentException
+     *             if the number of threads is less than 1
+     */
+    public Grains(double grainThreshold, double kamThreshold, int nbThreads) {
+        if (grainThreshold <= 0)
+            throw new IllegalArgumentException("Grain threshold ("
+                    + grainThreshold + ") must be greater than 0.");
+        if (kamThreshold <= 0)
+            throw new IllegalArgumentException("KAM threshold ("
+                    + kamThreshold + ") must be greater than 0.");
+        if (nbThreads < 1)
+            throw new IllegalArgumentException("Number of threads ("
+                    + nbThreads + ") must be greater than 0.");
+
+        this.grainThreshold = grainThreshold;
+        this.kamThreshold = kamThreshold;
+        this.nbThreads = nbThreads;
+    }
+
+
+
+    /**
+     * Calculates the misorientation between two pixels, accumulates it in the
+     * KAM of both pixels and merges their grains if required.
+     * 
+     * @param i
+     *            index of the first pixel
+     * @param j
+     *            index of the second pixel
+     */
+    private void compare(int i, int j) {
+        if (parents[i] < 0 || parents[j] < 0 || phases[i] != phases[j])
+            return;
+
+        double angle =
+                Quaternions.misorientation(q0, q1, q2, q3, i, j,
+                        laueGroups[phases[i] & 0xff]);
+
+        if (angle <= kamThreshold) {
+            kam[i] += angle;
+            counts[i]++;
+            kam[j] += angle;
+            counts[j]++;
+        }
+
+        if (angle < grainThreshold)
+            union(i, j);
+    }
+
+
+
+    /**
+     * Returns the root of the grain of a pixel. The path is halved.
+     * 
+     * @param i
+     *            index of a pixel
+     * @return index of the root pixel
+     */
+    private int find(int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+
+
+    /**
+     * Divides the sum of the misorientations by their number.
+     * 
+     * @param start
+     *            first pixel
+     * @param end
+     *            last pixel (exclusive)
+     */
+    private void finishKam(int start, int end) {
+        for (int n = start; n < end; n++) {
+            if (counts[n] > 0)
+                kam[n] /= counts[n];
+            else
+                kam[n] = Float.NaN;
+        }
+    }
+
+
+
+    /**
+     * Replaces the parent of each pixel by the id of its grain. Since the
+     * parent of a pixel always has a lower index, the id of the parent is
+     * already known when a pixel is labelled.
+     */
+    private void label() {
+        int count = 0;
+
+        for (int n = 0; n < parents.length; n++) {
+            int parent = parents[n];
+
+            if (parent < 0)
+                parents[n] = 0;
+            else if (parent == n)
+                parents[n] = ++count;
+            else
+                parents[n] = parents[parent];
+        }
+    }
+
+
+
+    /**
+     * Initializes the pixels of a band and compares the pairs of pixels inside
+     * the band.
+     * 
+     * @param y0
+     *            first row of the band
+     * @param y1
+     *            last row (exclusive) of the band
+     */
+    private void processBand(int y0, int y1) {
+        int start = y0 * width;
+        int end = y1 * width;
+
+        for (int n = start; n < end; n++) {
+            kam[n] = 0.0f;
+            counts[n] = 0;
+
+            if (phases[n] == 0 || laueGroups[phases[n] & 0xff] == null
+                    || Float.isNaN(q0[n]))
+                parents[n] = -1;
+            else
+                parents[n] = n;
+        }
+
+        for (int y = y0; y < y1; y++) {
+            int n = y * width;
+            for (int x = 0; x < width; x++, n++) {
+                if (x + 1 < width)
+                    compare(n, n + 1);
+                if (y + 1 < y1)
+                    compare(n, n + width);
+            }
+        }
+    }
+
+
+
+    /**
+     * Calculates the KAM and the grains of the specified multimap and adds
+     * (or replaces) the {@link #KAM} and {@link #GRAINS} maps.
+     * 
+     * @param mmap
+     *            multimap
+     * @throws RuntimeException
+     *             if the calculation is interrupted or fails
+     */
+    public void run(EbsdMMap mmap) {
+        width = mmap.width;
+        int height = mmap.height;
+
+        q0 = mmap.getQ0Map().pixArray;
+        q1 = mmap.getQ1Map().pixArray;
+        q2 = mmap.getQ2Map().pixArray;
+        q3 = mmap.getQ3Map().pixArray;
+
+        PhaseMap phaseMap = mmap.getPhaseMap();
+        phases = phaseMap.pixArray;
+        laueGroups = new LaueGroup[256];
+        for (int id = 1; id < laueGroups.length; id++) {
+            Crystal phase = phaseMap.getItem(id);
+            if (phase != null)
+                laueGroups[id] = phase.spaceGroup.laueGroup;
+        }
+
+        RealMap kamMap = new RealMap(width, height);
+        kamMap.cloneMetadataFrom(mmap);
+        kam = kamMap.pixArray;
+        counts = new byte[mmap.size];
+
+        IntMap grainsMap = new IntMap(width, height);
+        grainsMap.cloneMetadataFrom(mmap);
+        parents = grainsMap.pixArray;
+
+        // Bands
+        int nbBands = Math.min(nbThreads * BANDS_PER_THREAD, height);
+        final int[] rows = new int[nbBands + 1];
+        for (int i = 0; i <= nbBands; i++)
+            rows[i] = (int) ((long) height * i / nbBands);
+
+        ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+        try {
+            ArrayList<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < nbBands; i++) {
+                final int band = i;
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        processBand(rows[band], rows[band + 1]);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures)
+                future.get();
+
+            // Seams
+            for (int i = 1; i < nbBands; i++) {
+                int n = (rows[i] - 1) * width;
+                for (int x = 0; x < width; x++, n++)
+                    compare(n, n + width);
+            }
+
+            // KAM
+            futures.clear();
+            for (int i = 0; i < nbBands; i++) {
+                final int band = i;
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        finishKam(rows[band] * width, rows[band + 1] * width);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures)
+                future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+
+        label();
+
+        if (mmap.contains(KAM))
+            mmap.remove(KAM);
+        mmap.add(KAM, kamMap);
+
+        if (mmap.contains(GRAINS))
+            mmap.remove(GRAINS);
+        mmap.add(GRAINS, grainsMap);
+
+        // Release the arrays
+        q0 = q1 = q2 = q3 = null;
+        phases = null;
+        kam = null;
+        counts = null;
+        parents = null;
+    }
+
+
+
+    /**
+     * Merges the grains of two pixels. The root with the higher index is
+     * linked to the root with the lower index.
+     * 
+     * @param i
+     *            index of the first pixel
+     * @param j
+     *            index of the second pixel
+     */
+    private void union(int i, int j) {
+        int ri = find(i);
+        int rj = find(j);
+
+        if (ri < rj)
+            parents[rj] = ri;
+        else if (rj < ri)
+            parents[ri] = rj;
+    }
+
+}
@@ -113,15 +113,43 @@ public class HoughMath {
      * @return a hough peak
      */
     public static HoughPeak getHoughPeak(Line2D line, Map map, double intensity) {
+        return getHoughPeak(line, map.width, map.height, map.getCalibration(),
+                intensity);
+    }
+
+
+
+    /**
+     * Converts the slope and intercept of a line to a Hough peak without
+     * requiring the map containing the line. Equations:
+     * <ul>
+     * <li><code>theta = -arccot(m)</code></li>
+     * <li><code>rho = k * sin(theta)</code></li>
+     * </ul>
+     * 
+     * @param line
+     *            a <code>Line</code>
+     * @param width
+     *            width of the map containing the line
+     * @param height
+     *            height of the map containing the line
+     * @param cal
+     *            calibration of the map containing the line
+     * @param intensity
+     *            of the peak
+     * @return a hough peak
+     */
+    public static HoughPeak getHoughPeak(Line2D line, int width, int height,
+            Calibration cal, double intensity) {
         Line2D.Double adjustedLine =
                 new Line2D.Double(line.getP1(), line.getP2());
 
         // Translate the origin from the upper left corner
         // to the center of the image
         // and invert the y axis to have the positive going up
-        adjustedLine.y1 = map.height - 1 - adjustedLine.y1;
-        adjustedLine.y2 = map.height - 1 - adjustedLine.y2;
-        LineUtil.translate(adjustedLine, -map.width / 2, -map.height / 2);
+        adjustedLine.y1 = height - 1 - adjustedLine.y1;
+        adjustedLine.y2 = height - 1 - adjustedLine.y2;
+        LineUtil.translate(adjustedLine, -width / 2, -height / 2);
 
         // Calculate theta and rho
         double theta;
@@ -139,7 +167,6 @@ public class HoughMath {
             rho = LineUtil.getY(adjustedLine, 0.0) * Math.sin(theta);
         }
 
-        Calibration cal = map.getCalibration();
         return new HoughPeak(theta, cal.getCalibratedY(rho), cal.unitsY,
                 intensity);
     }
@@ -0,0 +1,343 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import rmlimage.core.BinMap;
+import rmlimage.core.ByteMap;
+
+/**
+ * Pool of the maps created while processing a pattern. Since all the patterns
+ * of an experiment have the same size, the maps of a pattern can be reused by
+ * the next one instead of allocating new pixel arrays for every operation.
+ * <p/>
+ * The maps are grouped by class and dimensions. A map acquired from the pool
+ * is in use until it is released, either individually with
+ * {@link #release(ByteMap)} or with all the other maps in use with
+ * {@link #releaseAll()}. A released map must not be used anymore by the code
+ * that acquired it since it will be handed out again.
+ * <p/>
+ * Only <code>ByteMap</code>, <code>BinMap</code> and <code>HoughMap</code> are
+ * pooled. Maps of other classes are duplicated as usual and are never reused.
+ * <p/>
+ * A pool is not thread-safe. It is meant to be used by one thread, like the
+ * experiment that owns it.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class MapPool {
+
+    /** Key of a group of maps with the same class and dimensions. */
+    private static class Key {
+
+        /** Class of the maps. */
+        public final Class<?> type;
+
+        /** Width of the maps. */
+        public final int width;
+
+        /** Height of the maps. */
+        public final int height;
+
+
+
+        /**
+         * Creates a new <code>Key</code>.
+         * 
+         * @param type
+         *            class of the maps
+         * @param width
+         *            width of the maps
+         * @param height
+         *            height of the maps
+         */
+        public Key(Class<?> type, int width, int height) {
+            this.type = type;
+            this.width = width;
+            this.height = height;
+        }
+
+
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+
+            Key other = (Key) obj;
+            if (type != other.type)
+                return false;
+            if (width != other.width)
+                return false;
+            if (height != other.height)
+                return false;
+
+            return true;
+        }
+
+
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + type.hashCode();
+            result = prime * result + width;
+            result = prime * result + height;
+            return result;
+        }
+    }
+
+    /**
+     * Checks whether the maps of the specified class are pooled.
+     * 
+     * @param type
+     *            class of a map
+     * @return <code>true</code> if the maps are pooled
+     */
+    private static boolean isPooled(Class<?> type) {
+        return type == ByteMap.class || type == BinMap.class
+                || type == HoughMap.class;
+    }
+
+    /** Maps available for reuse. */
+    private final HashMap<Key, ArrayList<ByteMap>> freeMaps =
+            new HashMap<Key, ArrayList<ByteMap>>();
+
+    /** Maps currently in use. */
+    private final ArrayList<ByteMap> usedMaps = new ArrayList<ByteMap>();
+
+
+
+    /**
+     * Returns an empty map with the same class, dimensions and metadata
+     * (calibration and properties) as the specified map. All the pixels are
+     * set to 0.
+     * 
+     * @param <T>
+     *            type of map
+     * @param like
+     *            map to get the class, dimensions and metadata from
+     * @return an empty map
+     * @throws NullPointerException
+     *             if the map is null
+     */
+    public <T extends ByteMap> T acquire(T like) {
+        T map = take(like);
+        Arrays.fill(map.pixArray, (byte) 0);
+        return map;
+    }
+
+
+
+    /**
+     * Returns a copy of the specified map. The copy has the same class,
+     * dimensions, metadata (calibration and properties) and pixels as the
+     * specified map.
+     * 
+     * @param <T>
+     *            type of map
+     * @param src
+     *            map to copy
+     * @return a copy of the map
+     * @throws NullPointerException
+     *             if the map is null
+     */
+    public <T extends ByteMap> T acquireCopy(T src) {
+        T map = take(src);
+        System.arraycopy(src.pixArray, 0, map.pixArray, 0, src.size);
+        return map;
+    }
+
+
+
+    /**
+     * Adds a map created outside of the pool. The map is considered in use and
+     * will be available for reuse once released. Maps of a class that is not
+     * pooled are ignored.
+     * 
+     * @param map
+     *            a new map
+     * @throws NullPointerException
+     *             if the map is null
+     */
+    public void add(ByteMap map) {
+        if (map == null)
+            throw new NullPointerException("Map cannot be null.");
+
+        if (isPooled(map.getClass()))
+            usedMaps.add(map);
+    }
+
+
+
+    /**
+     * Removes all the maps from the pool, in use or not. The maps in use can
+     * still be used but will not be reused by the pool.
+     */
+    public void clear() {
+        freeMaps.clear();
+        usedMaps.clear();
+    }
+
+
+
+    /**
+     * Puts a map in the group of free maps with the same class and dimensions.
+     * 
+     * @param map
+     *            a map
+     */
+    private void free(ByteMap map) {
+        Key key = new Key(map.getClass(), map.width, map.height);
+
+        ArrayList<ByteMap> maps = freeMaps.get(key);
+        if (maps == null) {
+            maps = new ArrayList<ByteMap>();
+            freeMaps.put(key, maps);
+        }
+
+        maps.add(map);
+    }
+
+
+
+    /**
+     * Returns the number of maps available for reuse.
+     * 
+     * @return number of free maps
+     */
+    public int getFreeCount() {
+        int count = 0;
+        for (ArrayList<ByteMap> maps : freeMaps.values())
+            count += maps.size();
+        return count;
+    }
+
+
+
+    /**
+     * Returns the number of maps currently in use.
+     * 
+     * @return number of maps in use
+     */
+    public int getUsedCount() {
+        return usedMaps.size();
+    }
+
+
+
+    /**
+     * Returns a free map of the specified class and dimensions, if any. The
+     * map is marked as in use. Contrary to {@link #acquire(ByteMap)}, neither
+     * the pixels nor the metadata of the map are reset: they are the ones of
+     * its previous use and must be overwritten by the caller. If no map is
+     * available, the caller is expected to create one and to
+     * {@link #add(ByteMap)} it to the pool.
+     * 
+     * @param <T>
+     *            type of map
+     * @param type
+     *            class of the map
+     * @param width
+     *            width of the map
+     * @param height
+     *            height of the map
+     * @return a free map or <code>null</code> if none is available
+     */
+    public <T extends ByteMap> T poll(Class<T> type, int width, int height) {
+        ArrayList<ByteMap> maps = freeMaps.get(new Key(type, width, height));
+        if (maps == null || maps.isEmpty())
+            return null;
+
+        ByteMap map = maps.remove(maps.size() - 1);
+        usedMaps.add(map);
+
+        return type.cast(map);
+    }
+
+
+
+    /**
+     * Releases a map in use. The map becomes available for reuse and must not
+     * be used anymore by the caller. Maps that were not acquired from the pool
+     * are ignored.
+     * 
+     * @param map
+     *            a map in use
+     */
+    public void release(ByteMap map) {
+        for (int i = usedMaps.size() - 1; i >= 0; i--) {
+            if (usedMaps.get(i) == map) {
+                usedMaps.remove(i);
+                free(map);
+                return;
+            }
+        }
+    }
+
+
+
+    /**
+     * Releases all the maps in use. The maps become available for reuse.
+     */
+    public void releaseAll() {
+        for (ByteMap map : usedMaps)
+            free(map);
+        usedMaps.clear();
+    }
+
+
+
+    /**
+     * Takes a free map with the same class and dimensions as the specified map
+     * or creates a new one. The metadata of the specified map is copied to the
+     * returned map, but not the pixels.
+     * 
+     * @param <T>
+     *            type of map
+     * @param like
+     *            map to get the class, dimensions and metadata from
+     * @return a map in use
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends ByteMap> T take(T like) {
+        Class<T> type = (Class<T>) like.getClass();
+
+        if (!isPooled(type))
+            return (T) like.duplicate();
+
+        T map = poll(type, like.width, like.height);
+        if (map == null) {
+            map = (T) like.duplicate();
+            usedMaps.add(map);
+        } else {
+            map.cloneMetadataFrom(like);
+        }
+
+        return map;
+    }
+
+}
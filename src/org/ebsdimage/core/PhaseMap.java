@@ -39,7 +39,8 @@ public class PhaseMap extends IndexedByteMap<Crystal> {
 
     /** Phase when the pixels are not indexed. */
     public static final Crystal NO_PHASE = new Crystal("Unindexed",
-            new UnitCell(1, 1, 1, 1, 1, 1), new AtomSites(), SpaceGroups.SG1);
+            new UnitCell(1, 1, 1, 1, 1, 1), new AtomSites(),
+            SpaceGroups.fromIndex(1));
 
 
 
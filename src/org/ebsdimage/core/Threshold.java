@@ -143,10 +143,43 @@ public class Threshold {
      * @return the thresholded map
      */
     public static BinMap automaticTopHat(ByteMap map) {
+        return automaticTopHat(map, null);
+    }
+
+
+
+    /**
+     * Does a thresholding using a tophat-like filter. Peak found above and
+     * below the kink at 90deg are removed. The intermediate maps of the filter
+     * are taken from the specified pool and released once the thresholding is
+     * done.
+     * <p/>
+     * See {@link #automaticTopHat(HoughMap)} for more info.
+     * 
+     * @param map
+     *            map to do the thresholding on
+     * @param pool
+     *            pool of maps or <code>null</code> to create new intermediate
+     *            maps
+     * @return the thresholded map
+     */
+    public static BinMap automaticTopHat(ByteMap map, MapPool pool) {
         // Do a "top hat" filter
-        ByteMap dup = map.duplicate();
+        ByteMap dup;
+        ByteMap topHat;
+        if (pool == null) {
+            dup = map.duplicate();
+            topHat = new ByteMap(map.width, map.height);
+        } else {
+            dup = pool.acquireCopy(map);
+            topHat = pool.poll(ByteMap.class, map.width, map.height);
+            if (topHat == null) {
+                topHat = new ByteMap(map.width, map.height);
+                pool.add(topHat);
+            }
+        }
+
         MathMorph.opening(dup, 5);
-        ByteMap topHat = new ByteMap(map.width, map.height);
 
         // Important to get a hough-related binMap
         topHat.setProperties(map);
@@ -170,6 +203,11 @@ public class Threshold {
         BinMap binMap =
                 rmlimage.core.Threshold.densitySlice(topHat, threshold, 255);
 
+        if (pool != null) {
+            pool.release(dup);
+            pool.release(topHat);
+        }
+
         return binMap;
     }
 
@@ -170,6 +170,9 @@ public class Transform implements Monitorable {
     /** Progress value. */
     protected double progress = 0;
 
+    /** Pool of maps to take the Hough maps from or <code>null</code>. */
+    private MapPool pool = null;
+
 
 
     /**
@@ -355,7 +358,27 @@ public class Transform implements Monitorable {
 
         Magnitude rMax = c.div(2);
 
-        return new HoughMap(deltaTheta, deltaRho, rMax);
+        if (pool == null)
+            return new HoughMap(deltaTheta, deltaRho, rMax);
+
+        // Reuse a Hough map of the same dimensions and reset its calibration
+        int width = HoughMap.calculateWidth(deltaTheta.getValue("rad"));
+        int height =
+                HoughMap.calculateHeight(rMax.getPreferredUnitsValue(),
+                        deltaRho.getPreferredUnitsValue());
+
+        HoughMap houghMap = pool.poll(HoughMap.class, width, height);
+        if (houghMap == null) {
+            houghMap = new HoughMap(deltaTheta, deltaRho, rMax);
+            pool.add(houghMap);
+        } else {
+            houghMap.setCalibration(HoughMap.calculateCalibration(
+                    deltaTheta.getValue("rad"),
+                    deltaRho.getPreferredUnitsValue(),
+                    deltaRho.getPreferredUnitsLabel(), height));
+        }
+
+        return houghMap;
     }
 
 
@@ -556,4 +579,17 @@ public class Transform implements Monitorable {
         return isInterrupted;
     }
 
+
+
+    /**
+     * Sets the pool of maps to take the Hough maps from. The Hough maps are
+     * then only valid until they are released to the pool.
+     * 
+     * @param pool
+     *            pool of maps or <code>null</code> to create new Hough maps
+     */
+    public void setMapPool(MapPool pool) {
+        this.pool = pool;
+    }
+
 }
@@ -0,0 +1,390 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.ElementArray;
+import org.simpleframework.xml.Root;
+
+import rmlimage.core.Map;
+import rmlimage.io.IO;
+import rmlshared.io.FileUtil;
+
+/**
+ * Listener to save the maps of a sample of the patterns to file without
+ * slowing down the experiment. Contrary to <code>MapsSaverListener</code>,
+ * which writes the files of every map directly in the experiment's directory,
+ * the maps of each operation are appended to a single ZIP file (
+ * <code>&lt;exp&gt;_&lt;op&gt;.zip</code>).
+ * <p/>
+ * Every map is saved in its native format with its own properties file, under
+ * the same name as with <code>MapsSaverListener</code> (
+ * <code>&lt;exp&gt;_&lt;op&gt;_&lt;index&gt;</code>). Extracting the ZIP
+ * file therefore gives the same files.
+ * <p/>
+ * The maps are duplicated on the experiment's thread, then saved by a
+ * background thread which writes their files directly in the entries of the
+ * ZIP file. The queue of maps waiting to be written
+ * is bounded: if the disk cannot keep up, the experiment's thread writes the
+ * map itself.
+ * <p/>
+ * The sampling is either every <code>step</code> pattern, starting at the
+ * first pattern of the experiment, or a list of pattern indexes.
+ * 
+ * @author Philippe T. Pinard
+ */
+@Root
+public class AsyncMapsSaverListener extends MapsSaverListener {
+
+    /**
+     * Checks that the indexes are not null.
+     * 
+     * @param indexes
+     *            indexes of the patterns
+     * @return indexes
+     * @throws NullPointerException
+     *             if the indexes are null
+     */
+    private static int[] checkIndexes(int[] indexes) {
+        if (indexes == null)
+            throw new NullPointerException("Indexes cannot be null.");
+        return indexes;
+    }
+
+    /** Default maximum number of maps waiting to be written. */
+    public static final int DEFAULT_QUEUE_SIZE = 64;
+
+    /** Save the maps of every <code>step</code> pattern. */
+    @Attribute(name = "step")
+    public final int step;
+
+    /** Indexes of the patterns to save or <code>null</code>. */
+    private int[] indexes;
+
+    /** Maximum number of maps waiting to be written. */
+    @Attribute(name = "queueSize")
+    public final int queueSize;
+
+    /** Logger. */
+    private final Logger logger = Logger.getLogger("ebsd");
+
+    /** Background thread writing the maps. */
+    private ThreadPoolExecutor writer;
+
+    /** ZIP files of the operations. */
+    private final HashMap<String, ZipOutputStream> containers =
+            new HashMap<String, ZipOutputStream>();
+
+
+
+    /**
+     * Creates a new <code>AsyncMapsSaverListener</code> saving the maps of
+     * every <code>step</code> pattern.
+     * 
+     * @param step
+     *            save the maps of every <code>step</code> pattern (1 to save
+     *            the maps of all the patterns)
+     * @throws IllegalArgumentException
+     *             if the step is less than 1
+     */
+    public AsyncMapsSaverListener(int step) {
+        this(step, DEFAULT_QUEUE_SIZE);
+    }
+
+
+
+    /**
+     * Creates a new <code>AsyncMapsSaverListener</code> saving the maps of
+     * every <code>step</code> pattern.
+     * 
+     * @param step
+     *            save the maps of every <code>step</code> pattern (1 to save
+     *            the maps of all the patterns)
+     * @param queueSize
+     *            maximum number of maps waiting to be written
+     * @throws IllegalArgumentException
+     *             if the step is less than 1
+     * @throws IllegalArgumentException
+     *             if the queue size is less than 1
+     */
+    public AsyncMapsSaverListener(int step, int queueSize) {
+        this(step, queueSize, null);
+    }
+
+
+
+    /**
+     * Creates a new <code>AsyncMapsSaverListener</code> saving the maps of the
+     * patterns with the specified indexes.
+     * 
+     * @param indexes
+     *            indexes of the patterns
+     * @throws NullPointerException
+     *             if the indexes are null
+     */
+    public AsyncMapsSaverListener(int[] indexes) {
+        this(1, DEFAULT_QUEUE_SIZE, checkIndexes(indexes));
+    }
+
+
+
+    /**
+     * Special constructor to load the listener from a XML. This constructor is
+     * used by the deserialization.
+     * 
+     * @param step
+     *            save the maps of every <code>step</code> pattern
+     * @param queueSize
+     *            maximum number of maps waiting to be written
+     * @param indexes
+     *            indexes of the patterns or <code>null</code>
+     * @throws IllegalArgumentException
+     *             if the step is less than 1
+     * @throws IllegalArgumentException
+     *             if the queue size is less than 1
+     */
+    private AsyncMapsSaverListener(@Attribute(name = "step") int step,
+            @Attribute(name = "queueSize") int queueSize,
+            @ElementArray(name = "indexes", required = false) int[] indexes) {
+        if (step < 1)
+            throw new IllegalArgumentException("The step (" + step
+                    + ") must be greater than 0.");
+        if (queueSize < 1)
+            throw new IllegalArgumentException("The queue size (" + queueSize
+                    + ") must be greater than 0.");
+
+        this.step = step;
+        this.queueSize = queueSize;
+
+        if (indexes == null)
+            this.indexes = null;
+        else {
+            this.indexes = indexes.clone();
+            Arrays.sort(this.indexes);
+        }
+    }
+
+
+
+    @Override
+    public synchronized void expFinished(Exp exp) {
+        if (writer == null)
+            return;
+
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+
+        synchronized (containers) {
+            for (ZipOutputStream container : containers.values()) {
+                try {
+                    container.close();
+                } catch (IOException ex) {
+                    logger.warning("Maps could not be closed because: "
+                            + ex.getMessage());
+                }
+            }
+            containers.clear();
+        }
+    }
+
+
+
+    /**
+     * Returns the indexes of the patterns to save.
+     * 
+     * @return indexes or <code>null</code> if the maps of every
+     *         <code>step</code> pattern are saved
+     */
+    @ElementArray(name = "indexes", required = false)
+    public int[] getIndexes() {
+        if (indexes == null)
+            return null;
+        else
+            return indexes.clone();
+    }
+
+
+
+    /**
+     * Checks whether the maps of the pattern at the specified index should be
+     * saved. With a step, the patterns are counted from the first pattern of
+     * the experiment.
+     * 
+     * @param index
+     *            index of the pattern
+     * @param startIndex
+     *            index of the first pattern of the experiment
+     * @return <code>true</code> if the maps should be saved
+     */
+    public boolean isSampled(int index, int startIndex) {
+        if (indexes != null)
+            return Arrays.binarySearch(indexes, index) >= 0;
+        else
+            return (index - startIndex) % step == 0;
+    }
+
+
+
+    /**
+     * Writes a file in a new entry of a ZIP file. The entry is deflated while
+     * the file is read.
+     * 
+     * @param container
+     *            ZIP file
+     * @param file
+     *            file of the entry
+     * @throws IOException
+     *             if an error occurs while writing the entry
+     */
+    private void writeEntry(ZipOutputStream container, File file)
+            throws IOException {
+        container.putNextEntry(new ZipEntry(file.getName()));
+
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[65536];
+            int count;
+            while ((count = in.read(buffer)) > 0)
+                container.write(buffer, 0, count);
+        } finally {
+            in.close();
+        }
+
+        container.closeEntry();
+    }
+
+
+
+    /**
+     * Saves a map and writes its files in the ZIP file of an operation.
+     * Executed by the background thread.
+     * 
+     * @param dir
+     *            directory of the experiment
+     * @param name
+     *            name of the ZIP file
+     * @param index
+     *            index of the pattern
+     * @param map
+     *            map to save
+     */
+    private void writeMap(File dir, String name, int index, Map map) {
+        String filename = name + "_" + index;
+        File scratch = new File(dir, filename + ".tmp");
+
+        try {
+            if (!scratch.mkdir())
+                throw new IOException("Cannot create temporary directory ("
+                        + scratch.getAbsolutePath() + ").");
+
+            try {
+                // Save the map in its own format, with its properties
+                map.setDir(scratch);
+                map.setName(filename);
+                IO.save(map);
+
+                // The experiment's thread also writes when the queue is full
+                synchronized (containers) {
+                    ZipOutputStream container = containers.get(name);
+
+                    if (container == null) {
+                        container =
+                                new ZipOutputStream(new BufferedOutputStream(
+                                        new FileOutputStream(new File(dir,
+                                                name + ".zip"))));
+                        container.setComment(name);
+                        containers.put(name, container);
+                    }
+
+                    for (File file : scratch.listFiles())
+                        writeEntry(container, file);
+                }
+            } finally {
+                FileUtil.rmdir(scratch);
+            }
+        } catch (IOException ex) {
+            logger.warning(filename + " map could not be saved because: "
+                    + ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            logger.warning(filename + " map could not be saved because: "
+                    + ex.getMessage());
+        }
+    }
+
+
+
+    /**
+     * Saves a map if the current pattern is sampled. The map is duplicated and
+     * handed to the background thread.
+     * 
+     * @param exp
+     *            current experiment
+     * @param op
+     *            operation that creates the map
+     * @param map
+     *            a map
+     */
+    @Override
+    protected void saveMap(Exp exp, ExpOperation op, Map map) {
+        final int index = exp.getCurrentIndex();
+        if (!isSampled(index, exp.getPatternOp().startIndex))
+            return;
+
+        final File dir = exp.getDir();
+        final String name = exp.getName() + "_" + op.getName();
+        final Map snapshot = map.duplicate();
+
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                writeMap(dir, name, index, snapshot);
+            }
+        };
+
+        synchronized (this) {
+            if (writer == null)
+                writer =
+                        new ThreadPoolExecutor(1, 1, 0L, TimeUnit.SECONDS,
+                                new ArrayBlockingQueue<Runnable>(queueSize),
+                                new ThreadPoolExecutor.CallerRunsPolicy());
+
+            writer.execute(task);
+        }
+    }
+
+}
@@ -18,7 +18,9 @@
 package org.ebsdimage.core.exp;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 
 import org.ebsdimage.core.*;
 import org.ebsdimage.core.exp.ops.detection.op.AutomaticTopHat;
@@ -44,6 +46,7 @@ import org.ebsdimage.core.exp.ops.positioning.op.PositioningOp;
 import org.ebsdimage.core.exp.ops.positioning.post.PositioningPostOps;
 import org.ebsdimage.core.exp.ops.positioning.pre.PositioningPreOps;
 import org.ebsdimage.core.exp.ops.positioning.results.PositioningResultsOps;
+import org.ebsdimage.core.run.OpProfiler;
 import org.ebsdimage.core.run.Operation;
 import org.ebsdimage.core.run.Run;
 import org.simpleframework.xml.*;
@@ -71,6 +74,86 @@ import static org.ebsdimage.core.exp.ExpConstants.*;
         "name", "dir", "width", "height" })
 public class Exp extends Run {
 
+    /** Runtime variables of an experiment at one step of a pattern. */
+    static class Snapshot {
+
+        /** Source pattern map. */
+        private final ByteMap sourcePatternMap;
+
+        /** Source Hough map. */
+        private final HoughMap sourceHoughMap;
+
+        /** Source peaks map. */
+        private final BinMap sourcePeaksMap;
+
+        /** Pattern map. */
+        private final ByteMap currentPatternMap;
+
+        /** Hough map. */
+        private final HoughMap currentHoughMap;
+
+        /** Peaks map. */
+        private final BinMap currentPeaksMap;
+
+        /** Hough peaks. */
+        private final HoughPeak[] currentPeaks;
+
+        /** Solutions. */
+        private final Solution[] currentSolutions;
+
+
+
+        /**
+         * Saves the runtime variables of an experiment.
+         * 
+         * @param exp
+         *            an experiment
+         */
+        private Snapshot(Exp exp) {
+            sourcePatternMap = exp.sourcePatternMap;
+            sourceHoughMap = exp.sourceHoughMap;
+            sourcePeaksMap = exp.sourcePeaksMap;
+            currentPatternMap = exp.currentPatternMap;
+            currentHoughMap = exp.currentHoughMap;
+            currentPeaksMap = exp.currentPeaksMap;
+            currentPeaks = exp.currentPeaks;
+            currentSolutions = exp.currentSolutions;
+        }
+    }
+
+    /**
+     * Adds a step to a list of steps.
+     * 
+     * @param steps
+     *            list of steps
+     * @param stage
+     *            stage of the step
+     * @param op
+     *            operation of the step
+     */
+    private static void addStep(ArrayList<ExpStep> steps, ExpStep.Stage stage,
+            ExpOperation op) {
+        steps.add(new ExpStep(stage, op));
+    }
+
+
+
+    /**
+     * Adds one step per operation to a list of steps.
+     * 
+     * @param steps
+     *            list of steps
+     * @param stage
+     *            stage of the steps
+     * @param ops
+     *            operations of the steps
+     */
+    private static void addSteps(ArrayList<ExpStep> steps,
+            ExpStep.Stage stage, ArrayList<? extends ExpOperation> ops) {
+        for (ExpOperation op : ops)
+            steps.add(new ExpStep(stage, op));
+    }
+
     /** Experiment listeners. */
     @ElementList(name = "listeners")
     private ArrayList<ExpListener> listeners = new ArrayList<ExpListener>();
@@ -78,6 +161,18 @@ public class Exp extends Run {
     /** <code>MultiMap</code> holding the result and metadata for the experiment. */
     public final ExpMMap mmap;
 
+    /** Checkpoint of the results or <code>null</code> if none. */
+    private ExpCheckpoint checkpoint = null;
+
+    /** Destination of the results in the multimap. */
+    private final ResultsSink sink = new ResultsSink(this);
+
+    /** Pool of the maps created while processing a pattern. */
+    private final MapPool pool = new MapPool();
+
+    /** Operation being executed or <code>null</code>. */
+    private volatile ExpOperation currentOp = null;
+
     /** Runtime variable for the source pattern map. */
     protected ByteMap sourcePatternMap;
 
@@ -102,6 +197,14 @@ public class Exp extends Run {
     /** Runtime variable of the solutions. */
     protected Solution[] currentSolutions;
 
+    /** Runtime cache of the statistics of the maps of the current pattern. */
+    private final IdentityHashMap<ByteMap, ByteMapStats> stats =
+            new IdentityHashMap<ByteMap, ByteMapStats>();
+
+    /** Runtime state of the operations, set while the experiment runs. */
+    private final IdentityHashMap<ExpOperation, Object> opStates =
+            new IdentityHashMap<ExpOperation, Object>();
+
     /** Pattern operation of the experiment. */
     private PatternOp patternOp = null;
 
@@ -538,7 +641,7 @@ public class Exp extends Run {
      * @throws IllegalArgumentException
      *             if the result's map type is unknown
      */
-    private Map createMap(OpResult result) {
+    protected Map createMap(OpResult result) {
         // RealMap
         if (result.type.equals(RealMap.class)) {
             RealMap map = new RealMap(mmap.width, mmap.height);
@@ -574,6 +677,64 @@ public class Exp extends Run {
 
 
 
+    /**
+     * Ends the processing of a pattern. The maps of the pattern are released
+     * to the pool and the checkpoint is updated.
+     * 
+     * @param index
+     *            index of the pattern
+     */
+    void endPattern(int index) {
+        // Reuse the maps of this pattern for the next one
+        pool.releaseAll();
+
+        // Checkpoint
+        if (checkpoint != null)
+            checkpoint.update(index);
+    }
+
+
+
+    /**
+     * Ends the run of the experiment. The operations are flushed, the results
+     * are saved and the listeners are notified.
+     * 
+     * @param index
+     *            index of the pattern following the last processed one
+     */
+    void finish(int index) {
+        // Close checkpoint
+        if (checkpoint != null) {
+            setStatus("--- Writing checkpoint ---");
+            checkpoint.finish(index);
+        }
+
+        // Flush ops
+        setStatus("--- Flushing ops ---");
+        for (ExpOperation op : getAllOperations())
+            op.tearDown(this);
+
+        // Reset runtime variables
+        initRuntimeVariables();
+
+        // Flag the results' maps as changed
+        sink.flush();
+
+        // Timings of the operations
+        saveProfile();
+
+        // Notify listeners
+        for (ExpListener listener : listeners)
+            listener.expFinished(this);
+
+        // Refresh multimap
+        mmap.notifyListeners();
+
+        setStatus("--- END ---");
+    }
+
+
+
     /**
      * Returns a list of all the defined operations in this experiment.
      * 
@@ -611,6 +772,17 @@ public class Exp extends Run {
 
 
 
+    /**
+     * Returns the checkpoint of the experiment.
+     * 
+     * @return checkpoint or <code>null</code> if no checkpoint is defined
+     */
+    public ExpCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+
+
     /**
      * Returns the Hough map that is currently being used by the experiment.
      * Only valid when the experiment is running.
@@ -902,6 +1074,20 @@ public class Exp extends Run {
 
 
 
+    /**
+     * Returns the pool of the maps created while processing a pattern. The
+     * operations acquire their output maps from this pool. All the maps are
+     * released once the pattern is processed, so they must not be kept by the
+     * operations or the listeners beyond the current pattern.
+     * 
+     * @return pool of maps
+     */
+    public MapPool getMapPool() {
+        return pool;
+    }
+
+
+
     /**
      * Returns the metadata of the multimap. The metadata contains the
      * acquisition parameters.
@@ -915,6 +1101,23 @@ public class Exp extends Run {
 
 
 
+    /**
+     * Returns the runtime state of an operation in this experiment. The
+     * operations are immutable and may be shared between experiments, so the
+     * resources they use while the experiment runs (e.g. an open file) are
+     * kept by the experiment.
+     * 
+     * @param op
+     *            an operation
+     * @return state of the operation or <code>null</code> if none
+     * @see #setOpState(ExpOperation, Object)
+     */
+    public synchronized Object getOpState(ExpOperation op) {
+        return opStates.get(op);
+    }
+
+
+
     /**
      * Returns the pattern operation of this experiment.
      * 
@@ -1010,10 +1213,101 @@ public class Exp extends Run {
 
 
 
+    /**
+     * Returns the statistics of a map of the current pattern. The statistics
+     * are calculated once per map and shared by all the results operations
+     * until the next pattern is processed.
+     * 
+     * @param map
+     *            a map of the current pattern
+     * @return statistics of the map
+     * @throws NullPointerException
+     *             if the map is null
+     */
+    public ByteMapStats getStats(ByteMap map) {
+        ByteMapStats mapStats = stats.get(map);
+
+        if (mapStats == null) {
+            mapStats = new ByteMapStats(map);
+            stats.put(map, mapStats);
+        }
+
+        return mapStats;
+    }
+
+
+
+    /**
+     * Returns the steps executed on each pattern, in order. The stages after
+     * the pattern results operations are only executed if results operations
+     * of a following stage are defined.
+     * 
+     * @return steps of the experiment
+     */
+    public ArrayList<ExpStep> getSteps() {
+        ArrayList<ExpStep> steps = new ArrayList<ExpStep>();
+
+        // Pattern
+        addStep(steps, ExpStep.Stage.PATTERN_OP, patternOp);
+        addSteps(steps, ExpStep.Stage.PATTERN_POST, patternPostOps);
+        addSteps(steps, ExpStep.Stage.PATTERN_RESULTS, patternResultsOps);
+
+        // Test to continue
+        if (houghResultsOps.size() == 0 && detectionResultsOps.size() == 0
+                && positioningResultsOps.size() == 0
+                && indexingResultsOps.size() == 0)
+            return steps;
+
+        // Hough
+        addSteps(steps, ExpStep.Stage.HOUGH_PRE, houghPreOps);
+        addStep(steps, ExpStep.Stage.HOUGH_OP, houghOp);
+        addSteps(steps, ExpStep.Stage.HOUGH_POST, houghPostOps);
+        addSteps(steps, ExpStep.Stage.HOUGH_RESULTS, houghResultsOps);
+
+        // Test to continue
+        if (detectionResultsOps.size() == 0
+                && positioningResultsOps.size() == 0
+                && indexingResultsOps.size() == 0)
+            return steps;
+
+        // Detection
+        addSteps(steps, ExpStep.Stage.DETECTION_PRE, detectionPreOps);
+        addStep(steps, ExpStep.Stage.DETECTION_OP, detectionOp);
+        addSteps(steps, ExpStep.Stage.DETECTION_POST, detectionPostOps);
+        addSteps(steps, ExpStep.Stage.DETECTION_RESULTS, detectionResultsOps);
+
+        // Test to continue
+        if (positioningResultsOps.size() == 0
+                && indexingResultsOps.size() == 0)
+            return steps;
+
+        // Positioning
+        addSteps(steps, ExpStep.Stage.POSITIONING_PRE, positioningPreOps);
+        addStep(steps, ExpStep.Stage.POSITIONING_OP, positioningOp);
+        addSteps(steps, ExpStep.Stage.POSITIONING_POST, positioningPostOps);
+        addSteps(steps, ExpStep.Stage.POSITIONING_RESULTS,
+                positioningResultsOps);
+
+        // Test to continue
+        if (indexingResultsOps.size() == 0)
+            return steps;
+
+        // Indexing
+        addSteps(steps, ExpStep.Stage.INDEXING_PRE, indexingPreOps);
+        addStep(steps, ExpStep.Stage.INDEXING_OP, indexingOp);
+        addSteps(steps, ExpStep.Stage.INDEXING_POST, indexingPostOps);
+        addSteps(steps, ExpStep.Stage.INDEXING_RESULTS, indexingResultsOps);
+
+        return steps;
+    }
+
+
+
     @Override
     public double getTaskProgress() {
         // Quick fix to notify the listeners of the EbsdMMap. This allows the
         // map to be refresh when displayed in the GUI.
+        sink.flush();
         mmap.notifyListeners();
 
         return super.getTaskProgress();
@@ -1021,6 +1315,24 @@ public class Exp extends Run {
 
 
 
+    /**
+     * Returns the status of the experiment. While an operation is executed,
+     * the status is built from the operation when it is requested, rather
+     * than for every execution.
+     * 
+     * @return status
+     */
+    @Override
+    public String getTaskStatus() {
+        ExpOperation op = currentOp;
+        if (op == null)
+            return super.getTaskStatus();
+        else
+            return currentIndex + " - Executing " + op.getName() + "...";
+    }
+
+
+
     /**
      * Returns the width of the mapping. This corresponds to the width of the
      * multimap.
@@ -1046,6 +1358,7 @@ public class Exp extends Run {
         currentPeaksMap = null;
         currentPeaks = null;
         currentSolutions = null;
+        stats.clear();
     }
 
 
@@ -1067,6 +1380,56 @@ public class Exp extends Run {
 
 
 
+    /**
+     * Restores the runtime variables of the experiment from a snapshot. The
+     * snapshot may come from another experiment processing the same pattern.
+     * The arrays of peaks and solutions are copied since some operations
+     * modify them in place.
+     * 
+     * @param snapshot
+     *            runtime variables
+     */
+    void restoreRuntimeVariables(Snapshot snapshot) {
+        sourcePatternMap = snapshot.sourcePatternMap;
+        sourceHoughMap = snapshot.sourceHoughMap;
+        sourcePeaksMap = snapshot.sourcePeaksMap;
+        currentPatternMap = snapshot.currentPatternMap;
+        currentHoughMap = snapshot.currentHoughMap;
+        currentPeaksMap = snapshot.currentPeaksMap;
+        currentPeaks =
+                (snapshot.currentPeaks == null) ? null
+                        : snapshot.currentPeaks.clone();
+        currentSolutions =
+                (snapshot.currentSolutions == null) ? null
+                        : snapshot.currentSolutions.clone();
+    }
+
+
+
+    /**
+     * Resumes the experiment from its checkpoint. The results saved in the
+     * checkpoint are restored in the multimap and the experiment is run from
+     * the first pattern that was not processed.
+     * 
+     * @throws IllegalStateException
+     *             if no checkpoint is defined
+     * @throws IOException
+     *             if the checkpoint cannot be restored
+     * @see #setCheckpoint(ExpCheckpoint)
+     */
+    public void resume() throws IOException {
+        if (checkpoint == null)
+            throw new IllegalStateException(
+                    "No checkpoint is defined for the experiment.");
+
+        setStatus("--- Restoring checkpoint ---");
+        int index = checkpoint.restore(this);
+
+        run(index);
+    }
+
+
+
     /**
      * Runs the experiment based on the given parameters and operations. If some
      * parameters and operations are missing to the correct execution of the
@@ -1076,22 +1439,26 @@ public class Exp extends Run {
      */
     @Override
     public void run() {
-        setStatus("--- START ---");
+        run(patternOp.startIndex);
+    }
 
-        // Create directory for the experiment results
-        createDir();
 
-        // Get all operations
-        ArrayList<ExpOperation> ops = getAllOperations();
 
-        // Initialize ops
-        setStatus("--- Initializing ops ---");
-        for (ExpOperation op : ops)
-            op.setUp(this);
+    /**
+     * Runs the experiment starting at the specified pattern index.
+     * 
+     * @param firstIndex
+     *            index of the first pattern to process
+     */
+    private void run(int firstIndex) {
+        start(firstIndex);
+
+        ArrayList<ExpStep> steps = getSteps();
 
         int size = patternOp.size;
         int startIndex = patternOp.startIndex;
-        for (int index = startIndex; index < startIndex + size; index++) {
+        int index;
+        for (index = firstIndex; index < startIndex + size; index++) {
             // Increment progress
             progress = (double) (index - startIndex) / size;
 
@@ -1099,228 +1466,88 @@ public class Exp extends Run {
             if (isInterrupted())
                 break;
 
-            initRuntimeVariables();
-
-            // Set current index
-            currentIndex = index;
+            startPattern(index);
 
             // Run
             try {
-                runOnce(patternOp, index);
+                runOnce(steps);
             } catch (ExpError ex) {
                 saveError(ex);
             }
-        }
-
-        // Flush ops
-        setStatus("--- Flushing ops ---");
-        for (ExpOperation op : ops)
-            op.tearDown(this);
 
-        // Reset runtime variables
-        initRuntimeVariables();
-
-        // Refresh multimap
-        mmap.notifyListeners();
+            endPattern(index);
+        }
 
-        setStatus("--- END ---");
+        finish(index);
     }
 
 
 
     /**
-     * Runs the experiment with one pattern operation.
+     * Runs the steps of the experiment on the current pattern.
      * 
-     * @param patternOp
-     *            current pattern operation
-     * @param index
-     *            index of the pattern to load from the pattern operation
+     * @param steps
+     *            steps of the experiment
      * @throws ExpError
      *             if an error occurs during the run
      */
-    private void runOnce(PatternOp patternOp, int index) throws ExpError {
-        // Pattern Op
-        setStatus("--- Pattern Operation ---");
-
-        currentPatternMap = (ByteMap) runOperation(patternOp, index);
-        sourcePatternMap =
-                (ByteMap) updateSourceMap(sourcePatternMap, currentPatternMap);
-
-        // Pattern Post Ops
-        setStatus("--- Pattern Post Operations ---");
-        for (PatternPostOps op : patternPostOps) {
-            currentPatternMap = (ByteMap) runOperation(op, currentPatternMap);
-            sourcePatternMap =
-                    (ByteMap) updateSourceMap(sourcePatternMap,
-                            currentPatternMap);
-        }
+    private void runOnce(ArrayList<ExpStep> steps) throws ExpError {
+        ExpStep.Stage stage = null;
 
-        // Pattern Results Ops
-        setStatus("--- Pattern Results Operations ---");
-        for (PatternResultsOps op : patternResultsOps)
-            runResultsOperation(op, currentPatternMap);
-
-        // Test to continue
-        if (houghResultsOps.size() > 0 || detectionResultsOps.size() > 0
-                || positioningResultsOps.size() > 0
-                || indexingResultsOps.size() > 0) {
-
-            // Hough Pre Ops
-            setStatus("--- Hough Pre Operations ---");
-            for (HoughPreOps op : houghPreOps)
-                currentPatternMap =
-                        (ByteMap) runOperation(op, currentPatternMap);
-
-            // Hough Op
-            setStatus("--- Hough Operation ---");
-            currentHoughMap =
-                    (HoughMap) runOperation(houghOp, currentPatternMap);
-            sourceHoughMap =
-                    (HoughMap) updateSourceMap(sourceHoughMap, currentHoughMap);
-
-            // Hough Post Ops
-            setStatus("--- Hough Post Operations ---");
-            for (HoughPostOps op : houghPostOps) {
-                currentHoughMap = (HoughMap) runOperation(op, currentHoughMap);
-                sourceHoughMap =
-                        (HoughMap) updateSourceMap(sourceHoughMap,
-                                currentHoughMap);
+        for (ExpStep step : steps) {
+            if (step.stage != stage) {
+                stage = step.stage;
+                setStatus("--- " + stage + " ---");
             }
 
-            // Hough Results Ops
-            setStatus("--- Hough Results Operations ---");
-            for (HoughResultsOps op : houghResultsOps)
-                runResultsOperation(op, currentHoughMap);
-
-            // Test to continue
-            if (detectionResultsOps.size() > 0
-                    || positioningResultsOps.size() > 0
-                    || indexingResultsOps.size() > 0) {
-
-                // Detection Pre Ops
-                setStatus("--- Detection Pre Operations ---");
-                for (DetectionPreOps op : detectionPreOps) {
-                    currentHoughMap =
-                            (HoughMap) runOperation(op, currentHoughMap);
-                    sourceHoughMap =
-                            (HoughMap) updateSourceMap(sourceHoughMap,
-                                    currentHoughMap);
-                }
-
-                // Detection Op
-                setStatus("--- Detection Operation ---");
-
-                currentPeaksMap =
-                        (BinMap) runOperation(detectionOp, currentHoughMap);
-                sourcePeaksMap =
-                        (BinMap) updateSourceMap(sourcePeaksMap,
-                                currentPeaksMap);
-
-                // Detection Post Ops
-                setStatus("--- Detection Post Operations ---");
-                for (DetectionPostOps op : detectionPostOps) {
-                    currentPeaksMap =
-                            (BinMap) runOperation(op, currentPeaksMap);
-                    sourcePeaksMap =
-                            (BinMap) updateSourceMap(sourcePeaksMap,
-                                    currentPeaksMap);
-                }
-
-                // Detection Results Ops
-                setStatus("--- Detection Results Operations ---");
-                for (DetectionResultsOps op : detectionResultsOps)
-                    runResultsOperation(op, currentPeaksMap);
-
-                // Test to continue
-                if (positioningResultsOps.size() > 0
-                        || indexingResultsOps.size() > 0) {
-
-                    // Positioning Pre Ops
-                    setStatus("--- Positioning Pre Operations ---");
-                    for (PositioningPreOps op : positioningPreOps) {
-                        currentPeaksMap =
-                                (BinMap) runOperation(op, currentPeaksMap);
-                        sourcePeaksMap =
-                                (BinMap) updateSourceMap(sourcePeaksMap,
-                                        currentPeaksMap);
-                    }
-
-                    // Positioning Op
-                    setStatus("--- Positioning Operation ---");
-
-                    currentPeaks =
-                            (HoughPeak[]) runOperation(positioningOp,
-                                    currentPeaksMap, sourceHoughMap);
-
-                    // Positioning Post Ops
-                    setStatus("--- Positioning Post Operations ---");
-                    for (PositioningPostOps op : positioningPostOps)
-                        currentPeaks =
-                                (HoughPeak[]) runOperation(op,
-                                        (Object[]) currentPeaks);
-
-                    // Positioning Results Ops
-                    setStatus("--- Positioning Results Operations ---");
-                    for (PositioningResultsOps op : positioningResultsOps)
-                        runResultsOperation(op, (Object[]) currentPeaks);
-
-                    // Test to continue
-                    if (indexingResultsOps.size() > 0) {
-
-                        // Indexing Pre Ops
-                        setStatus("--- Indexing Pre Operations ---");
-                        for (IndexingPreOps op : indexingPreOps)
-                            currentPeaks =
-                                    (HoughPeak[]) runOperation(op,
-                                            (Object[]) currentPeaks);
-
-                        // Indexing Op
-                        setStatus("--- Indexing Operation ---");
-                        currentSolutions =
-                                (Solution[]) runOperation(indexingOp,
-                                        (Object[]) currentPeaks);
-
-                        // Indexing Post Ops
-                        setStatus("--- Indexing Post Operations ---");
-                        for (IndexingPostOps op : indexingPostOps)
-                            currentSolutions =
-                                    (Solution[]) runOperation(op,
-                                            (Object[]) currentSolutions);
-
-                        // Indexing Results Ops
-                        setStatus("--- Indexing Results Operations ---");
-                        for (IndexingResultsOps op : indexingResultsOps)
-                            runResultsOperation(op, (Object[]) currentSolutions);
-                    }
-                }
-            }
+            runStep(step);
         }
     }
 
 
 
     /**
-     * Runs the specified operation with the given arguments.
+     * Runs the operation of a step with the given arguments. The execution is
+     * recorded by the profiler under the label of the step (stage and name of
+     * the operation).
      * 
-     * @param op
-     *            an operation
+     * @param step
+     *            step of this experiment
      * @param args
      *            arguments
      * @return return of the operation
      * @throws ExpError
      *             if an error occurs during the run
      */
-    private Object runOperation(ExpOperation op, Object... args)
+    private Object runOperation(ExpStep step, Object... args)
             throws ExpError {
-        setStatus("Executing " + op.getName() + "...");
+        ExpOperation op = step.op;
+        currentOp = op;
+
+        OpProfiler profiler = getProfiler();
+        long startTime = 0;
+        long startAllocatedBytes = 0;
+        if (profiler != null) {
+            startAllocatedBytes = profiler.allocatedBytes();
+            startTime = System.nanoTime();
+        }
 
-        Object out = op.execute(this, args);
+        Object out;
+        boolean error = true;
+        try {
+            out = op.execute(this, args);
+            error = false;
+        } finally {
+            currentOp = null;
+
+            if (profiler != null)
+                profiler.record(step.toString(), startTime,
+                        startAllocatedBytes, error);
+        }
 
         for (ExpListener listener : listeners)
             op.fireExecuted(listener, this, out);
 
-        setStatus("Executing " + op.getName() + "... DONE");
-
         return out;
     }
 
@@ -1328,21 +1555,152 @@ public class Exp extends Run {
 
     /**
      * Runs a results operation with the given arguments. The results are saved
-     * in the multimap using {@link #saveResult(OpResult)} method.
+     * in the multimap by the results sink. If the map of a result does not
+     * exist, it is created by the method {@link #createMap(OpResult)}.
      * 
-     * @param op
-     *            a results operation
+     * @param step
+     *            step of a results operation
      * @param args
      *            arguments
+     * @return results of the operation
      * @throws ExpError
      *             if an error occurs during the run
      */
-    private void runResultsOperation(ExpOperation op, Object... args)
+    private OpResult[] runResultsOperation(ExpStep step, Object... args)
             throws ExpError {
-        OpResult[] results = (OpResult[]) runOperation(op, args);
+        OpResult[] results = (OpResult[]) runOperation(step, args);
+
+        sink.save(step.op, results, currentIndex);
+
+        return results;
+    }
+
+
+
+    /**
+     * Applies a step executed by another experiment on the same pattern. The
+     * listeners are notified of the output of the step. Only the steps that
+     * can be shared (see {@link ExpStep.Stage#isShareable()}) may be applied.
+     * The runtime variables must first be restored from the experiment that
+     * executed the step.
+     * 
+     * @param step
+     *            step of this experiment
+     * @param out
+     *            output of the step
+     * @throws IllegalArgumentException
+     *             if the step cannot be shared
+     * @see #restoreRuntimeVariables(Snapshot)
+     */
+    void runSharedStep(ExpStep step, Object out) {
+        if (!step.stage.isShareable())
+            throw new IllegalArgumentException("Step (" + step
+                    + ") cannot be shared.");
 
-        for (OpResult result : results)
-            saveResult(result);
+        for (ExpListener listener : listeners)
+            step.op.fireExecuted(listener, this, out);
+    }
+
+
+
+    /**
+     * Executes a step on the current pattern and updates the runtime
+     * variables with its output.
+     * 
+     * @param step
+     *            step of this experiment
+     * @return output of the operation of the step
+     * @throws ExpError
+     *             if an error occurs during the run
+     */
+    Object runStep(ExpStep step) throws ExpError {
+        switch (step.stage) {
+        case PATTERN_OP:
+            currentPatternMap = (ByteMap) runOperation(step, currentIndex);
+            sourcePatternMap =
+                    (ByteMap) updateSourceMap(sourcePatternMap,
+                            currentPatternMap);
+            return currentPatternMap;
+
+        case PATTERN_POST:
+            currentPatternMap = (ByteMap) runOperation(step, currentPatternMap);
+            sourcePatternMap =
+                    (ByteMap) updateSourceMap(sourcePatternMap,
+                            currentPatternMap);
+            return currentPatternMap;
+
+        case PATTERN_RESULTS:
+            return runResultsOperation(step, currentPatternMap);
+
+        case HOUGH_PRE:
+            currentPatternMap = (ByteMap) runOperation(step, currentPatternMap);
+            return currentPatternMap;
+
+        case HOUGH_OP:
+            currentHoughMap = (HoughMap) runOperation(step, currentPatternMap);
+            sourceHoughMap =
+                    (HoughMap) updateSourceMap(sourceHoughMap, currentHoughMap);
+            return currentHoughMap;
+
+        case HOUGH_POST:
+        case DETECTION_PRE:
+            currentHoughMap = (HoughMap) runOperation(step, currentHoughMap);
+            sourceHoughMap =
+                    (HoughMap) updateSourceMap(sourceHoughMap, currentHoughMap);
+            return currentHoughMap;
+
+        case HOUGH_RESULTS:
+            return runResultsOperation(step, currentHoughMap);
+
+        case DETECTION_OP:
+            currentPeaksMap = (BinMap) runOperation(step, currentHoughMap);
+            sourcePeaksMap =
+                    (BinMap) updateSourceMap(sourcePeaksMap, currentPeaksMap);
+            return currentPeaksMap;
+
+        case DETECTION_POST:
+        case POSITIONING_PRE:
+            currentPeaksMap = (BinMap) runOperation(step, currentPeaksMap);
+            sourcePeaksMap =
+                    (BinMap) updateSourceMap(sourcePeaksMap, currentPeaksMap);
+            return currentPeaksMap;
+
+        case DETECTION_RESULTS:
+            return runResultsOperation(step, currentPeaksMap);
+
+        case POSITIONING_OP:
+            currentPeaks =
+                    (HoughPeak[]) runOperation(step, currentPeaksMap,
+                            sourceHoughMap);
+            return currentPeaks;
+
+        case POSITIONING_POST:
+        case INDEXING_PRE:
+            currentPeaks =
+                    (HoughPeak[]) runOperation(step, (Object[]) currentPeaks);
+            return currentPeaks;
+
+        case POSITIONING_RESULTS:
+            return runResultsOperation(step, (Object[]) currentPeaks);
+
+        case INDEXING_OP:
+            currentSolutions =
+                    (Solution[]) runOperation(step, (Object[]) currentPeaks);
+            return currentSolutions;
+
+        case INDEXING_POST:
+            currentSolutions =
+                    (Solution[]) runOperation(step,
+                            (Object[]) currentSolutions);
+            return currentSolutions;
+
+        case INDEXING_RESULTS:
+            return runResultsOperation(step, (Object[]) currentSolutions);
+
+        default:
+            throw new IllegalArgumentException("Unknown stage ("
+                    + step.stage + ").");
+        }
     }
 
 
@@ -1353,48 +1711,34 @@ public class Exp extends Run {
      * @param ex
      *            exception thrown
      */
-    private void saveError(ExpError ex) {
+    void saveError(ExpError ex) {
         mmap.getErrorMap().throwError(currentIndex, ex.getErrorCode());
     }
 
 
 
     /**
-     * Saves a result in a map with the given alias in the <code>EbsdMMap</code>
-     * . If the map does not exist, it is creates by the method
-     * {@link #createEmptyMap(String, Number)}. If the result is a
-     * <code>Byte</code> the result is saved in a <code>ByteMap</code>. For any
-     * other type of <code>Number</code>, the result is saved in a
-     * <code>RealMap</code>.
+     * Saves the runtime variables of the experiment in a snapshot.
      * 
-     * @param result
-     *            operation's result
+     * @return runtime variables
+     * @see #restoreRuntimeVariables(Snapshot)
      */
-    private void saveResult(OpResult result) {
-        Map map = mmap.getMap(result.alias);
+    Snapshot saveRuntimeVariables() {
+        return new Snapshot(this);
+    }
 
-        // Create map if it doesn't exist
-        if (map == null) {
-            map = createMap(result);
-            mmap.add(result.alias, map);
-        }
 
-        // Save value
-        if (result.type.equals(RealMap.class))
-            ((RealMap) map).pixArray[currentIndex] = result.value.floatValue();
-        else if (result.type.equals(ByteMap.class))
-            ((ByteMap) map).pixArray[currentIndex] = result.value.byteValue();
-        else if (result.type.equals(PhaseMap.class))
-            ((PhaseMap) map).pixArray[currentIndex] = result.value.byteValue();
-        else if (result.type.equals(BinMap.class))
-            ((BinMap) map).pixArray[currentIndex] =
-                    (result.value.intValue() == 0) ? (byte) 0 : (byte) 1;
-        else
-            throw new RuntimeException("Unknown type of map ("
-                    + result.type.toString() + ").");
 
-        // Set that the pixArray of the map was modified
-        map.setChanged(Map.MAP_CHANGED);
+    /**
+     * Sets the checkpoint of the experiment. The results are periodically
+     * saved in the checkpoint while the experiment is running so that it can
+     * be resumed with {@link #resume()}.
+     * 
+     * @param checkpoint
+     *            checkpoint or <code>null</code> to disable the checkpoint
+     */
+    public void setCheckpoint(ExpCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
     }
 
 
@@ -1417,9 +1761,81 @@ public class Exp extends Run {
 
 
 
+    /**
+     * Sets the runtime state of an operation in this experiment. The state is
+     * typically set in {@link ExpOperation#setUp(Exp)} and removed in
+     * {@link ExpOperation#tearDown(Exp)}.
+     * 
+     * @param op
+     *            an operation
+     * @param state
+     *            state of the operation or <code>null</code> to remove it
+     * @see #getOpState(ExpOperation)
+     */
+    public synchronized void setOpState(ExpOperation op, Object state) {
+        if (state == null)
+            opStates.remove(op);
+        else
+            opStates.put(op, state);
+    }
+
+
+
+    /**
+     * Starts the run of the experiment. The directory of the results is
+     * created, the operations are initialized and the checkpoint is opened.
+     * While the operations are initialized, the current index is the index of
+     * the first pattern, so that an operation can tell if the run is resumed.
+     * 
+     * @param firstIndex
+     *            index of the first pattern to process
+     */
+    void start(int firstIndex) {
+        setStatus("--- START ---");
+
+        // Create directory for the experiment results
+        createDir();
+
+        // Resolve the results' maps again, they may have changed
+        sink.clear();
+
+        // Initialize ops
+        setStatus("--- Initializing ops ---");
+        currentIndex = firstIndex;
+        for (ExpOperation op : getAllOperations())
+            op.setUp(this);
+
+        // Open checkpoint
+        if (checkpoint != null) {
+            try {
+                checkpoint.start(this, firstIndex);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+
+
+    /**
+     * Starts the processing of a pattern. The runtime variables are reset.
+     * 
+     * @param index
+     *            index of the pattern
+     */
+    void startPattern(int index) {
+        initRuntimeVariables();
+
+        // Set current index
+        currentIndex = index;
+    }
+
+
+
     /**
      * Checks whether the size of the current map has changed. If so, the source
-     * map is updated to be a duplicate of the current map.
+     * map is updated to be a copy of the current map. The copy is taken from
+     * the pool of maps of the experiment.
      * 
      * @param source
      *            original map obtained after a "op" operation
@@ -1428,11 +1844,12 @@ public class Exp extends Run {
      * @return new source map or original one
      */
     private Map updateSourceMap(Map source, Map current) {
-        if (source == null)
-            source = current.duplicate();
-
-        if (!source.isSameSize(current))
-            source = current.duplicate();
+        if (source == null || !source.isSameSize(current)) {
+            if (current instanceof ByteMap)
+                source = pool.acquireCopy((ByteMap) current);
+            else
+                source = current.duplicate();
+        }
 
         return source;
     }
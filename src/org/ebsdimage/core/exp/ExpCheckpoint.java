@@ -0,0 +1,639 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import org.ebsdimage.core.PhaseMap;
+
+import rmlimage.core.BinMap;
+import rmlimage.core.ByteMap;
+import rmlimage.core.Map;
+import rmlimage.module.real.core.RealMap;
+
+/**
+ * Periodic checkpoint of a running experiment. The checkpoint is a journal
+ * appended every <code>interval</code> patterns with the range of indexes that
+ * were completed and the corresponding segments of every map of the
+ * experiment's multimap. Only the segment between the previous and the
+ * current checkpoint is written since an experiment only modifies the pixels
+ * at the indexes it processes.
+ * <p/>
+ * The segments are copied on the experiment's thread (a few kilobytes) and
+ * written to disk by a background thread, so the experiment is never paused
+ * by the disk I/O. Each record is terminated by a CRC32 checksum: a record
+ * that was partially written when the program was interrupted is discarded
+ * when the checkpoint is restored.
+ * <p/>
+ * The file format is the header <code>EXPCKPT</code> followed by the version,
+ * the width and height of the multimap, the start index and the number of
+ * patterns of the experiment (all integers). Each record consists of its
+ * length, the payload and the CRC32 of the payload. The payload contains the
+ * first and last (exclusive) index of the range, the declarations of the
+ * results maps created since the previous record (alias, type and units) and
+ * the segments of the maps (alias followed by the raw pixels).
+ * 
+ * @author Philippe T. Pinard
+ */
+public class ExpCheckpoint {
+
+    /** Header of the checkpoint file. */
+    public static final String FILE_HEADER = "EXPCKPT";
+
+    /** Version of the checkpoint file. */
+    public static final int VERSION = 1;
+
+    /** Default number of patterns between two checkpoints. */
+    public static final int DEFAULT_INTERVAL = 1000;
+
+    /** Type code of a <code>RealMap</code>. */
+    private static final byte TYPE_REAL = 0;
+
+    /** Type code of a <code>ByteMap</code>. */
+    private static final byte TYPE_BYTE = 1;
+
+    /** Type code of a <code>PhaseMap</code>. */
+    private static final byte TYPE_PHASE = 2;
+
+    /** Type code of a <code>BinMap</code>. */
+    private static final byte TYPE_BIN = 3;
+
+
+
+    /**
+     * Returns the default checkpoint file of an experiment. The file is
+     * located in the working directory of the experiment and is named after
+     * the experiment.
+     * 
+     * @param exp
+     *            an experiment
+     * @return checkpoint file
+     */
+    public static File getDefaultFile(Exp exp) {
+        return new File(exp.getDir(), exp.getName() + ".ckpt");
+    }
+
+
+
+    /**
+     * Returns the type code of the specified map type.
+     * 
+     * @param type
+     *            type of map
+     * @return type code
+     * @throws IllegalArgumentException
+     *             if the type of map is unknown
+     */
+    private static byte getTypeCode(Class<? extends Map> type) {
+        if (type.equals(RealMap.class))
+            return TYPE_REAL;
+        else if (type.equals(ByteMap.class))
+            return TYPE_BYTE;
+        else if (type.equals(PhaseMap.class))
+            return TYPE_PHASE;
+        else if (type.equals(BinMap.class))
+            return TYPE_BIN;
+        else
+            throw new IllegalArgumentException("Unknown type of map ("
+                    + type.toString() + ").");
+    }
+
+
+
+    /**
+     * Returns the map type of the specified type code.
+     * 
+     * @param code
+     *            type code
+     * @return type of map
+     * @throws IOException
+     *             if the type code is unknown
+     */
+    private static Class<? extends Map> getType(byte code) throws IOException {
+        switch (code) {
+        case TYPE_REAL:
+            return RealMap.class;
+        case TYPE_BYTE:
+            return ByteMap.class;
+        case TYPE_PHASE:
+            return PhaseMap.class;
+        case TYPE_BIN:
+            return BinMap.class;
+        default:
+            throw new IOException("Unknown type code (" + code + ").");
+        }
+    }
+
+    /** Checkpoint file. */
+    public final File file;
+
+    /** Number of patterns between two checkpoints. */
+    public final int interval;
+
+    /** Logger. */
+    private final Logger logger = Logger.getLogger("ebsd");
+
+    /** Background thread writing the records. */
+    private ExecutorService writer;
+
+    /** Output stream of the checkpoint file. */
+    private FileOutputStream outStream;
+
+    /** Multimap of the running experiment. */
+    private ExpMMap mmap;
+
+    /** First index not yet written in the checkpoint. */
+    private int lastIndex;
+
+    /** Results maps created since the last record. */
+    private final ArrayList<OpResult> declarations = new ArrayList<OpResult>();
+
+    /** Length of the valid part of the file found by the last restore. */
+    private long validLength = -1;
+
+    /** Error thrown by the background thread. */
+    private volatile IOException writeError = null;
+
+
+
+    /**
+     * Creates a new <code>ExpCheckpoint</code>.
+     * 
+     * @param file
+     *            checkpoint file
+     * @param interval
+     *            number of patterns between two checkpoints
+     * @throws NullPointerException
+     *             if the file is null
+     * @throws IllegalArgumentException
+     *             if the interval is less than 1
+     */
+    public ExpCheckpoint(File file, int interval) {
+        if (file == null)
+            throw new NullPointerException("File cannot be null.");
+        if (interval < 1)
+            throw new IllegalArgumentException("Interval (" + interval
+                    + ") must be greater than 0.");
+
+        this.file = file;
+        this.interval = interval;
+    }
+
+
+
+    /**
+     * Declares a results map created by the experiment. The declaration is
+     * written with the next record so that the map can be recreated with the
+     * same type and units when the checkpoint is restored.
+     * 
+     * @param result
+     *            result from which the map was created
+     */
+    protected synchronized void declare(OpResult result) {
+        declarations.add(result);
+    }
+
+
+
+    /**
+     * Deletes the checkpoint file. Typically called once the results of the
+     * experiment were saved.
+     * 
+     * @return <code>true</code> if the file was deleted
+     */
+    public boolean delete() {
+        return file.delete();
+    }
+
+
+
+    /**
+     * Writes the remaining segment and waits for the background thread to
+     * write all the records. Called at the end of the experiment, even if it
+     * was interrupted.
+     * 
+     * @param endIndex
+     *            index following the last processed pattern
+     */
+    protected void finish(int endIndex) {
+        if (writer == null)
+            return;
+
+        if (endIndex > lastIndex)
+            flush(endIndex);
+
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            outStream.close();
+        } catch (IOException e) {
+            logger.warning("Checkpoint could not be closed because: "
+                    + e.getMessage());
+        }
+
+        if (writeError != null)
+            logger.warning("Checkpoint could not be written because: "
+                    + writeError.getMessage());
+
+        writer = null;
+        outStream = null;
+        mmap = null;
+    }
+
+
+
+    /**
+     * Copies the segment of all maps between the last checkpoint and the
+     * specified index and hands it to the background thread.
+     * 
+     * @param endIndex
+     *            last index (exclusive) of the segment
+     */
+    private void flush(int endIndex) {
+        final int startIndex = lastIndex;
+        final int length = endIndex - startIndex;
+
+        final OpResult[] decls;
+        synchronized (this) {
+            decls = declarations.toArray(new OpResult[declarations.size()]);
+            declarations.clear();
+        }
+
+        final ArrayList<String> aliases = new ArrayList<String>();
+        final ArrayList<Object> segments = new ArrayList<Object>();
+        for (Entry<String, Map> entry : mmap.getEntrySet()) {
+            Map map = entry.getValue();
+
+            Object segment;
+            if (map instanceof RealMap) {
+                segment = new float[length];
+                System.arraycopy(((RealMap) map).pixArray, startIndex,
+                        segment, 0, length);
+            } else if (map instanceof BinMap) {
+                segment = new byte[length];
+                System.arraycopy(((BinMap) map).pixArray, startIndex,
+                        segment, 0, length);
+            } else if (map instanceof ByteMap) {
+                segment = new byte[length];
+                System.arraycopy(((ByteMap) map).pixArray, startIndex,
+                        segment, 0, length);
+            } else
+                continue;
+
+            aliases.add(entry.getKey());
+            segments.add(segment);
+        }
+
+        lastIndex = endIndex;
+
+        writer.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    writeRecord(startIndex, startIndex + length, decls,
+                            aliases, segments);
+                } catch (IOException e) {
+                    writeError = e;
+                }
+            }
+        });
+    }
+
+
+
+    /**
+     * Reads the header of the checkpoint file and validates it against the
+     * specified experiment.
+     * 
+     * @param in
+     *            input stream
+     * @param exp
+     *            experiment
+     * @throws IOException
+     *             if the header is invalid or does not match the experiment
+     */
+    private void readHeader(DataInputStream in, Exp exp) throws IOException {
+        byte[] header = new byte[FILE_HEADER.length()];
+        in.readFully(header);
+        if (!FILE_HEADER.equals(new String(header, "US-ASCII")))
+            throw new IOException(file + " is not an experiment checkpoint.");
+
+        int version = in.readInt();
+        if (version != VERSION)
+            throw new IOException("Invalid checkpoint version: " + version);
+
+        int width = in.readInt();
+        int height = in.readInt();
+        int startIndex = in.readInt();
+        int size = in.readInt();
+
+        if (width != exp.mmap.width || height != exp.mmap.height
+                || startIndex != exp.getPatternOp().startIndex
+                || size != exp.getPatternOp().size)
+            throw new IOException("The checkpoint (" + file
+                    + ") does not correspond to the experiment.");
+    }
+
+
+
+    /**
+     * Restores the results of the experiment from the checkpoint file. The
+     * maps of the experiment's multimap are filled with the segments of all
+     * the valid records and the results maps are created if needed.
+     * 
+     * @param exp
+     *            experiment to restore
+     * @return index of the first pattern that was not processed
+     * @throws IOException
+     *             if the checkpoint cannot be read or does not correspond to
+     *             the experiment
+     */
+    public int restore(Exp exp) throws IOException {
+        int index = exp.getPatternOp().startIndex;
+
+        if (!file.exists()) {
+            validLength = -1;
+            return index;
+        }
+
+        DataInputStream in =
+                new DataInputStream(new BufferedInputStream(
+                        new FileInputStream(file)));
+
+        try {
+            readHeader(in, exp);
+            long length = FILE_HEADER.length() + 5 * 4;
+            long fileLength = file.length();
+
+            CRC32 crc = new CRC32();
+            while (length + 4 < fileLength) {
+                int payloadLength = in.readInt();
+                if (payloadLength < 0
+                        || length + 4 + payloadLength + 8 > fileLength)
+                    break; // Truncated record
+
+                byte[] payload = new byte[payloadLength];
+                in.readFully(payload);
+
+                crc.reset();
+                crc.update(payload);
+                if (in.readLong() != crc.getValue())
+                    break; // Corrupted record
+
+                int endIndex = restoreRecord(exp, payload, index);
+                if (endIndex < 0)
+                    break; // Non-contiguous record
+
+                index = endIndex;
+                length += 4 + payloadLength + 8;
+            }
+
+            validLength = length;
+        } finally {
+            in.close();
+        }
+
+        exp.mmap.notifyListeners();
+
+        return index;
+    }
+
+
+
+    /**
+     * Restores the declarations and segments of a record.
+     * 
+     * @param exp
+     *            experiment to restore
+     * @param payload
+     *            payload of the record
+     * @param index
+     *            expected first index of the record
+     * @return last index (exclusive) of the record or -1 if the record does
+     *         not start at the expected index
+     * @throws IOException
+     *             if the record cannot be read
+     */
+    private int restoreRecord(Exp exp, byte[] payload, int index)
+            throws IOException {
+        DataInputStream in =
+                new DataInputStream(new ByteArrayInputStream(payload));
+
+        int startIndex = in.readInt();
+        int endIndex = in.readInt();
+        if (startIndex != index)
+            return -1;
+
+        int length = endIndex - startIndex;
+
+        // Declarations
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String alias = in.readUTF();
+            Class<? extends Map> type = getType(in.readByte());
+            String units = in.readUTF();
+
+            if (exp.mmap.getMap(alias) == null)
+                exp.mmap.add(alias,
+                        exp.createMap(new OpResult(alias, 0, units, type)));
+        }
+
+        // Segments
+        count = in.readInt();
+        byte[] buffer = new byte[4 * length];
+        for (int i = 0; i < count; i++) {
+            String alias = in.readUTF();
+            byte typeCode = in.readByte();
+
+            int byteCount = (typeCode == TYPE_REAL) ? 4 * length : length;
+            in.readFully(buffer, 0, byteCount);
+
+            Map map = exp.mmap.getMap(alias);
+            if (map == null) {
+                logger.warning("Map " + alias + " of the checkpoint "
+                        + "is not defined in the experiment.");
+                continue;
+            }
+
+            if (typeCode == TYPE_REAL && map instanceof RealMap)
+                ByteBuffer.wrap(buffer, 0, byteCount).asFloatBuffer().get(
+                        ((RealMap) map).pixArray, startIndex, length);
+            else if (typeCode != TYPE_REAL && map instanceof BinMap)
+                System.arraycopy(buffer, 0, ((BinMap) map).pixArray,
+                        startIndex, length);
+            else if (typeCode != TYPE_REAL && map instanceof ByteMap)
+                System.arraycopy(buffer, 0, ((ByteMap) map).pixArray,
+                        startIndex, length);
+            else
+                throw new IOException("Type of map " + alias
+                        + " does not match the checkpoint.");
+
+            map.setChanged(Map.MAP_CHANGED);
+        }
+
+        return endIndex;
+    }
+
+
+
+    /**
+     * Opens the checkpoint before running the experiment. If the experiment
+     * starts at its first pattern, a new checkpoint file is created. Otherwise
+     * the records are appended after the valid part of the existing file
+     * found by {@link #restore(Exp)}.
+     * 
+     * @param exp
+     *            running experiment
+     * @param firstIndex
+     *            index of the first pattern to process
+     * @throws IOException
+     *             if the checkpoint file cannot be opened
+     */
+    protected void start(Exp exp, int firstIndex) throws IOException {
+        mmap = exp.mmap;
+        lastIndex = firstIndex;
+        writeError = null;
+
+        synchronized (this) {
+            declarations.clear();
+        }
+
+        if (firstIndex == exp.getPatternOp().startIndex || validLength < 0) {
+            outStream = new FileOutputStream(file, false);
+
+            DataOutputStream out = new DataOutputStream(outStream);
+            out.write(FILE_HEADER.getBytes("US-ASCII"));
+            out.writeInt(VERSION);
+            out.writeInt(mmap.width);
+            out.writeInt(mmap.height);
+            out.writeInt(exp.getPatternOp().startIndex);
+            out.writeInt(exp.getPatternOp().size);
+            out.flush();
+        } else {
+            // Discard the partially written record, if any
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                raf.setLength(validLength);
+            } finally {
+                raf.close();
+            }
+
+            outStream = new FileOutputStream(file, true);
+        }
+
+        writer = Executors.newSingleThreadExecutor();
+    }
+
+
+
+    /**
+     * Notifies the checkpoint that the pattern at the specified index was
+     * processed. A record is written every <code>interval</code> patterns.
+     * 
+     * @param index
+     *            index of the processed pattern
+     */
+    protected void update(int index) {
+        if (writer != null && index + 1 - lastIndex >= interval)
+            flush(index + 1);
+    }
+
+
+
+    /**
+     * Writes a record in the checkpoint file. Executed by the background
+     * thread.
+     * 
+     * @param startIndex
+     *            first index of the segments
+     * @param endIndex
+     *            last index (exclusive) of the segments
+     * @param decls
+     *            results maps created since the last record
+     * @param aliases
+     *            aliases of the maps
+     * @param segments
+     *            segments of the maps (<code>float[]</code> or
+     *            <code>byte[]</code>)
+     * @throws IOException
+     *             if an error occurs while writing
+     */
+    private void writeRecord(int startIndex, int endIndex, OpResult[] decls,
+            ArrayList<String> aliases, ArrayList<Object> segments)
+            throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payload);
+
+        out.writeInt(startIndex);
+        out.writeInt(endIndex);
+
+        out.writeInt(decls.length);
+        for (OpResult decl : decls) {
+            out.writeUTF(decl.alias);
+            out.writeByte(getTypeCode(decl.type));
+            out.writeUTF(decl.units);
+        }
+
+        out.writeInt(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            out.writeUTF(aliases.get(i));
+
+            Object segment = segments.get(i);
+            if (segment instanceof float[]) {
+                float[] values = (float[]) segment;
+                ByteBuffer buffer = ByteBuffer.allocate(4 * values.length);
+                buffer.asFloatBuffer().put(values);
+
+                out.writeByte(TYPE_REAL);
+                out.write(buffer.array());
+            } else {
+                out.writeByte(TYPE_BYTE);
+                out.write((byte[]) segment);
+            }
+        }
+        out.flush();
+
+        byte[] bytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        DataOutputStream fileOut =
+                new DataOutputStream(new BufferedOutputStream(outStream,
+                        bytes.length + 12));
+        fileOut.writeInt(bytes.length);
+        fileOut.write(bytes);
+        fileOut.writeLong(crc.getValue());
+        fileOut.flush();
+
+        outStream.getFD().sync();
+    }
+
+}
@@ -111,6 +111,17 @@ public interface ExpListener {
 
 
 
+    /**
+     * Action fired once the experiment has processed all the patterns (or was
+     * interrupted) and its operations were flushed.
+     * 
+     * @param exp
+     *            experiment calling this method
+     */
+    public void expFinished(Exp exp);
+
+
+
     /**
      * Action fired after the Hough operation is performed.
      * 
@@ -20,11 +20,14 @@ package org.ebsdimage.core.exp;
 import junittools.core.AlmostEquable;
 import net.jcip.annotations.Immutable;
 
+import org.ebsdimage.core.ByteMapStats;
 import org.ebsdimage.core.ErrorCode;
 import org.ebsdimage.core.ErrorMap;
 import org.ebsdimage.core.run.Operation;
 import org.simpleframework.xml.Root;
 
+import rmlimage.core.ByteMap;
+
 /**
  * Superclass for all operations of an experiment.
  * 
@@ -34,6 +37,52 @@ import org.simpleframework.xml.Root;
 @Root
 public abstract class ExpOperation implements AlmostEquable, Operation {
 
+    /**
+     * Returns a copy of a map. If an experiment is given, the copy is taken
+     * from its pool of maps and is only valid while the current pattern is
+     * processed.
+     * 
+     * @param <T>
+     *            type of map
+     * @param exp
+     *            experiment executing the operation or <code>null</code>
+     * @param map
+     *            a map
+     * @return copy of the map
+     * @throws NullPointerException
+     *             if the map is null
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T extends ByteMap> T duplicate(Exp exp, T map) {
+        if (exp == null)
+            return (T) map.duplicate();
+        else
+            return exp.getMapPool().acquireCopy(map);
+    }
+
+
+
+    /**
+     * Returns the statistics of a map. If an experiment is given, the
+     * statistics are taken from its cache so that they are only calculated
+     * once per pattern.
+     * 
+     * @param exp
+     *            experiment executing the operation or <code>null</code>
+     * @param map
+     *            a map
+     * @return statistics of the map
+     * @throws NullPointerException
+     *             if the map is null
+     */
+    protected static ByteMapStats getStats(Exp exp, ByteMap map) {
+        if (exp == null)
+            return new ByteMapStats(map);
+        else
+            return exp.getStats(map);
+    }
+
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
@@ -0,0 +1,222 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * Step of the processing of a pattern by an experiment. A step is the
+ * execution of one operation at one stage of the experiment. The steps of an
+ * experiment are given by {@link Exp#getSteps()} in the order they are
+ * executed.
+ * 
+ * @author Philippe T. Pinard
+ */
+@Immutable
+public class ExpStep {
+
+    /** Stages of the processing of a pattern. */
+    public enum Stage {
+        /** Pattern operation. */
+        PATTERN_OP("Pattern Operation"),
+
+        /** Pattern post operations. */
+        PATTERN_POST("Pattern Post Operations"),
+
+        /** Pattern results operations. */
+        PATTERN_RESULTS("Pattern Results Operations"),
+
+        /** Hough pre operations. */
+        HOUGH_PRE("Hough Pre Operations"),
+
+        /** Hough operation. */
+        HOUGH_OP("Hough Operation"),
+
+        /** Hough post operations. */
+        HOUGH_POST("Hough Post Operations"),
+
+        /** Hough results operations. */
+        HOUGH_RESULTS("Hough Results Operations"),
+
+        /** Detection pre operations. */
+        DETECTION_PRE("Detection Pre Operations"),
+
+        /** Detection operation. */
+        DETECTION_OP("Detection Operation"),
+
+        /** Detection post operations. */
+        DETECTION_POST("Detection Post Operations"),
+
+        /** Detection results operations. */
+        DETECTION_RESULTS("Detection Results Operations"),
+
+        /** Positioning pre operations. */
+        POSITIONING_PRE("Positioning Pre Operations"),
+
+        /** Positioning operation. */
+        POSITIONING_OP("Positioning Operation"),
+
+        /** Positioning post operations. */
+        POSITIONING_POST("Positioning Post Operations"),
+
+        /** Positioning results operations. */
+        POSITIONING_RESULTS("Positioning Results Operations"),
+
+        /** Indexing pre operations. */
+        INDEXING_PRE("Indexing Pre Operations"),
+
+        /** Indexing operation. */
+        INDEXING_OP("Indexing Operation"),
+
+        /** Indexing post operations. */
+        INDEXING_POST("Indexing Post Operations"),
+
+        /** Indexing results operations. */
+        INDEXING_RESULTS("Indexing Results Operations");
+
+        /** Label of the stage. */
+        private final String label;
+
+
+
+        /**
+         * Creates a new <code>Stage</code>.
+         * 
+         * @param label
+         *            label of the stage
+         */
+        private Stage(String label) {
+            this.label = label;
+        }
+
+
+
+        /**
+         * Checks whether the operations of this stage save results in the
+         * multimap.
+         * 
+         * @return <code>true</code> if the stage is a results stage
+         */
+        public boolean isResults() {
+            return this == PATTERN_RESULTS || this == HOUGH_RESULTS
+                    || this == DETECTION_RESULTS || this == POSITIONING_RESULTS
+                    || this == INDEXING_RESULTS;
+        }
+
+
+
+        /**
+         * Checks whether the steps of this stage can be shared by experiments
+         * processing the same pattern. Only the pattern, Hough and detection
+         * operations, which transform the maps of the pattern, can be shared.
+         * The results operations save in the multimap or in the files of an
+         * experiment and must be executed by each experiment.
+         * 
+         * @return <code>true</code> if the steps of the stage can be shared
+         */
+        public boolean isShareable() {
+            return this == PATTERN_OP || this == PATTERN_POST
+                    || this == HOUGH_PRE || this == HOUGH_OP
+                    || this == HOUGH_POST || this == DETECTION_PRE
+                    || this == DETECTION_OP || this == DETECTION_POST;
+        }
+
+
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /** Stage of the step. */
+    public final Stage stage;
+
+    /** Operation executed by the step. */
+    public final ExpOperation op;
+
+
+
+    /**
+     * Creates a new <code>ExpStep</code>.
+     * 
+     * @param stage
+     *            stage of the step
+     * @param op
+     *            operation executed by the step
+     * @throws NullPointerException
+     *             if the stage or the operation is null
+     */
+    public ExpStep(Stage stage, ExpOperation op) {
+        if (stage == null)
+            throw new NullPointerException("Stage cannot be null.");
+        if (op == null)
+            throw new NullPointerException("Operation cannot be null.");
+
+        this.stage = stage;
+        this.op = op;
+    }
+
+
+
+    /**
+     * Checks whether two steps are equal. Two steps are equal if they are at
+     * the same stage and if their operations are equal. Equal steps produce
+     * the same output from the same input.
+     * 
+     * @param obj
+     *            other object
+     * @return <code>true</code> if the steps are equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+
+        ExpStep other = (ExpStep) obj;
+        if (stage != other.stage)
+            return false;
+        if (!op.equals(other.op))
+            return false;
+
+        return true;
+    }
+
+
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + stage.hashCode();
+        result = prime * result + op.hashCode();
+        return result;
+    }
+
+
+
+    @Override
+    public String toString() {
+        return stage + ": " + op.getName();
+    }
+
+}
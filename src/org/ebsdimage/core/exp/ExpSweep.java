@@ -0,0 +1,403 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+
+import org.ebsdimage.core.exp.ops.pattern.op.PatternOp;
+
+import rmlshared.ui.Monitorable;
+
+/**
+ * Runs a sweep of experiments that only differ by some of their operations,
+ * such as the experiments created from an <code>OperationGenerator</code> by
+ * {@link ExpUtil#createSweep}.
+ * <p/>
+ * The steps of the experiments (see {@link Exp#getSteps()}) are arranged in a
+ * tree where the experiments with equal leading steps share the same branch.
+ * For each pattern, every distinct pattern, Hough and detection step (see
+ * {@link ExpStep.Stage#isShareable()}) is executed once by one of the
+ * experiments of its branch and its output is handed to the others. For
+ * example, experiments that only differ by their detection operation load
+ * each pattern and calculate its Hough transform once. The results, the
+ * positioning and the indexing operations are executed by each experiment, so
+ * that the results are saved in the multimap and in the files of every
+ * experiment and their listeners are notified as if the experiments were run
+ * one after the other.
+ * <p/>
+ * All the experiments must process the same range of patterns and must not
+ * share any operation instance.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class ExpSweep implements Monitorable {
+
+    /** Node of the tree of the steps of the experiments. */
+    private static class Node {
+
+        /** Whether the step of this node is shared by several experiments. */
+        public final boolean shared;
+
+        /** Experiments executing the step of this node. */
+        public final ArrayList<Exp> exps = new ArrayList<Exp>();
+
+        /** Step of each experiment, in the same order as the experiments. */
+        public final ArrayList<ExpStep> steps = new ArrayList<ExpStep>();
+
+        /** Experiments executing a results step after this node. */
+        public final ArrayList<Exp> resultsExps = new ArrayList<Exp>();
+
+        /** Results steps, in the same order as their experiments. */
+        public final ArrayList<ExpStep> resultsSteps = new ArrayList<ExpStep>();
+
+        /** Following distinct steps. */
+        public final ArrayList<Node> children = new ArrayList<Node>();
+
+
+
+        /**
+         * Creates a new <code>Node</code>.
+         * 
+         * @param shared
+         *            whether the step of this node can be shared
+         */
+        public Node(boolean shared) {
+            this.shared = shared;
+        }
+
+
+
+        /**
+         * Returns the shared child node with the specified step.
+         * 
+         * @param step
+         *            a step
+         * @return child node or <code>null</code> if no shared child has this
+         *         step
+         */
+        public Node getChild(ExpStep step) {
+            for (Node child : children)
+                if (child.shared && child.steps.get(0).equals(step))
+                    return child;
+            return null;
+        }
+
+
+
+        /**
+         * Returns the number of steps executed below this node.
+         * 
+         * @return number of steps
+         */
+        public int getStepCount() {
+            int count = resultsSteps.size() + children.size();
+            for (Node child : children)
+                count += child.getStepCount();
+            return count;
+        }
+    }
+
+    /** Experiments of the sweep. */
+    private final Exp[] exps;
+
+    /** Root of the tree of the steps. */
+    private final Node root = new Node(true);
+
+    /** Index of the first pattern. */
+    private final int startIndex;
+
+    /** Number of patterns. */
+    private final int size;
+
+    /** Progress value. */
+    private double progress = 0.0;
+
+    /** Status. */
+    private String status = "";
+
+    /** Flag indicating if the sweep should be interrupted. */
+    private boolean isInterrupted = false;
+
+
+
+    /**
+     * Creates a new <code>ExpSweep</code>.
+     * 
+     * @param exps
+     *            experiments of the sweep
+     * @throws NullPointerException
+     *             if the experiments or one of them is null
+     * @throws IllegalArgumentException
+     *             if no experiment is given
+     * @throws IllegalArgumentException
+     *             if an experiment is given twice
+     * @throws IllegalArgumentException
+     *             if the experiments do not process the same range of patterns
+     * @throws IllegalArgumentException
+     *             if an operation instance is used by two experiments
+     */
+    public ExpSweep(Exp[] exps) {
+        if (exps == null)
+            throw new NullPointerException("Experiments cannot be null.");
+        if (exps.length < 1)
+            throw new IllegalArgumentException(
+                    "At least one experiment must be defined.");
+
+        PatternOp patternOp = exps[0].getPatternOp();
+        startIndex = patternOp.startIndex;
+        size = patternOp.size;
+
+        IdentityHashMap<ExpOperation, Exp> owners =
+                new IdentityHashMap<ExpOperation, Exp>();
+
+        for (int i = 0; i < exps.length; i++) {
+            if (exps[i] == null)
+                throw new NullPointerException("Experiment (" + i
+                        + ") cannot be null.");
+
+            for (int j = 0; j < i; j++)
+                if (exps[j] == exps[i])
+                    throw new IllegalArgumentException("Experiment ("
+                            + exps[i].getName() + ") is given twice.");
+
+            patternOp = exps[i].getPatternOp();
+            if (patternOp.startIndex != startIndex || patternOp.size != size)
+                throw new IllegalArgumentException(
+                        "The patterns of experiment (" + exps[i].getName()
+                                + ") must start at " + startIndex + " and be "
+                                + size + " patterns long.");
+
+            // Each experiment sets up and tears down its own operations
+            for (ExpOperation op : exps[i].getAllOperations()) {
+                Exp owner = owners.put(op, exps[i]);
+                if (owner != null && owner != exps[i])
+                    throw new IllegalArgumentException("Operation ("
+                            + op.getName() + ") is used by experiments ("
+                            + owner.getName() + ") and (" + exps[i].getName()
+                            + ").");
+            }
+        }
+
+        this.exps = exps.clone();
+
+        // Arrange the steps in a tree
+        for (Exp exp : this.exps) {
+            Node node = root;
+
+            for (ExpStep step : exp.getSteps()) {
+                // Results steps do not modify the runtime variables
+                if (step.stage.isResults()) {
+                    node.resultsExps.add(exp);
+                    node.resultsSteps.add(step);
+                    continue;
+                }
+
+                boolean shared = step.stage.isShareable();
+
+                Node child = shared ? node.getChild(step) : null;
+                if (child == null) {
+                    child = new Node(shared);
+                    node.children.add(child);
+                }
+
+                child.exps.add(exp);
+                child.steps.add(step);
+                node = child;
+            }
+        }
+    }
+
+
+
+    /**
+     * Returns the experiments of the sweep.
+     * 
+     * @return experiments
+     */
+    public Exp[] getExps() {
+        return exps.clone();
+    }
+
+
+
+    /**
+     * Returns the number of steps executed on each pattern by the sweep.
+     * 
+     * @return number of distinct steps
+     */
+    public int getStepCount() {
+        return root.getStepCount();
+    }
+
+
+
+    @Override
+    public double getTaskProgress() {
+        return progress;
+    }
+
+
+
+    @Override
+    public String getTaskStatus() {
+        return status;
+    }
+
+
+
+    /**
+     * Returns the number of steps that would be executed on each pattern if
+     * the experiments were run one after the other.
+     * 
+     * @return total number of steps of the experiments
+     */
+    public int getTotalStepCount() {
+        int count = 0;
+        for (Exp exp : exps)
+            count += exp.getSteps().size();
+        return count;
+    }
+
+
+
+    /**
+     * Interrupts the sweep. The experiments stop after the current pattern.
+     */
+    public synchronized void interrupt() {
+        isInterrupted = true;
+    }
+
+
+
+    /**
+     * Checks if the sweep should be interrupted.
+     * 
+     * @return <code>true</code> if the sweep is interrupted,
+     *         <code>false</code> otherwise
+     */
+    private synchronized boolean isInterrupted() {
+        return isInterrupted;
+    }
+
+
+
+    /**
+     * Runs all the experiments of the sweep.
+     */
+    public void run() {
+        for (Exp exp : exps)
+            exp.start(startIndex);
+
+        int index;
+        for (index = startIndex; index < startIndex + size; index++) {
+            // Increment progress
+            progress = (double) (index - startIndex) / size;
+            status = "Pattern " + index;
+
+            // Interrupt
+            if (isInterrupted())
+                break;
+
+            for (Exp exp : exps)
+                exp.startPattern(index);
+
+            run(root, exps[0].saveRuntimeVariables(), new HashSet<Exp>());
+
+            for (Exp exp : exps)
+                exp.endPattern(index);
+        }
+
+        for (Exp exp : exps)
+            exp.finish(index);
+    }
+
+
+
+    /**
+     * Executes the results steps of a node and the steps below it on the
+     * current pattern.
+     * 
+     * @param node
+     *            a node
+     * @param snapshot
+     *            runtime variables after the step of the node
+     * @param failed
+     *            experiments that stopped processing the current pattern
+     */
+    private void run(Node node, Exp.Snapshot snapshot, HashSet<Exp> failed) {
+        // Results steps of each experiment
+        for (int i = 0; i < node.resultsExps.size(); i++) {
+            Exp exp = node.resultsExps.get(i);
+            if (failed.contains(exp))
+                continue;
+
+            exp.restoreRuntimeVariables(snapshot);
+
+            try {
+                exp.runStep(node.resultsSteps.get(i));
+            } catch (ExpError ex) {
+                exp.saveError(ex);
+                failed.add(exp);
+            }
+        }
+
+        for (Node child : node.children) {
+            // Experiments of the branch still processing the pattern
+            ArrayList<Exp> exps = new ArrayList<Exp>();
+            ArrayList<ExpStep> steps = new ArrayList<ExpStep>();
+            for (int i = 0; i < child.exps.size(); i++) {
+                if (failed.contains(child.exps.get(i)))
+                    continue;
+                exps.add(child.exps.get(i));
+                steps.add(child.steps.get(i));
+            }
+
+            if (exps.isEmpty())
+                continue;
+
+            // Execute the step with the first experiment of the branch
+            Exp exp = exps.get(0);
+            exp.restoreRuntimeVariables(snapshot);
+
+            Object out;
+            try {
+                out = exp.runStep(steps.get(0));
+            } catch (ExpError ex) {
+                // The pattern is not processed further by the branch
+                for (Exp other : exps) {
+                    other.saveError(ex);
+                    failed.add(other);
+                }
+                continue;
+            }
+
+            // Hand the output to the other experiments of the branch
+            Exp.Snapshot after = exp.saveRuntimeVariables();
+            for (int i = 1; i < exps.size(); i++) {
+                Exp other = exps.get(i);
+                other.restoreRuntimeVariables(after);
+                other.runSharedStep(steps.get(i), out);
+            }
+
+            run(child, after, failed);
+        }
+    }
+
+}
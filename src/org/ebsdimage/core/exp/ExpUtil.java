@@ -20,7 +20,6 @@ package org.ebsdimage.core.exp;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 
 import org.ebsdimage.core.exp.ops.pattern.op.PatternFilesLoader;
 import org.ebsdimage.core.exp.ops.pattern.op.PatternOp;
@@ -29,7 +28,11 @@ import org.ebsdimage.core.run.Operation;
 import org.ebsdimage.core.run.OperationGenerator;
 import org.ebsdimage.io.SmpInputStream;
 
+import ptpshared.util.simplexml.ApacheCommonMathMatcher;
+import ptpshared.util.simplexml.XmlLoader;
+import ptpshared.util.simplexml.XmlSaver;
 import rmlshared.io.FileUtil;
+import crystallography.io.simplexml.SpaceGroupMatcher;
 
 /**
  * Utilities to create experiments.
@@ -38,6 +41,38 @@ import rmlshared.io.FileUtil;
  */
 public class ExpUtil {
 
+    /**
+     * Returns a copy of an operation. The operation is saved to a temporary
+     * XML file and loaded back.
+     * 
+     * @param op
+     *            an operation
+     * @return a new instance equal to the operation
+     */
+    private static Operation copy(Operation op) {
+        XmlSaver saver = new XmlSaver();
+        saver.matchers.registerMatcher(new ApacheCommonMathMatcher());
+        saver.matchers.registerMatcher(new SpaceGroupMatcher());
+
+        XmlLoader loader = new XmlLoader();
+        loader.matchers.registerMatcher(new ApacheCommonMathMatcher());
+        loader.matchers.registerMatcher(new SpaceGroupMatcher());
+
+        try {
+            File file = File.createTempFile("op", ".xml");
+            try {
+                saver.save(op, file);
+                return loader.load(op.getClass(), file);
+            } finally {
+                file.delete();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+
+
     /**
      * Returns an array of <code>Exp</code>s created from the specified
      * <code>ExpsGenerator</code> and an array of <code>PatternOp</code>s.
@@ -65,10 +100,14 @@ public class ExpUtil {
 
         int i = 0;
         for (Operation[] combOps : combsOps) {
-            // Merge operations from combination and inputs
-            ArrayList<Operation> ops =
-                    new ArrayList<Operation>(Arrays.asList(combOps));
-            ops.addAll(Arrays.asList(inputs));
+            // Merge operations from combination and inputs. Each experiment
+            // gets its own instances as the operations keep the state of the
+            // experiment between setUp and tearDown.
+            ArrayList<Operation> ops = new ArrayList<Operation>();
+            for (Operation op : combOps)
+                ops.add(copy(op));
+            for (Operation op : inputs)
+                ops.add(copy(op));
 
             // Create an experiment with the operations
             Exp exp =
@@ -85,6 +124,32 @@ public class ExpUtil {
 
 
 
+    /**
+     * Returns a sweep of the <code>Exp</code>s created from the specified
+     * <code>ExpsGenerator</code> and an array of <code>PatternOp</code>s. The
+     * leading steps shared by the experiments are only executed once per
+     * pattern.
+     * 
+     * @param mmap
+     *            base <code>EbsdMMap</code> for all the experiments
+     * @param generator
+     *            experiment generator to generate combinations of
+     *            <code>Operation</code>
+     * @param inputs
+     *            array of <code>PatternOp</code>
+     * @param listeners
+     *            experiment listeners
+     * @return a sweep of the experiments
+     * @see #createExps(ExpMMap, OperationGenerator, PatternOp[], ExpListener[])
+     */
+    public static ExpSweep createSweep(ExpMMap mmap,
+            OperationGenerator generator, PatternOp[] inputs,
+            ExpListener[] listeners) {
+        return new ExpSweep(createExps(mmap, generator, inputs, listeners));
+    }
+
+
+
     /**
      * Creates pattern operations from all the jpg and bmp files inside the
      * specified directory. For each file, a <code>PatternFileLoader</code> is
@@ -108,6 +108,12 @@ public class MapsSaverListener implements ExpListener {
 
 
 
+    @Override
+    public void expFinished(Exp exp) {
+    }
+
+
+
     @Override
     public void houghOpPerformed(Exp exp, HoughOp op, HoughMap houghMap) {
         saveMap(exp, op, houghMap);
@@ -0,0 +1,357 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+import org.ebsdimage.core.PhaseMap;
+
+import rmlimage.core.BinMap;
+import rmlimage.core.ByteMap;
+import rmlimage.core.Map;
+import rmlimage.module.real.core.RealMap;
+
+/**
+ * Destination of the results of the results operations of an experiment.
+ * Each result is written in a slot holding the primitive array of the map
+ * of its alias. The slots of a results operation are resolved the first time
+ * it returns its results and then reused for all the following patterns,
+ * without any lookup in the multimap.
+ * <p/>
+ * The slots are read without locking: results of different patterns can be
+ * written concurrently. Only the creation of new slots is synchronized. The
+ * maps are flagged as changed in batch by {@link #flush()} instead of after
+ * each result.
+ * 
+ * @author Philippe T. Pinard
+ */
+class ResultsSink {
+
+    /** Slot where the results of one alias are written. */
+    private abstract static class Slot {
+
+        /** Alias of the results. */
+        public final String alias;
+
+        /** Map of the results. */
+        public final Map map;
+
+        /** Whether a result was written since the last flush. */
+        public volatile boolean changed = false;
+
+
+
+        /**
+         * Creates a new <code>Slot</code>.
+         * 
+         * @param alias
+         *            alias of the results
+         * @param map
+         *            map of the results
+         */
+        public Slot(String alias, Map map) {
+            this.alias = alias;
+            this.map = map;
+        }
+
+
+
+        /**
+         * Writes a result.
+         * 
+         * @param index
+         *            index of the pattern
+         * @param value
+         *            value of the result
+         */
+        public abstract void write(int index, Number value);
+    }
+
+    /** Slot of a <code>RealMap</code>. */
+    private static class RealSlot extends Slot {
+
+        /** Pixels of the map. */
+        private final float[] pixArray;
+
+
+
+        /**
+         * Creates a new <code>RealSlot</code>.
+         * 
+         * @param alias
+         *            alias of the results
+         * @param map
+         *            map of the results
+         */
+        public RealSlot(String alias, RealMap map) {
+            super(alias, map);
+            pixArray = map.pixArray;
+        }
+
+
+
+        @Override
+        public void write(int index, Number value) {
+            pixArray[index] = value.floatValue();
+            changed = true;
+        }
+    }
+
+    /** Slot of a <code>ByteMap</code> or a <code>PhaseMap</code>. */
+    private static class ByteSlot extends Slot {
+
+        /** Pixels of the map. */
+        private final byte[] pixArray;
+
+
+
+        /**
+         * Creates a new <code>ByteSlot</code>.
+         * 
+         * @param alias
+         *            alias of the results
+         * @param map
+         *            map of the results
+         */
+        public ByteSlot(String alias, ByteMap map) {
+            super(alias, map);
+            pixArray = map.pixArray;
+        }
+
+
+
+        @Override
+        public void write(int index, Number value) {
+            pixArray[index] = value.byteValue();
+            changed = true;
+        }
+    }
+
+    /** Slot of a <code>BinMap</code>. */
+    private static class BinSlot extends Slot {
+
+        /** Pixels of the map. */
+        private final byte[] pixArray;
+
+
+
+        /**
+         * Creates a new <code>BinSlot</code>.
+         * 
+         * @param alias
+         *            alias of the results
+         * @param map
+         *            map of the results
+         */
+        public BinSlot(String alias, BinMap map) {
+            super(alias, map);
+            pixArray = map.pixArray;
+        }
+
+
+
+        @Override
+        public void write(int index, Number value) {
+            pixArray[index] = (value.intValue() == 0) ? (byte) 0 : (byte) 1;
+            changed = true;
+        }
+    }
+
+    /**
+     * Checks whether the slots of an operation correspond to its results.
+     * Operations usually return the same aliases, in the same order, for all
+     * the patterns.
+     * 
+     * @param slots
+     *            slots of the operation or <code>null</code>
+     * @param results
+     *            results of the operation
+     * @return <code>true</code> if the slots correspond to the results
+     */
+    private static boolean matches(Slot[] slots, OpResult[] results) {
+        if (slots == null || slots.length != results.length)
+            return false;
+
+        for (int i = 0; i < results.length; i++) {
+            String alias = results[i].alias;
+            if (slots[i].alias != alias && !slots[i].alias.equals(alias))
+                return false;
+        }
+
+        return true;
+    }
+
+    /** Experiment. */
+    private final Exp exp;
+
+    /** Slots of each alias. */
+    private final HashMap<String, Slot> aliasSlots =
+            new HashMap<String, Slot>();
+
+    /** All the slots, in order of creation. */
+    private final ArrayList<Slot> allSlots = new ArrayList<Slot>();
+
+    /**
+     * Slots of each results operation (copy-on-write, read without locking).
+     */
+    private volatile IdentityHashMap<ExpOperation, Slot[]> opSlots =
+            new IdentityHashMap<ExpOperation, Slot[]>();
+
+
+
+    /**
+     * Creates a new <code>ResultsSink</code>.
+     * 
+     * @param exp
+     *            experiment
+     */
+    public ResultsSink(Exp exp) {
+        this.exp = exp;
+    }
+
+
+
+    /**
+     * Removes all the slots. Called before a run, since the maps of the
+     * multimap may have been replaced.
+     */
+    public synchronized void clear() {
+        flush();
+
+        aliasSlots.clear();
+        allSlots.clear();
+        opSlots = new IdentityHashMap<ExpOperation, Slot[]>();
+    }
+
+
+
+    /**
+     * Creates the slot of a result. If the map of the result does not exist in
+     * the multimap, it is created with {@link Exp#createMap(OpResult)} and
+     * declared to the checkpoint.
+     * 
+     * @param result
+     *            result
+     * @return slot
+     * @throws RuntimeException
+     *             if the type of map is unknown
+     */
+    private Slot createSlot(OpResult result) {
+        Map map = exp.mmap.getMap(result.alias);
+
+        // Create map if it doesn't exist
+        if (map == null) {
+            map = exp.createMap(result);
+            exp.mmap.add(result.alias, map);
+
+            ExpCheckpoint checkpoint = exp.getCheckpoint();
+            if (checkpoint != null)
+                checkpoint.declare(result);
+        }
+
+        if (result.type.equals(RealMap.class))
+            return new RealSlot(result.alias, (RealMap) map);
+        else if (result.type.equals(ByteMap.class))
+            return new ByteSlot(result.alias, (ByteMap) map);
+        else if (result.type.equals(PhaseMap.class))
+            return new ByteSlot(result.alias, (PhaseMap) map);
+        else if (result.type.equals(BinMap.class))
+            return new BinSlot(result.alias, (BinMap) map);
+        else
+            throw new RuntimeException("Unknown type of map ("
+                    + result.type.toString() + ").");
+    }
+
+
+
+    /**
+     * Flags the maps where results were written since the last flush as
+     * changed.
+     */
+    public synchronized void flush() {
+        for (Slot slot : allSlots) {
+            if (slot.changed) {
+                slot.changed = false;
+                slot.map.setChanged(Map.MAP_CHANGED);
+            }
+        }
+    }
+
+
+
+    /**
+     * Returns the slots of the results of an operation, creating the missing
+     * ones.
+     * 
+     * @param op
+     *            results operation
+     * @param results
+     *            results of the operation
+     * @return slots in the same order as the results
+     */
+    private synchronized Slot[] resolve(ExpOperation op, OpResult[] results) {
+        Slot[] slots = new Slot[results.length];
+
+        for (int i = 0; i < results.length; i++) {
+            Slot slot = aliasSlots.get(results[i].alias);
+
+            if (slot == null) {
+                slot = createSlot(results[i]);
+                aliasSlots.put(slot.alias, slot);
+                allSlots.add(slot);
+            }
+
+            slots[i] = slot;
+        }
+
+        IdentityHashMap<ExpOperation, Slot[]> copy =
+                new IdentityHashMap<ExpOperation, Slot[]>(opSlots);
+        copy.put(op, slots);
+        opSlots = copy;
+
+        return slots;
+    }
+
+
+
+    /**
+     * Writes the results of an operation for the pattern at the specified
+     * index.
+     * 
+     * @param op
+     *            results operation
+     * @param results
+     *            results of the operation
+     * @param index
+     *            index of the pattern
+     * @throws RuntimeException
+     *             if the type of map of a result is unknown
+     */
+    public void save(ExpOperation op, OpResult[] results, int index) {
+        Slot[] slots = opSlots.get(op);
+
+        if (!matches(slots, results))
+            slots = resolve(op, results);
+
+        for (int i = 0; i < results.length; i++)
+            slots[i].write(index, results[i].value);
+    }
+
+}
@@ -18,6 +18,7 @@
 package org.ebsdimage.core.exp.ops.detection.op;
 
 import org.ebsdimage.core.HoughMap;
+import org.ebsdimage.core.MapPool;
 import org.ebsdimage.core.Threshold;
 import org.ebsdimage.core.exp.Exp;
 
@@ -48,7 +49,8 @@ public class AutomaticTopHat extends DetectionOp {
      */
     @Override
     public BinMap detect(Exp exp, HoughMap srcMap) {
-        BinMap peaksMap = Threshold.automaticTopHat(srcMap);
+        MapPool pool = (exp == null) ? null : exp.getMapPool();
+        BinMap peaksMap = Threshold.automaticTopHat(srcMap, pool);
 
         return peaksMap;
     }
@@ -104,7 +104,7 @@ public class Opening extends DetectionPostOps {
 
     @Override
     public BinMap process(Exp exp, BinMap srcMap) {
-        BinMap destMap = srcMap.duplicate();
+        BinMap destMap = duplicate(exp, srcMap);
 
         MathMorph.opening(destMap, min, max);
         destMap.setProperties(srcMap);
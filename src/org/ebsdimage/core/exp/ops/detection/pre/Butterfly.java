@@ -154,7 +154,7 @@ public class Butterfly extends DetectionPreOps {
         // Convert back to byteMap
         ByteMap houghMapFlatten = Contrast.expansion(houghMapConvol);
 
-        HoughMap destMap = srcMap.duplicate();
+        HoughMap destMap = duplicate(exp, srcMap);
         Conversion.toHoughMap(houghMapFlatten, destMap);
 
         return destMap;
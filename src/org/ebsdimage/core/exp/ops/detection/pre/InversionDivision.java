@@ -52,7 +52,7 @@ public class InversionDivision extends DetectionPreOps {
     @Override
     public HoughMap process(Exp exp, HoughMap srcMap) {
         // Inversion
-        ByteMap srcMapInverted = srcMap.duplicate();
+        ByteMap srcMapInverted = duplicate(exp, srcMap);
         MapMath.notOp(srcMapInverted);
 
         // Division
@@ -62,7 +62,7 @@ public class InversionDivision extends DetectionPreOps {
         // Put srcMap properties in dividedMap
         divisionMap.setProperties(srcMap);
 
-        HoughMap destMap = srcMap.duplicate();
+        HoughMap destMap = duplicate(exp, srcMap);
         Conversion.toHoughMap(divisionMap, destMap);
 
         return destMap;
@@ -91,7 +91,11 @@ public class AutoHoughTransform extends HoughOp {
 
     @Override
     public HoughMap transform(Exp exp, ByteMap srcMap) {
-        HoughMap houghMap = Transform.hough(srcMap, deltaTheta);
+        Transform transform = new Transform();
+        if (exp != null)
+            transform.setMapPool(exp.getMapPool());
+
+        HoughMap houghMap = transform.doHough(srcMap, deltaTheta);
 
         // Apply median to remove gap at theta = 90 deg
         Filter.median(houghMap);
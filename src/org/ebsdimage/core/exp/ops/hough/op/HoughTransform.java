@@ -112,7 +112,11 @@ public class HoughTransform extends HoughOp {
      */
     @Override
     public HoughMap transform(Exp exp, ByteMap srcMap) {
-        HoughMap houghMap = Transform.hough(srcMap, deltaTheta, deltaRho);
+        Transform transform = new Transform();
+        if (exp != null)
+            transform.setMapPool(exp.getMapPool());
+
+        HoughMap houghMap = transform.doHough(srcMap, deltaTheta, deltaRho);
 
         // Apply median to remove gap at theta = 90 deg
         Filter.median(houghMap);
@@ -45,7 +45,7 @@ public class Median extends HoughPreOps {
      */
     @Override
     public ByteMap process(Exp exp, ByteMap srcMap) {
-        ByteMap destMap = srcMap.duplicate();
+        ByteMap destMap = duplicate(exp, srcMap);
 
         Filter.median(destMap);
 
@@ -18,7 +18,6 @@
 package org.ebsdimage.core.exp.ops.hough.results;
 
 import org.ebsdimage.core.HoughMap;
-import org.ebsdimage.core.MapStats;
 import org.ebsdimage.core.exp.Exp;
 import org.ebsdimage.core.exp.OpResult;
 
@@ -39,8 +38,8 @@ public class Average extends HoughResultsOps {
     @Override
     public OpResult[] calculate(Exp exp, HoughMap srcMap) {
         OpResult result =
-                new OpResult("Hough Average", MapStats.average(srcMap),
-                        RealMap.class);
+                new OpResult("Hough Average",
+                        getStats(exp, srcMap).average(), RealMap.class);
 
         return new OpResult[] { result };
     }
@@ -17,8 +17,8 @@
  */
 package org.ebsdimage.core.exp.ops.hough.results;
 
+import org.ebsdimage.core.ByteMapStats;
 import org.ebsdimage.core.HoughMap;
-import org.ebsdimage.core.MapStats;
 import org.ebsdimage.core.exp.Exp;
 import org.ebsdimage.core.exp.OpResult;
 
@@ -44,11 +44,11 @@ public class Range extends HoughResultsOps {
      * @param srcMap
      *            source Hough map
      * @return one entry with the Hough range quality index
-     * @see MapStats#range(ByteMap)
+     * @see ByteMapStats#range()
      */
     @Override
     public OpResult[] calculate(Exp exp, HoughMap srcMap) {
-        rmlshared.util.Range<Integer> range = MapStats.range(srcMap);
+        rmlshared.util.Range<Integer> range = getStats(exp, srcMap).range();
         byte value = (byte) (range.max - range.min);
 
         OpResult result = new OpResult("Hough Range", value, ByteMap.class);
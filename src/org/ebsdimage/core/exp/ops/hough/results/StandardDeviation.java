@@ -18,7 +18,6 @@
 package org.ebsdimage.core.exp.ops.hough.results;
 
 import org.ebsdimage.core.HoughMap;
-import org.ebsdimage.core.MapStats;
 import org.ebsdimage.core.exp.Exp;
 import org.ebsdimage.core.exp.OpResult;
 
@@ -41,7 +40,8 @@ public class StandardDeviation extends HoughResultsOps {
     public OpResult[] calculate(Exp exp, HoughMap srcMap) {
         OpResult result =
                 new OpResult("Hough Standard Deviation",
-                        MapStats.standardDeviation(srcMap), RealMap.class);
+                        getStats(exp, srcMap).standardDeviation(),
+                        RealMap.class);
 
         return new OpResult[] { result };
     }
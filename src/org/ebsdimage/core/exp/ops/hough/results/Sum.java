@@ -21,7 +21,6 @@ import org.ebsdimage.core.HoughMap;
 import org.ebsdimage.core.exp.Exp;
 import org.ebsdimage.core.exp.OpResult;
 
-import rmlimage.core.MapStats;
 import rmlimage.module.real.core.RealMap;
 
 /**
@@ -39,7 +38,8 @@ public class Sum extends HoughResultsOps {
     @Override
     public OpResult[] calculate(Exp exp, HoughMap srcMap) {
         OpResult result =
-                new OpResult("Hough Sum", MapStats.sum(srcMap), RealMap.class);
+                new OpResult("Hough Sum", getStats(exp, srcMap).sum,
+                        RealMap.class);
 
         return new OpResult[] { result };
     }
@@ -20,6 +20,7 @@ package org.ebsdimage.core.exp.ops.pattern.op;
 import java.io.File;
 import java.io.IOException;
 
+import org.ebsdimage.core.MapPool;
 import org.ebsdimage.core.exp.Exp;
 import org.ebsdimage.io.SmpInputStream;
 import org.simpleframework.xml.Attribute;
@@ -225,10 +226,19 @@ public class PatternSmpLoader extends PatternOp {
                     + ") is greater than the end index of the SMP file ("
                     + reader.getEndIndex() + ").");
 
-        // Read pattern
-        ByteMap patternMap;
+        // Read pattern in a map of the pool of the experiment
+        MapPool pool = exp.getMapPool();
+        int width = reader.getMapWidth();
+        int height = reader.getMapHeight();
+
+        ByteMap patternMap = pool.poll(ByteMap.class, width, height);
+        if (patternMap == null) {
+            patternMap = new ByteMap(width, height);
+            pool.add(patternMap);
+        }
+
         try {
-            patternMap = (ByteMap) reader.readMap(index);
+            reader.readMap(index, patternMap);
         } catch (IOException e) {
             throw new RuntimeException(e);
         } finally {
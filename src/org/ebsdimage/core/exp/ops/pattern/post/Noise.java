@@ -81,7 +81,7 @@ public class Noise extends PatternPostOps {
      */
     @Override
     public ByteMap process(Exp exp, ByteMap srcMap) {
-        ByteMap destMap = srcMap.duplicate();
+        ByteMap destMap = duplicate(exp, srcMap);
 
         rmlimage.utility.Noise.gaussian(destMap, stdDev);
 
@@ -156,7 +156,7 @@ public class RadialNoise extends PatternPostOps {
         if (stdDevY < 0)
             stdDevY = srcMap.height / 2.0;
 
-        ByteMap destMap = srcMap.duplicate();
+        ByteMap destMap = duplicate(exp, srcMap);
 
         radialNoise(destMap, x, y, stdDevX, stdDevY, initialNoiseStdDev,
                 finalNoiseStdDev, System.currentTimeMillis());
@@ -98,7 +98,7 @@ public class Smoothing extends PatternPostOps {
     @Override
     public ByteMap process(Exp exp, ByteMap srcMap) {
         if (kernelSize < 3)
-            return srcMap.duplicate();
+            return duplicate(exp, srcMap);
 
         int[][] data = new int[kernelSize][kernelSize];
 
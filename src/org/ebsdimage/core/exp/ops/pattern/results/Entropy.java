@@ -17,7 +17,6 @@
  */
 package org.ebsdimage.core.exp.ops.pattern.results;
 
-import org.ebsdimage.core.MapStats;
 import org.ebsdimage.core.exp.Exp;
 import org.ebsdimage.core.exp.OpResult;
 
@@ -48,8 +47,8 @@ public class Entropy extends PatternResultsOps {
     @Override
     public OpResult[] calculate(Exp exp, ByteMap srcMap) {
         OpResult result =
-                new OpResult("Pattern Entropy", MapStats.entropy(srcMap),
-                        RealMap.class);
+                new OpResult("Pattern Entropy",
+                        getStats(exp, srcMap).entropy(), RealMap.class);
 
         return new OpResult[] { result };
     }
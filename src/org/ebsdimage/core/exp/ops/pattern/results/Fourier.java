@@ -17,6 +17,8 @@
  */
 package org.ebsdimage.core.exp.ops.pattern.results;
 
+import java.util.HashMap;
+
 import org.ebsdimage.core.exp.Exp;
 import org.ebsdimage.core.exp.OpResult;
 
@@ -25,10 +27,7 @@ import rmlimage.module.complex.core.ComplexMap;
 import rmlimage.module.complex.core.Edit;
 import rmlimage.module.complex.core.Extract;
 import rmlimage.module.complex.core.FFT;
-import rmlimage.module.real.core.MapMath;
 import rmlimage.module.real.core.RealMap;
-import rmlimage.module.real.core.Stats;
-import static java.lang.Math.pow;
 
 /**
  * Operation to calculate the Fourier transform quality index.
@@ -37,9 +36,91 @@ import static java.lang.Math.pow;
  */
 public class Fourier extends PatternResultsOps {
 
+    /**
+     * Radial weights of the Fourier transform quality index for one size of
+     * the cropped pattern.
+     */
+    private static class Weights {
+
+        /** Weight of each pixel of the flipped Fourier transform. */
+        public final float[] values;
+
+        /** Maximum intensity (average of the weights). */
+        public final double intensityMax;
+
+
+
+        /**
+         * Creates the weights for the specified size. The weight of a pixel is
+         * the fourth power of its distance to the center of the map.
+         * 
+         * @param width
+         *            width of the map
+         * @param height
+         *            height of the map
+         */
+        public Weights(int width, int height) {
+            values = new float[width * height];
+
+            int centerX = width / 2;
+            int centerY = height / 2;
+
+            double sum = 0.0;
+            int n = 0;
+            for (int y = 0; y < height; y++) {
+                int dy = y - centerY;
+
+                for (int x = 0; x < width; x++) {
+                    int dx = x - centerX;
+
+                    float rSquare = dx * dx + dy * dy;
+                    values[n] = rSquare * rSquare;
+                    sum += values[n];
+                    n++;
+                }
+            }
+
+            intensityMax = sum / values.length;
+        }
+    }
+
+    /**
+     * Returns the radial weights for the specified size. The weights are only
+     * calculated once per size.
+     * 
+     * @param width
+     *            width of the map
+     * @param height
+     *            height of the map
+     * @return radial weights
+     */
+    private static synchronized Weights getWeights(int width, int height) {
+        Long key = ((long) width << 32) | height;
+
+        Weights weights = WEIGHTS.get(key);
+        if (weights == null) {
+            weights = new Weights(width, height);
+            WEIGHTS.put(key, weights);
+        }
+
+        return weights;
+    }
+
     /** Default operation. */
     public static final Fourier DEFAULT = new Fourier();
 
+    /** Weights for each size of cropped pattern. */
+    private static final HashMap<Long, Weights> WEIGHTS =
+            new HashMap<Long, Weights>();
+
+    /** FFT of each thread, reused from one pattern to the next. */
+    private static final ThreadLocal<FFT> FFTS = new ThreadLocal<FFT>() {
+        @Override
+        protected FFT initialValue() {
+            return new FFT();
+        }
+    };
+
 
 
     /**
@@ -55,34 +136,28 @@ public class Fourier extends PatternResultsOps {
                 Edit.cropToNearestPowerOfTwo(pattern, Edit.Position.CENTER);
 
         // FFT
-        ComplexMap fftMap = new FFT().forward(patternCrop);
+        ComplexMap fftMap = FFTS.get().forward(patternCrop);
         Edit.flip(fftMap);
         RealMap normMap = Extract.norm(fftMap);
 
-        // Radius map
-        RealMap radiusMap = radiusMap(normMap.width, normMap.height);
-        RealMap radiusMapSquared =
-                new RealMap(radiusMap.width, radiusMap.height);
-        MapMath.multiplication(radiusMap, radiusMap, radiusMapSquared);
+        // Numerator and denominator in one pass
+        Weights weights = getWeights(normMap.width, normMap.height);
+        float[] values = weights.values;
+        float[] norm = normMap.pixArray;
+        int size = normMap.size;
 
-        // Numerator
-        RealMap numeratorMap = new RealMap(normMap.width, normMap.height);
-        MapMath.multiplication(normMap, radiusMapSquared, numeratorMap);
-        double numerator = sumMap(numeratorMap);
-
-        // Denominator
-        double denominator = sumMap(normMap);
+        double numerator = 0.0;
+        double denominator = 0.0;
+        for (int n = 0; n < size; n++) {
+            numerator += norm[n] * values[n];
+            denominator += norm[n];
+        }
 
         // Intensity
         double intensity = numerator / denominator;
 
-        // Max intensity
-        double intensityMax =
-                sumMap(radiusMapSquared)
-                        / (radiusMapSquared.width * radiusMapSquared.height);
-
         // Quality
-        double quality = 1.0 - intensity / intensityMax;
+        double quality = 1.0 - intensity / weights.intensityMax;
 
         return quality;
     }
@@ -110,50 +185,6 @@ public class Fourier extends PatternResultsOps {
 
 
 
-    /**
-     * Generates a radius map according to the specified width and height for
-     * the Fourier transform quality index.
-     * 
-     * @param width
-     *            width of the image
-     * @param height
-     *            height of the image
-     * @return radius map
-     */
-    private RealMap radiusMap(int width, int height) {
-        RealMap map = new RealMap(width, height);
-
-        int centerX = width / 2;
-        int centerY = height / 2;
-
-        for (int x = 0; x < width; x++)
-            for (int y = 0; y < height; y++) {
-                double rSquare = pow(x - centerX, 2) + pow(y - centerY, 2);
-                map.setPixValue(x, y, rSquare);
-            }
-
-        return map;
-    }
-
-
-
-    /**
-     * Calculate the sum of the specified map for the Fourier transform quality
-     * index.
-     * 
-     * @param map
-     *            map to sum
-     * @return sum
-     */
-    private double sumMap(RealMap map) {
-        double average = Stats.average(map.pixArray);
-        int count = map.size;
-
-        return count * average;
-    }
-
-
-
     @Override
     public String toString() {
         return "Fourier";
@@ -17,7 +17,7 @@
  */
 package org.ebsdimage.core.exp.ops.pattern.results;
 
-import org.ebsdimage.core.MapStats;
+import org.ebsdimage.core.ByteMapStats;
 import org.ebsdimage.core.exp.Exp;
 import org.ebsdimage.core.exp.OpResult;
 
@@ -44,13 +44,14 @@ public class StandardDeviation extends PatternResultsOps {
      * @param srcMap
      *            source map
      * @return one entry with the standard deviation quality index
-     * @see MapStats#standardDeviation(ByteMap)
+     * @see ByteMapStats#standardDeviation()
      */
     @Override
     public OpResult[] calculate(Exp exp, ByteMap srcMap) {
         OpResult result =
                 new OpResult("Pattern Standard Deviation",
-                        MapStats.standardDeviation(srcMap), RealMap.class);
+                        getStats(exp, srcMap).standardDeviation(),
+                        RealMap.class);
 
         return new OpResult[] { result };
     }
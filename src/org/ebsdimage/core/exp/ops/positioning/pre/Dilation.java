@@ -115,7 +115,7 @@ public class Dilation extends PositioningPreOps {
      */
     @Override
     public BinMap process(Exp exp, BinMap srcMap) {
-        BinMap destMap = srcMap.duplicate();
+        BinMap destMap = duplicate(exp, srcMap);
 
         MathMorph.dilation(destMap, min, max);
 
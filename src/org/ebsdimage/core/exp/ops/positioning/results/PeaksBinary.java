@@ -0,0 +1,171 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp.ops.positioning.results;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import org.ebsdimage.core.ErrorCode;
+import org.ebsdimage.core.HoughPeak;
+import org.ebsdimage.core.exp.Exp;
+import org.ebsdimage.core.exp.ExpError;
+import org.ebsdimage.core.exp.OpResult;
+import org.ebsdimage.core.exp.ops.pattern.op.PatternOp;
+import org.ebsdimage.io.PeaksInputStream;
+import org.ebsdimage.io.PeaksOutputStream;
+
+/**
+ * Operation to save the identified Hough peaks of all the patterns in a single
+ * binary file (<code>&lt;exp&gt;_peaks.pks</code>). Contrary to
+ * <code>PeaksXml</code>, no file is created per pattern. The XML files can be
+ * recreated afterwards using {@link #exportXml(File, File, String)}. When
+ * the experiment is resumed from a checkpoint, the peaks are appended to the
+ * existing file. The file is opened in {@link #setUp(Exp)} and kept in the
+ * runtime state of the experiment until {@link #tearDown(Exp)}.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class PeaksBinary extends PositioningResultsOps {
+
+    /** Error code when the peaks cannot be written in the binary file. */
+    public static final ErrorCode ERROR_NOT_SAVED = new ErrorCode(
+            "Peaks not saved", "peaks could not be written in the PKS file");
+
+
+
+    /**
+     * Exports the peaks of a binary file to one XML file per pattern. The XML
+     * files are the same as the ones saved by <code>PeaksXml</code> (
+     * <code>&lt;name&gt;_&lt;index&gt;_peaks.xml</code>).
+     * 
+     * @param file
+     *            binary file
+     * @param dir
+     *            directory where to save the XML files
+     * @param name
+     *            name of the experiment
+     * @throws IOException
+     *             if an error occurs while reading the binary file or saving
+     *             the XML files
+     */
+    public static void exportXml(File file, File dir, String name)
+            throws IOException {
+        PeaksInputStream in = new PeaksInputStream(file);
+        PeaksXml xml = new PeaksXml();
+
+        try {
+            for (int i = in.getStartIndex(); i < in.getEndIndex(); i++) {
+                if (!in.hasPeaks(i))
+                    continue;
+
+                xml.save(in.readPeaks(i), new File(dir, name + "_" + i
+                        + "_peaks.xml"));
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+
+
+    /**
+     * Returns the binary file of an experiment.
+     * 
+     * @param exp
+     *            an experiment
+     * @return binary file
+     */
+    public static File getFile(Exp exp) {
+        return new File(exp.getDir(), exp.getName() + "_peaks.pks");
+    }
+
+    @Override
+    public OpResult[] calculate(Exp exp, HoughPeak[] srcPeaks) throws ExpError {
+        PeaksOutputStream out = (PeaksOutputStream) exp.getOpState(this);
+        if (out == null)
+            throw new ExpError(ERROR_NOT_SAVED);
+
+        HoughPeak[] peaks = srcPeaks.clone();
+        sortDescending(peaks);
+
+        try {
+            out.writePeaks(exp.getCurrentIndex(), peaks);
+        } catch (IOException e) {
+            throw new ExpError(ERROR_NOT_SAVED);
+        }
+
+        return new OpResult[0];
+    }
+
+
+
+    @Override
+    public ErrorCode[] getErrorCodes() {
+        return new ErrorCode[] { ERROR_NOT_SAVED };
+    }
+
+
+
+    @Override
+    public void setUp(Exp exp) {
+        super.setUp(exp);
+
+        PatternOp patternOp = exp.getPatternOp();
+
+        // Keep the peaks of the patterns processed before a resume
+        boolean append = exp.getCurrentIndex() > patternOp.startIndex;
+
+        try {
+            exp.setOpState(this, new PeaksOutputStream(getFile(exp),
+                    patternOp.startIndex, patternOp.size, append));
+        } catch (IOException e) {
+            Logger.getLogger("ebsd").warning(
+                    "Peaks file could not be opened because: "
+                            + e.getMessage());
+        }
+    }
+
+
+
+    @Override
+    public void tearDown(Exp exp) {
+        super.tearDown(exp);
+
+        PeaksOutputStream out = (PeaksOutputStream) exp.getOpState(this);
+        if (out == null)
+            return;
+        exp.setOpState(this, null);
+
+        try {
+            out.close();
+        } catch (IOException e) {
+            Logger.getLogger("ebsd").warning(
+                    "Peaks file could not be closed because: "
+                            + e.getMessage());
+        }
+    }
+
+
+
+    @Override
+    public String toString() {
+        return "Binary";
+    }
+
+}
@@ -19,6 +19,7 @@ package org.ebsdimage.core.exp.ops.positioning.results;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.logging.Logger;
 
 import org.ebsdimage.core.HoughPeak;
 import org.ebsdimage.core.exp.Exp;
@@ -48,6 +49,8 @@ public class PeaksXml extends PositioningResultsOps {
         try {
             save(peaks, file);
         } catch (IOException e) {
+            Logger.getLogger("ebsd").warning(
+                    "Peaks could not be saved because: " + e.getMessage());
         }
 
         return new OpResult[0];
@@ -0,0 +1,500 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.run;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+
+/**
+ * Records the execution time, the allocated memory, the number of invocations
+ * and the number of errors of the operations of a run. The times are
+ * aggregated in a logarithmic histogram (4 buckets per power of two) from
+ * which the percentiles are estimated, with an error smaller than 25%.
+ * <p/>
+ * The allocated memory is measured with the allocation counter of the current
+ * thread, when the JVM provides one (
+ * <code>com.sun.management.ThreadMXBean</code>). Otherwise, it is reported as
+ * -1.
+ * <p/>
+ * The operations are identified by their name. The copies of an operation
+ * executed by parallel experiments or worker threads therefore share their
+ * statistics. The callers include the stage in the name when the same
+ * operation can be executed at different stages.
+ * <p/>
+ * The profiler is thread-safe: operations executed in parallel can be
+ * recorded concurrently.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class OpProfiler {
+
+    /** Statistics of one operation. */
+    public static class OpStats {
+
+        /** Name of the operation. */
+        public final String name;
+
+        /** Number of invocations. */
+        public final long count;
+
+        /** Number of invocations which failed. */
+        public final long errors;
+
+        /** Total execution time (in nanoseconds). */
+        public final long totalTime;
+
+        /** Total allocated memory (in bytes) or -1 if not available. */
+        public final long allocatedBytes;
+
+        /** Median execution time (in nanoseconds). */
+        public final long p50;
+
+        /** 95th percentile of the execution time (in nanoseconds). */
+        public final long p95;
+
+        /** 99th percentile of the execution time (in nanoseconds). */
+        public final long p99;
+
+
+
+        /**
+         * Creates a new <code>OpStats</code>.
+         * 
+         * @param name
+         *            name of the operation
+         * @param count
+         *            number of invocations
+         * @param errors
+         *            number of invocations which failed
+         * @param totalTime
+         *            total execution time (in nanoseconds)
+         * @param allocatedBytes
+         *            total allocated memory (in bytes) or -1
+         * @param p50
+         *            median execution time (in nanoseconds)
+         * @param p95
+         *            95th percentile of the execution time (in nanoseconds)
+         * @param p99
+         *            99th percentile of the execution time (in nanoseconds)
+         */
+        public OpStats(String name, long count, long errors, long totalTime,
+                long allocatedBytes, long p50, long p95, long p99) {
+            this.name = name;
+            this.count = count;
+            this.errors = errors;
+            this.totalTime = totalTime;
+            this.allocatedBytes = allocatedBytes;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+        }
+
+
+
+        /**
+         * Returns the average execution time.
+         * 
+         * @return average execution time (in nanoseconds)
+         */
+        public double getAverageTime() {
+            return (double) totalTime / count;
+        }
+
+
+
+        @Override
+        public String toString() {
+            return name + " [count=" + count + ", errors=" + errors
+                    + ", p50=" + p50 / 1e6 + " ms, p95=" + p95 / 1e6
+                    + " ms, p99=" + p99 / 1e6 + " ms]";
+        }
+    }
+
+    /** Accumulator of the statistics of one operation. */
+    private static class Entry {
+
+        /** Name of the operation. */
+        public final String name;
+
+        /** Number of invocations. */
+        public long count = 0;
+
+        /** Number of invocations which failed. */
+        public long errors = 0;
+
+        /** Total execution time (in nanoseconds). */
+        public long totalTime = 0;
+
+        /** Total allocated memory (in bytes) or -1 if not available. */
+        public long allocatedBytes = 0;
+
+        /** Histogram of the execution times. */
+        public final long[] histogram = new long[NB_BUCKETS];
+
+
+
+        /**
+         * Creates a new <code>Entry</code>.
+         * 
+         * @param name
+         *            name of the operation
+         */
+        public Entry(String name) {
+            this.name = name;
+        }
+    }
+
+    /** Number of buckets per power of two. */
+    private static final int SUB_BUCKETS = 4;
+
+    /** Number of buckets of the histograms. */
+    private static final int NB_BUCKETS = 64 * SUB_BUCKETS;
+
+    /** Thread management bean. */
+    private static final ThreadMXBean THREAD_BEAN =
+            ManagementFactory.getThreadMXBean();
+
+    /**
+     * Method <code>getThreadAllocatedBytes(long)</code> of
+     * <code>com.sun.management.ThreadMXBean</code> or <code>null</code> if
+     * not available.
+     */
+    private static final Method ALLOCATED_BYTES = findAllocatedBytesMethod();
+
+
+
+    /**
+     * Returns the upper bound of a bucket of the histograms.
+     * 
+     * @param bucket
+     *            index of the bucket
+     * @return upper bound (in nanoseconds)
+     */
+    private static long bucketUpperBound(int bucket) {
+        int exponent = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+
+        if (exponent < 2)
+            return bucket;
+
+        long base = 1L << exponent;
+        return base + ((sub + 1) * base) / SUB_BUCKETS - 1;
+    }
+
+
+
+    /**
+     * Escapes a value of a CSV file. A value containing a comma, a quote or a
+     * line break is quoted and its quotes are doubled.
+     * 
+     * @param value
+     *            value
+     * @return escaped value
+     */
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+
+
+    /**
+     * Returns the bucket of the histograms of an execution time.
+     * 
+     * @param time
+     *            execution time (in nanoseconds)
+     * @return index of the bucket
+     */
+    private static int bucketOf(long time) {
+        if (time < SUB_BUCKETS * 2)
+            return (int) Math.max(time, 0);
+
+        int exponent = 63 - Long.numberOfLeadingZeros(time);
+        int sub = (int) ((time >> (exponent - 2)) & (SUB_BUCKETS - 1));
+        return exponent * SUB_BUCKETS + sub;
+    }
+
+
+
+    /**
+     * Returns the method to get the allocated memory of a thread, if the JVM
+     * provides one.
+     * 
+     * @return method or <code>null</code>
+     */
+    private static Method findAllocatedBytesMethod() {
+        try {
+            Class<?> clasz =
+                    Class.forName("com.sun.management.ThreadMXBean");
+            if (!clasz.isInstance(THREAD_BEAN))
+                return null;
+
+            Method method =
+                    clasz.getMethod("getThreadAllocatedBytes", long.class);
+            method.invoke(THREAD_BEAN, Thread.currentThread().getId());
+            return method;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+
+
+    /**
+     * Returns the execution time at the specified percentile of a histogram.
+     * 
+     * @param histogram
+     *            histogram of the execution times
+     * @param count
+     *            number of execution times
+     * @param percentile
+     *            percentile (between 0 and 1)
+     * @return upper bound of the bucket of the percentile (in nanoseconds)
+     */
+    private static long percentile(long[] histogram, long count,
+            double percentile) {
+        long rank = (long) Math.ceil(percentile * count);
+        if (rank < 1)
+            rank = 1;
+
+        long cumul = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            cumul += histogram[i];
+            if (cumul >= rank)
+                return bucketUpperBound(i);
+        }
+
+        return bucketUpperBound(histogram.length - 1);
+    }
+
+    /** Statistics of each operation, by name in order of first invocation. */
+    private final LinkedHashMap<String, Entry> entries =
+            new LinkedHashMap<String, Entry>();
+
+
+
+    /**
+     * Returns the memory allocated so far by the current thread. To be called
+     * before the execution of an operation and passed to
+     * {@link #record(String, long, long, boolean)}.
+     * 
+     * @return allocated memory (in bytes) or -1 if not available
+     */
+    public long allocatedBytes() {
+        if (ALLOCATED_BYTES == null)
+            return -1;
+
+        try {
+            return (Long) ALLOCATED_BYTES.invoke(THREAD_BEAN,
+                    Thread.currentThread().getId());
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+
+
+    /**
+     * Removes all the recorded statistics.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+
+
+    /**
+     * Returns the statistics of all the operations, sorted by decreasing total
+     * execution time.
+     * 
+     * @return statistics
+     */
+    public synchronized OpStats[] getStats() {
+        ArrayList<OpStats> stats = new ArrayList<OpStats>();
+
+        for (Entry entry : entries.values()) {
+            stats.add(new OpStats(entry.name, entry.count, entry.errors,
+                    entry.totalTime, entry.allocatedBytes, percentile(
+                            entry.histogram, entry.count, 0.50), percentile(
+                            entry.histogram, entry.count, 0.95), percentile(
+                            entry.histogram, entry.count, 0.99)));
+        }
+
+        OpStats[] array = stats.toArray(new OpStats[stats.size()]);
+        Arrays.sort(array, new Comparator<OpStats>() {
+            @Override
+            public int compare(OpStats o1, OpStats o2) {
+                if (o1.totalTime > o2.totalTime)
+                    return -1;
+                else if (o1.totalTime < o2.totalTime)
+                    return 1;
+                else
+                    return 0;
+            }
+        });
+
+        return array;
+    }
+
+
+
+    /**
+     * Returns a short summary of the recorded statistics, suitable for a
+     * progress dialog: the operation with the longest total execution time.
+     * 
+     * @return summary or an empty string if nothing was recorded
+     */
+    public String getSummary() {
+        OpStats[] stats = getStats();
+        if (stats.length == 0)
+            return "";
+
+        return "Slowest: " + stats[0].name + " (p50 = " + stats[0].p50 / 1e6
+                + " ms)";
+    }
+
+
+
+    /**
+     * Records the execution of an operation.
+     * 
+     * @param name
+     *            name of the operation, which identifies its statistics
+     * @param startTime
+     *            value of {@link System#nanoTime()} before the execution
+     * @param startAllocatedBytes
+     *            value of {@link #allocatedBytes()} before the execution
+     * @param error
+     *            <code>true</code> if the execution failed
+     */
+    public void record(String name, long startTime, long startAllocatedBytes,
+            boolean error) {
+        long time = System.nanoTime() - startTime;
+
+        long allocated = -1;
+        if (startAllocatedBytes >= 0) {
+            long endAllocatedBytes = allocatedBytes();
+            if (endAllocatedBytes >= 0)
+                allocated = endAllocatedBytes - startAllocatedBytes;
+        }
+
+        int bucket = Math.min(bucketOf(time), NB_BUCKETS - 1);
+
+        synchronized (this) {
+            Entry entry = entries.get(name);
+            if (entry == null) {
+                entry = new Entry(name);
+                entries.put(name, entry);
+            }
+
+            entry.count++;
+            if (error)
+                entry.errors++;
+            entry.totalTime += time;
+            if (allocated < 0 || entry.allocatedBytes < 0)
+                entry.allocatedBytes = -1;
+            else
+                entry.allocatedBytes += allocated;
+            entry.histogram[bucket]++;
+        }
+    }
+
+
+
+    /**
+     * Writes the statistics in a CSV file. The times are in nanoseconds. The
+     * names of the operations are quoted if needed.
+     * 
+     * @param file
+     *            CSV file
+     * @throws IOException
+     *             if an error occurs while writing the file
+     */
+    public void writeCsv(File file) throws IOException {
+        Writer writer = new BufferedWriter(new FileWriter(file));
+
+        try {
+            writer.write("Operation,Count,Errors,Total time,Average time,"
+                    + "P50,P95,P99,Allocated bytes\n");
+
+            for (OpStats stats : getStats())
+                writer.write(escapeCsv(stats.name) + "," + stats.count + ","
+                        + stats.errors + "," + stats.totalTime + ","
+                        + stats.getAverageTime() + "," + stats.p50 + ","
+                        + stats.p95 + "," + stats.p99 + ","
+                        + stats.allocatedBytes + "\n");
+        } finally {
+            writer.close();
+        }
+    }
+
+
+
+    /**
+     * Writes the statistics in a JSON file (an array with one object per
+     * operation). The times are in nanoseconds.
+     * 
+     * @param file
+     *            JSON file
+     * @throws IOException
+     *             if an error occurs while writing the file
+     */
+    public void writeJson(File file) throws IOException {
+        Writer writer = new BufferedWriter(new FileWriter(file));
+
+        try {
+            writer.write("[");
+
+            OpStats[] allStats = getStats();
+            for (int i = 0; i < allStats.length; i++) {
+                OpStats stats = allStats[i];
+
+                if (i > 0)
+                    writer.write(",");
+                writer.write("\n  {\"operation\": \""
+                        + stats.name.replace("\\", "\\\\").replace("\"",
+                                "\\\"") + "\", \"count\": " + stats.count
+                        + ", \"errors\": " + stats.errors
+                        + ", \"totalTime\": " + stats.totalTime
+                        + ", \"averageTime\": " + stats.getAverageTime()
+                        + ", \"p50\": " + stats.p50 + ", \"p95\": "
+                        + stats.p95 + ", \"p99\": " + stats.p99
+                        + ", \"allocatedBytes\": " + stats.allocatedBytes
+                        + "}");
+            }
+
+            writer.write("\n]\n");
+        } finally {
+            writer.close();
+        }
+    }
+
+}
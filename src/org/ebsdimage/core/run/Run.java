@@ -64,6 +64,9 @@ public abstract class Run implements Monitorable {
     /** Runtime variable of the index of the current run. */
     protected int currentIndex = -1;
 
+    /** Profiler of the operations or <code>null</code> if none. */
+    private OpProfiler profiler = null;
+
 
 
     /**
@@ -143,6 +146,17 @@ public abstract class Run implements Monitorable {
 
 
 
+    /**
+     * Returns the profiler of the operations.
+     * 
+     * @return profiler or <code>null</code> if the operations are not profiled
+     */
+    public OpProfiler getProfiler() {
+        return profiler;
+    }
+
+
+
     @Override
     public double getTaskProgress() {
         return progress;
@@ -200,6 +214,26 @@ public abstract class Run implements Monitorable {
 
 
 
+    /**
+     * Writes the statistics of the profiler, if any, in the directory of the
+     * run (<code>&lt;name&gt;_timings.csv</code> and
+     * <code>&lt;name&gt;_timings.json</code>).
+     */
+    protected void saveProfile() {
+        if (profiler == null)
+            return;
+
+        try {
+            profiler.writeCsv(new File(dir, name + "_timings.csv"));
+            profiler.writeJson(new File(dir, name + "_timings.json"));
+        } catch (IOException e) {
+            logger.warning("Timings could not be saved because: "
+                    + e.getMessage());
+        }
+    }
+
+
+
     /**
      * Sets the working directory. The outputs of all the runs are saved in this
      * directory.
@@ -246,6 +280,20 @@ public abstract class Run implements Monitorable {
 
 
 
+    /**
+     * Sets the profiler of the operations. The execution time, allocated memory
+     * and number of invocations and errors of every operation are then
+     * recorded, and written in the directory of the run at the end.
+     * 
+     * @param profiler
+     *            profiler or <code>null</code> to disable the profiling
+     */
+    public void setProfiler(OpProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+
+
     /**
      * Sets the status for the monitorable implementation and log the status in
      * the logger.
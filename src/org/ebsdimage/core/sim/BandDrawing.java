@@ -0,0 +1,182 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.sim;
+
+import java.awt.geom.Line2D;
+
+import rmlimage.module.real.core.RealMap;
+
+/**
+ * Scanline rasteriser to fill the area between the two edges of a band.
+ * <p/>
+ * Each edge is converted to the equation of a line normalised so that its
+ * value is the signed distance (in pixels) from the edge, positive towards the
+ * centre of the band. The distances are stepped incrementally along the rows
+ * and the columns, so that no object is created per row or per pixel. When
+ * anti-aliasing is enabled, the coverage of a pixel by an edge is
+ * approximated by its distance to the edge (box filter of one pixel).
+ * 
+ * @author Philippe T. Pinard
+ */
+public class BandDrawing {
+
+    /**
+     * Fills the area between the edges of a band. The intensity is added to
+     * the current value of the pixels, so that overlapping bands accumulate.
+     * 
+     * @param canvas
+     *            pattern map
+     * @param band
+     *            band to draw
+     * @param intensity
+     *            intensity of the band
+     * @param antialiased
+     *            if <code>true</code>, the pixels crossed by an edge are
+     *            weighted by their coverage
+     * @throws IllegalArgumentException
+     *             if the edges of the band are not lines
+     */
+    public static void fill(RealMap canvas, Band band, float intensity,
+            boolean antialiased) {
+        if (!(band.edge1 instanceof Line2D) || !(band.edge2 instanceof Line2D))
+            throw new IllegalArgumentException(
+                    "The edges of the band must be lines.");
+
+        fill(canvas.pixArray, canvas.width, canvas.height, band.middle,
+                (Line2D) band.edge1, (Line2D) band.edge2, intensity,
+                antialiased);
+    }
+
+
+
+    /**
+     * Fills the area between two edges in an array of pixels. The intensity is
+     * added to the current value of the pixels.
+     * 
+     * @param pixArray
+     *            pixels (row major)
+     * @param width
+     *            width of the image
+     * @param height
+     *            height of the image
+     * @param middle
+     *            a line inside the area to fill
+     * @param edge1
+     *            first edge
+     * @param edge2
+     *            second edge
+     * @param intensity
+     *            intensity to add
+     * @param antialiased
+     *            if <code>true</code>, the pixels crossed by an edge are
+     *            weighted by their coverage
+     */
+    public static void fill(float[] pixArray, int width, int height,
+            Line2D middle, Line2D edge1, Line2D edge2, float intensity,
+            boolean antialiased) {
+        double mx = (middle.getX1() + middle.getX2()) / 2.0;
+        double my = (middle.getY1() + middle.getY2()) / 2.0;
+
+        // Line equations: a x + b y + c = signed distance
+        double a1 = edge1.getY2() - edge1.getY1();
+        double b1 = edge1.getX1() - edge1.getX2();
+        double length1 = Math.sqrt(a1 * a1 + b1 * b1);
+        double a2 = edge2.getY2() - edge2.getY1();
+        double b2 = edge2.getX1() - edge2.getX2();
+        double length2 = Math.sqrt(a2 * a2 + b2 * b2);
+
+        if (length1 == 0.0 || length2 == 0.0)
+            return;
+
+        a1 /= length1;
+        b1 /= length1;
+        double c1 = -(a1 * edge1.getX1() + b1 * edge1.getY1());
+        if (a1 * mx + b1 * my + c1 < 0) {
+            a1 = -a1;
+            b1 = -b1;
+            c1 = -c1;
+        }
+
+        a2 /= length2;
+        b2 /= length2;
+        double c2 = -(a2 * edge2.getX1() + b2 * edge2.getY1());
+        if (a2 * mx + b2 * my + c2 < 0) {
+            a2 = -a2;
+            b2 = -b2;
+            c2 = -c2;
+        }
+
+        // Pixels are drawn when the distance from both edges is above limit
+        double limit = antialiased ? -0.5 : 0.0;
+
+        // Distances at the centre of the first pixel of the first row
+        double row1 = a1 * 0.5 + b1 * 0.5 + c1;
+        double row2 = a2 * 0.5 + b2 * 0.5 + c2;
+
+        for (int y = 0; y < height; y++, row1 += b1, row2 += b2) {
+            // Columns where both distances may be above the limit
+            double start = 0;
+            double end = width - 1;
+
+            if (a1 > 0)
+                start = Math.max(start, Math.ceil((limit - row1) / a1));
+            else if (a1 < 0)
+                end = Math.min(end, Math.floor((limit - row1) / a1));
+            else if (row1 < limit)
+                continue;
+
+            if (a2 > 0)
+                start = Math.max(start, Math.ceil((limit - row2) / a2));
+            else if (a2 < 0)
+                end = Math.min(end, Math.floor((limit - row2) / a2));
+            else if (row2 < limit)
+                continue;
+
+            if (start > end)
+                continue;
+
+            int x0 = (int) start;
+            int x1 = (int) end;
+            double d1 = row1 + a1 * x0;
+            double d2 = row2 + a2 * x0;
+            int index = y * width + x0;
+
+            if (antialiased) {
+                for (int x = x0; x <= x1; x++, index++, d1 += a1, d2 += a2) {
+                    double coverage1 = d1 + 0.5;
+                    if (coverage1 > 1.0)
+                        coverage1 = 1.0;
+                    double coverage2 = d2 + 0.5;
+                    if (coverage2 > 1.0)
+                        coverage2 = 1.0;
+
+                    // Both edges may cross the same pixel
+                    double coverage = coverage1 + coverage2 - 1.0;
+                    if (coverage > 0)
+                        pixArray[index] += (float) (coverage * intensity);
+                }
+            } else {
+                for (int x = x0; x <= x1; x++, index++, d1 += a1, d2 += a2) {
+                    if (d1 >= 0 && d2 >= 0)
+                        pixArray[index] += intensity;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,366 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.sim;
+
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+
+import net.jcip.annotations.Immutable;
+
+import org.apache.commons.math.geometry.Rotation;
+import org.ebsdimage.core.AcquisitionConfig;
+
+import ptpshared.geom.AffineTransform3D;
+import ptpshared.geom.EuclideanSpace;
+import ptpshared.geom.Plane;
+import rmlshared.geom.LineUtil;
+import crystallography.core.Calculations;
+import crystallography.core.Reflector;
+
+/**
+ * Geometry of the detector precompiled from an <code>AcquisitionConfig</code>
+ * for a given pattern size. The transformations between the coordinate
+ * systems and the camera plane are stored as primitive matrices, so that the
+ * intersection of a plane with the camera can be calculated without creating
+ * intermediate geometrical objects.
+ * 
+ * @author Philippe T. Pinard
+ */
+@Immutable
+public class DetectorGeometry {
+
+    /** Acquisition configuration. */
+    public final AcquisitionConfig acqConfig;
+
+    /** Width of the diffraction pattern image. */
+    public final int width;
+
+    /** Height of the diffraction pattern image. */
+    public final int height;
+
+    /** Calibration of the camera/diffraction pattern in x. */
+    public final double dx;
+
+    /** Calibration of the camera/diffraction pattern in y. */
+    public final double dy;
+
+    /** Wavelength of the electron. */
+    public final double wavelength;
+
+    /**
+     * Rotation (row major) from the acquisition position coordinate system to
+     * the microscope coordinate system.
+     */
+    private final double[] rAcq;
+
+    /**
+     * Translation from the acquisition position coordinate system to the
+     * microscope coordinate system.
+     */
+    private final double[] tAcq;
+
+    /**
+     * Rotation (row major) from the microscope coordinate system to the camera
+     * coordinate system.
+     */
+    private final double[] rCam;
+
+    /**
+     * Translation from the microscope coordinate system to the camera
+     * coordinate system.
+     */
+    private final double[] tCam;
+
+    /** Normal of the camera plane. */
+    private final double[] nCam;
+
+    /** Coefficient d of the camera plane. */
+    private final double dCam;
+
+    /** Bounds of the diffraction pattern. */
+    private final Rectangle2D bounds;
+
+
+
+    /**
+     * Creates a new <code>DetectorGeometry</code>.
+     * 
+     * @param width
+     *            width of the diffraction pattern image
+     * @param height
+     *            height of the diffraction pattern image
+     * @param acqConfig
+     *            acquisition configuration
+     */
+    public DetectorGeometry(int width, int height,
+            AcquisitionConfig acqConfig) {
+        this.width = width;
+        this.height = height;
+        this.acqConfig = acqConfig;
+
+        EuclideanSpace microscopeCS = acqConfig.getMicroscopeCS();
+        EuclideanSpace acqPositionCS = acqConfig.getAcquisitionPositionCS();
+        EuclideanSpace cameraCS = acqConfig.getCameraCS();
+        Plane cameraPlane = acqConfig.getCameraPlane();
+
+        AffineTransform3D atFromAcqPositionToMicroscope =
+                acqPositionCS.getTransformationTo(microscopeCS);
+        AffineTransform3D atFromMicroscopeToCamera =
+                microscopeCS.getTransformationTo(cameraCS);
+
+        double[][] m = atFromAcqPositionToMicroscope.getMatrix();
+        rAcq = getRotation(m);
+        tAcq = new double[] { m[0][3], m[1][3], m[2][3] };
+
+        m = atFromMicroscopeToCamera.getMatrix();
+        rCam = getRotation(m);
+        tCam = new double[] { m[0][3], m[1][3], m[2][3] };
+
+        nCam =
+                new double[] { cameraPlane.getA(), cameraPlane.getB(),
+                        cameraPlane.getC() };
+        dCam = cameraPlane.getD();
+
+        dx = width / acqConfig.camera.width;
+        dy = height / acqConfig.camera.height;
+
+        wavelength = Calculations.electronWavelength(acqConfig.beamEnergy);
+
+        bounds = new Rectangle2D.Double(0, 0, width, height);
+    }
+
+
+
+    /**
+     * Returns the rotation part of a 4x4 affine transformation matrix in row
+     * major order.
+     * 
+     * @param m
+     *            affine transformation matrix
+     * @return rotation
+     */
+    private static double[] getRotation(double[][] m) {
+        return new double[] { m[0][0], m[0][1], m[0][2], m[1][0], m[1][1],
+                m[1][2], m[2][0], m[2][1], m[2][2] };
+    }
+
+
+
+    /**
+     * Calculates the band of a reflector.
+     * 
+     * @param reflector
+     *            reflector of the band
+     * @param mx
+     *            x component of the normal of the reflector in the microscope
+     *            coordinate system
+     * @param my
+     *            y component of the normal
+     * @param mz
+     *            z component of the normal
+     * @param cosHalfTheta
+     *            cosine of half the diffraction angle
+     * @param sinHalfTheta
+     *            sine of half the diffraction angle
+     * @return a band
+     * @throws BandException
+     *             if the band is outside the camera or parallel to it
+     * @see #getRotationToMicroscope(Rotation)
+     */
+    public Band calculateBand(Reflector reflector, double mx, double my,
+            double mz, double cosHalfTheta, double sinHalfTheta)
+            throws BandException {
+        // The reflector's plane passes through the origin of the acquisition
+        // position CS
+        double px = tAcq[0];
+        double py = tAcq[1];
+        double pz = tAcq[2];
+
+        Line2D middle = getLine(mx, my, mz, px, py, pz);
+
+        // Axis of the opening: direction of the intersection line
+        double vx = my * nCam[2] - mz * nCam[1];
+        double vy = mz * nCam[0] - mx * nCam[2];
+        double vz = mx * nCam[1] - my * nCam[0];
+        double coeff = -sinHalfTheta / Math.sqrt(vx * vx + vy * vy + vz * vz);
+
+        // Quaternion of the opening (same convention as Rotation)
+        double q0 = cosHalfTheta;
+        double q1 = coeff * vx;
+        double q2 = coeff * vy;
+        double q3 = coeff * vz;
+
+        double[] n = new double[3];
+        double[] p = new double[3];
+
+        rotate(q0, q1, q2, q3, mx, my, mz, n);
+        rotate(q0, q1, q2, q3, px, py, pz, p);
+        Line2D edge1 = getLine(n[0], n[1], n[2], p[0], p[1], p[2]);
+
+        // Inverse rotation
+        rotate(-q0, q1, q2, q3, mx, my, mz, n);
+        rotate(-q0, q1, q2, q3, px, py, pz, p);
+        Line2D edge2 = getLine(n[0], n[1], n[2], p[0], p[1], p[2]);
+
+        return new Band(reflector, middle, edge1, edge2);
+    }
+
+
+
+    /**
+     * Returns the line in the diffraction pattern resulting from the
+     * intersection of a plane with the camera's plane. The plane is expressed
+     * in the microscope coordinate system.
+     * 
+     * @param nx
+     *            x component of the normal of the plane
+     * @param ny
+     *            y component of the normal of the plane
+     * @param nz
+     *            z component of the normal of the plane
+     * @param px
+     *            x coordinate of a point of the plane
+     * @param py
+     *            y coordinate of a point of the plane
+     * @param pz
+     *            z coordinate of a point of the plane
+     * @return line extended to the bounds of the diffraction pattern
+     * @throws BandException
+     *             if the plane does not intersect the camera's plane
+     * @throws BandException
+     *             if the line is outside the diffraction pattern
+     */
+    private Line2D getLine(double nx, double ny, double nz, double px,
+            double py, double pz) throws BandException {
+        // Direction of the intersection line
+        double vx = ny * nCam[2] - nz * nCam[1];
+        double vy = nz * nCam[0] - nx * nCam[2];
+        double vz = nx * nCam[1] - ny * nCam[0];
+        double normSq = vx * vx + vy * vy + vz * vz;
+
+        if (Math.sqrt(normSq) < 1e-6)
+            throw new BandException("The plane is parallel to the camera.");
+
+        // Point of the intersection line: (d1 n0 - d0 n1) x v / |v|^2
+        double d = -(nx * px + ny * py + nz * pz);
+        double wx = nx * dCam - nCam[0] * d;
+        double wy = ny * dCam - nCam[1] * d;
+        double wz = nz * dCam - nCam[2] * d;
+
+        double lx = (wy * vz - wz * vy) / normSq;
+        double ly = (wz * vx - wx * vz) / normSq;
+        double lz = (wx * vy - wy * vx) / normSq;
+
+        // Line in camera CS
+        double cx = rCam[0] * lx + rCam[1] * ly + rCam[2] * lz + tCam[0];
+        double cy = rCam[3] * lx + rCam[4] * ly + rCam[5] * lz + tCam[1];
+        double cvx = rCam[0] * vx + rCam[1] * vy + rCam[2] * vz;
+        double cvy = rCam[3] * vx + rCam[4] * vy + rCam[5] * vz;
+
+        Line2D line =
+                new Line2D.Double(cx * dx, cy * dy, (cx + cvx) * dx,
+                        (cy + cvy) * dy);
+
+        try {
+            LineUtil.extendTo(line, bounds);
+        } catch (IllegalArgumentException ex) {
+            throw new BandException(ex);
+        }
+
+        return line;
+    }
+
+
+
+    /**
+     * Returns the rotation (row major) from the crystal coordinate system to
+     * the microscope coordinate system for the specified orientation of the
+     * crystal. The normal of a reflector multiplied by this matrix gives the
+     * normal expected by {@link #calculateBand}.
+     * 
+     * @param rotation
+     *            rotation of the crystal
+     * @return rotation matrix
+     */
+    public double[] getRotationToMicroscope(Rotation rotation) {
+        // crystal CS to sample CS (rotation due to the orientation)
+        // sample CS to acquisition position CS: nothing to change
+        double[][] m = rotation.getMatrix();
+        double[] r = new double[9];
+
+        for (int i = 0; i < 3; i++)
+            for (int j = 0; j < 3; j++)
+                r[i * 3 + j] =
+                        rAcq[i * 3] * m[0][j] + rAcq[i * 3 + 1] * m[1][j]
+                                + rAcq[i * 3 + 2] * m[2][j];
+
+        return r;
+    }
+
+
+
+    /**
+     * Checks whether this geometry was compiled for the specified parameters.
+     * 
+     * @param width
+     *            width of the diffraction pattern image
+     * @param height
+     *            height of the diffraction pattern image
+     * @param acqConfig
+     *            acquisition configuration
+     * @return <code>true</code> if the geometry can be used for these
+     *         parameters
+     */
+    public boolean isFor(int width, int height, AcquisitionConfig acqConfig) {
+        return this.width == width && this.height == height
+                && this.acqConfig == acqConfig;
+    }
+
+
+
+    /**
+     * Rotates a vector by a unit quaternion. Same result as
+     * <code>Rotation.applyTo(Vector3D)</code>.
+     * 
+     * @param q0
+     *            scalar part of the quaternion
+     * @param q1
+     *            first vector component of the quaternion
+     * @param q2
+     *            second vector component of the quaternion
+     * @param q3
+     *            third vector component of the quaternion
+     * @param x
+     *            x component of the vector
+     * @param y
+     *            y component of the vector
+     * @param z
+     *            z component of the vector
+     * @param out
+     *            rotated vector
+     */
+    private static void rotate(double q0, double q1, double q2, double q3,
+            double x, double y, double z, double[] out) {
+        double s = q1 * x + q2 * y + q3 * z;
+
+        out[0] = 2 * (q0 * (x * q0 - (q2 * z - q3 * y)) + s * q1) - x;
+        out[1] = 2 * (q0 * (y * q0 - (q3 * x - q1 * z)) + s * q2) - y;
+        out[2] = 2 * (q0 * (z * q0 - (q1 * y - q2 * x)) + s * q3) - z;
+    }
+
+}
@@ -17,16 +17,12 @@
  */
 package org.ebsdimage.core.sim;
 
-import java.awt.geom.Line2D;
-import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
 
 import org.apache.commons.math.geometry.Rotation;
 import org.apache.commons.math.geometry.Vector3D;
 import org.ebsdimage.core.AcquisitionConfig;
 
-import ptpshared.geom.*;
-import rmlshared.geom.LineUtil;
-import rmlshared.util.ArrayList;
 import crystallography.core.Calculations;
 import crystallography.core.Reflector;
 import crystallography.core.Reflectors;
@@ -34,41 +30,126 @@ import crystallography.core.Reflectors;
 /**
  * A <code>BandsCalculator</code> that approximates the shape of the bands by
  * two straight edges.
+ * <p/>
+ * The geometry of the detector (<code>DetectorGeometry</code>) and the
+ * diffraction angle of the reflectors (<code>BraggTable</code>) are calculated
+ * once and reused as long as the acquisition configuration, the size of the
+ * pattern and the reflectors do not change. The calculator can be shared
+ * between threads.
  * 
  * @author Philippe T. Pinard
  */
 public class LinearBandsCalculator implements BandsCalculator {
 
+    /**
+     * Normals and diffraction angles of the reflectors of a crystal for a
+     * given electron wavelength.
+     */
+    private static class BraggTable {
+
+        /** Reflectors. */
+        public final Reflectors reflectors;
+
+        /** Wavelength of the electron. */
+        public final double wavelength;
+
+        /** Reflectors sorted by decreasing intensity. */
+        public final Reflector[] sorted;
+
+        /** Normals of the reflectors (x, y, z). */
+        public final double[] normals;
+
+        /** Cosine of half the diffraction angle of the reflectors. */
+        public final double[] cosHalfTheta;
+
+        /** Sine of half the diffraction angle of the reflectors. */
+        public final double[] sinHalfTheta;
+
+
+
+        /**
+         * Creates a new <code>BraggTable</code>.
+         * 
+         * @param reflectors
+         *            reflectors
+         * @param wavelength
+         *            wavelength of the electron
+         */
+        public BraggTable(Reflectors reflectors, double wavelength) {
+            this.reflectors = reflectors;
+            this.wavelength = wavelength;
+
+            sorted = reflectors.getReflectorsSortedByIntensity(true);
+            normals = new double[sorted.length * 3];
+            cosHalfTheta = new double[sorted.length];
+            sinHalfTheta = new double[sorted.length];
+
+            for (int i = 0; i < sorted.length; i++) {
+                Vector3D normal = sorted[i].getNormal();
+                normals[i * 3] = normal.getX();
+                normals[i * 3 + 1] = normal.getY();
+                normals[i * 3 + 2] = normal.getZ();
+
+                double theta =
+                        Calculations.diffractionAngle(sorted[i].planeSpacing,
+                                wavelength);
+                cosHalfTheta[i] = Math.cos(theta / 2.0);
+                sinHalfTheta[i] = Math.sin(theta / 2.0);
+            }
+        }
+
+
+
+        /**
+         * Checks whether this table was calculated for the specified
+         * reflectors and wavelength.
+         * 
+         * @param reflectors
+         *            reflectors
+         * @param wavelength
+         *            wavelength of the electron
+         * @return <code>true</code> if the table can be used
+         */
+        public boolean isFor(Reflectors reflectors, double wavelength) {
+            return this.reflectors == reflectors
+                    && this.wavelength == wavelength;
+        }
+    }
+
+    /** Last detector geometry. */
+    private volatile DetectorGeometry geometry;
+
+    /** Last Bragg table. */
+    private volatile BraggTable table;
+
+
+
     @Override
     public Band[] calculate(int width, int height, AcquisitionConfig acqConfig,
             Reflectors reflectors, Rotation rotation) {
-        EuclideanSpace microscopeCS = acqConfig.getMicroscopeCS();
-        EuclideanSpace acqPositionCS = acqConfig.getAcquisitionPositionCS();
-        EuclideanSpace cameraCS = acqConfig.getCameraCS();
-        Plane cameraPlane = acqConfig.getCameraPlane();
+        DetectorGeometry geometry = getGeometry(width, height, acqConfig);
+        BraggTable table = getTable(reflectors, geometry.wavelength);
 
-        AffineTransform3D atFromAcqPositionToMicroscope =
-                acqPositionCS.getTransformationTo(microscopeCS);
-        AffineTransform3D atFromMicroscopeToCamera =
-                microscopeCS.getTransformationTo(cameraCS);
+        double[] r = geometry.getRotationToMicroscope(rotation);
+        double[] normals = table.normals;
 
-        double dx = width / acqConfig.camera.width;
-        double dy = height / acqConfig.camera.height;
+        ArrayList<Band> bands = new ArrayList<Band>(table.sorted.length);
 
-        double wavelength =
-                Calculations.electronWavelength(acqConfig.beamEnergy);
+        for (int i = 0; i < table.sorted.length; i++) {
+            double nx = normals[i * 3];
+            double ny = normals[i * 3 + 1];
+            double nz = normals[i * 3 + 2];
 
-        ArrayList<Band> bands = new ArrayList<Band>();
+            double mx = r[0] * nx + r[1] * ny + r[2] * nz;
+            double my = r[3] * nx + r[4] * ny + r[5] * nz;
+            double mz = r[6] * nx + r[7] * ny + r[8] * nz;
 
-        for (Reflector reflector : reflectors.getReflectorsSortedByIntensity(true)) {
             Band band;
 
             try {
                 band =
-                        calculateBand(width, height, reflector, rotation,
-                                atFromAcqPositionToMicroscope,
-                                atFromMicroscopeToCamera, cameraPlane, dx, dy,
-                                wavelength);
+                        geometry.calculateBand(table.sorted[i], mx, my, mz,
+                                table.cosHalfTheta[i], table.sinHalfTheta[i]);
             } catch (BandException ex) {
                 continue;
             }
@@ -82,149 +163,50 @@ public class LinearBandsCalculator implements BandsCalculator {
 
 
     /**
-     * Calculates a band.
+     * Returns the geometry of the detector for the specified parameters. The
+     * geometry is only recalculated when the parameters change.
      * 
      * @param width
      *            width of the diffraction pattern image
      * @param height
      *            height of the diffraction pattern image
-     * @param reflector
-     *            reflector of the band
-     * @param rotation
-     *            rotation of the crystal
-     * @param atFromAcqPositionToMicroscope
-     *            affine transformation from the acquisition position coordinate
-     *            system to the microscope coordinate system
-     * @param atFromMicroscopeToCamera
-     *            affine transformation from the microscope coordinate system to
-     *            the camera coordinate system
-     * @param cameraPlane
-     *            plane of the camera
-     * @param dx
-     *            calibration of the camera/diffraction pattern in x
-     * @param dy
-     *            calibration of the camera/diffraction pattern in x
-     * @param wavelength
-     *            wavelength of the electron
-     * @return a band
-     * @throws BandException
-     *             if the band for the specified reflector is outside the camera
-     *             or parallel to it
+     * @param acqConfig
+     *            acquisition configuration
+     * @return geometry of the detector
      */
-    private Band calculateBand(int width, int height, Reflector reflector,
-            Rotation rotation, AffineTransform3D atFromAcqPositionToMicroscope,
-            AffineTransform3D atFromMicroscopeToCamera, Plane cameraPlane,
-            double dx, double dy, double wavelength) throws BandException {
-        // crystal CS to sample CS (rotation due to the orientation)
-        Vector3D normal = rotation.applyTo(reflector.getNormal());
-        Plane plane = new Plane(new Vector3D(0, 0, 0), normal);
-
-        // sample CS to acquisition position CS
-        // transformation = nothing to change
-
-        // intersect plane with camera in microscope CS
-        plane = plane.transform(atFromAcqPositionToMicroscope);
-        Line3D intersectLine = getIntersectionLine(plane, cameraPlane);
-
-        // line in camera CS
-        Line2D middle =
-                getLineInCamera(width, height, intersectLine,
-                        atFromMicroscopeToCamera, dx, dy);
-
-        // edges
-        double theta =
-                Calculations.diffractionAngle(reflector.planeSpacing,
-                        wavelength);
-        Rotation opening = new Rotation(intersectLine.v, theta);
-        AffineTransform3D atOpening =
-                new AffineTransform3D(opening, new Vector3D(0, 0, 0));
-
-        Plane edge1Plane = plane.transform(atOpening);
-        Line2D edge1 =
-                getLineInCamera(width, height,
-                        getIntersectionLine(edge1Plane, cameraPlane),
-                        atFromMicroscopeToCamera, dx, dy);
-
-        Plane edge2Plane = plane.transform(atOpening.inverse());
-        Line2D edge2 =
-                getLineInCamera(width, height,
-                        getIntersectionLine(edge2Plane, cameraPlane),
-                        atFromMicroscopeToCamera, dx, dy);
-
-        return new Band(reflector, middle, edge1, edge2);
-    }
-
-
+    private DetectorGeometry getGeometry(int width, int height,
+            AcquisitionConfig acqConfig) {
+        DetectorGeometry geometry = this.geometry;
 
-    /**
-     * Returns the line in 3D space resulting from the intersection of the
-     * reflector's plane with the camera's plane.
-     * 
-     * @param plane
-     *            reflector's plane
-     * @param cameraPlane
-     *            camera's plane
-     * @return intersection line
-     * @throws BandException
-     *             if the reflector's plane does not intersect the camera's
-     *             plane
-     */
-    private Line3D getIntersectionLine(Plane plane, Plane cameraPlane)
-            throws BandException {
-        Line3D intersectLine;
-
-        try {
-            intersectLine = PlaneUtil.planesIntersection(plane, cameraPlane);
-        } catch (ArithmeticException ex) {
-            throw new BandException(ex);
+        if (geometry == null || !geometry.isFor(width, height, acqConfig)) {
+            geometry = new DetectorGeometry(width, height, acqConfig);
+            this.geometry = geometry;
         }
 
-        return intersectLine;
+        return geometry;
     }
 
 
 
     /**
-     * Returns the representation of the intersection line in 3D space as drawn
-     * in the camera's 2D space (i.e. diffraction pattern).
+     * Returns the Bragg table of the specified reflectors. The table is only
+     * recalculated when the reflectors or the wavelength change.
      * 
-     * @param width
-     *            width of the diffraction pattern image
-     * @param height
-     *            height of the diffraction pattern image
-     * @param intersectLine
-     *            intersection line in 3D space of the reflector's plane and
-     *            camera's plane
-     * @param atFromMicroscopeToCamera
-     *            affine transformation from the microscope coordinate system to
-     *            the camera coordinate system
-     * @param dx
-     *            calibration of the camera/diffraction pattern in x
-     * @param dy
-     *            calibration of the camera/diffraction pattern in y
-     * @return 2D representation of the 3D intersection line
-     * @throws BandException
-     *             if the 2D line is outside the camera/diffraction pattern
+     * @param reflectors
+     *            reflectors
+     * @param wavelength
+     *            wavelength of the electron
+     * @return Bragg table
      */
-    private Line2D getLineInCamera(int width, int height, Line3D intersectLine,
-            AffineTransform3D atFromMicroscopeToCamera, double dx, double dy)
-            throws BandException {
-        Line3D cameraLine = intersectLine.transform(atFromMicroscopeToCamera);
-
-        // middle line
-        double x1 = cameraLine.p.getX() * dx;
-        double y1 = cameraLine.p.getY() * dy;
-        double x2 = cameraLine.getPointFromS(1).getX() * dx;
-        double y2 = cameraLine.getPointFromS(1).getY() * dy;
-        Line2D line = new Line2D.Double(x1, y1, x2, y2);
-
-        try {
-            LineUtil.extendTo(line, new Rectangle2D.Double(0, 0, width, height));
-        } catch (IllegalArgumentException ex) {
-            throw new BandException(ex);
+    private BraggTable getTable(Reflectors reflectors, double wavelength) {
+        BraggTable table = this.table;
+
+        if (table == null || !table.isFor(reflectors, wavelength)) {
+            table = new BraggTable(reflectors, wavelength);
+            this.table = table;
         }
 
-        return line;
+        return table;
     }
 
 }
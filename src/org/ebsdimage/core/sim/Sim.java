@@ -21,10 +21,17 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.math.geometry.Rotation;
 import org.ebsdimage.core.Camera;
 import org.ebsdimage.core.PhaseMap;
+import org.ebsdimage.core.run.OpProfiler;
 import org.ebsdimage.core.run.Operation;
 import org.ebsdimage.core.run.Run;
 import org.ebsdimage.core.sim.ops.output.OutputOps;
@@ -48,6 +55,94 @@ import crystallography.core.ReflectorsFactory;
         "patternSimOp", "outputOps" }, attributes = { "name", "dir" })
 public class Sim extends Run implements Monitorable {
 
+    /** Simulation of one pattern executed by a worker thread. */
+    private static class SimTask implements Callable<PatternSimOp> {
+
+        /** Index of the pattern. */
+        public final int index;
+
+        /** Reflectors of the crystal. */
+        public final Reflectors reflectors;
+
+        /** Rotation of the pattern. */
+        public final Rotation rotation;
+
+        /** Simulation. */
+        private final Sim sim;
+
+        /** Copy of the pattern simulation operation used by this task. */
+        public final PatternSimOp op;
+
+        /** Result of the task. */
+        private Future<PatternSimOp> future;
+
+
+
+        /**
+         * Creates a new <code>SimTask</code>.
+         * 
+         * @param sim
+         *            simulation
+         * @param index
+         *            index of the pattern
+         * @param reflectors
+         *            reflectors of the crystal
+         * @param rotation
+         *            rotation of the pattern
+         * @param op
+         *            copy of the pattern simulation operation, not used by
+         *            any other pending task
+         */
+        public SimTask(Sim sim, int index, Reflectors reflectors,
+                Rotation rotation, PatternSimOp op) {
+            this.sim = sim;
+            this.index = index;
+            this.reflectors = reflectors;
+            this.rotation = rotation;
+            this.op = op;
+        }
+
+
+
+        @Override
+        public PatternSimOp call() {
+            sim.simulate(op, reflectors, rotation);
+            return op;
+        }
+
+
+
+        /**
+         * Waits for the simulated pattern.
+         * 
+         * @return operation holding the simulated pattern
+         */
+        public PatternSimOp get() {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException)
+                    throw (RuntimeException) e.getCause();
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+
+
+        /**
+         * Submits the task to an executor.
+         * 
+         * @param executor
+         *            executor
+         */
+        public void submit(ExecutorService executor) {
+            future = executor.submit(this);
+        }
+    }
+
     /** Simulation listeners. */
     @ElementList(name = "listeners")
     private ArrayList<SimListener> listeners = new ArrayList<SimListener>();
@@ -73,6 +168,12 @@ public class Sim extends Run implements Monitorable {
     /** Runtime variable to access the rotation currently used. */
     protected Rotation currentRotation;
 
+    /** Number of threads simulating the patterns. */
+    private int threadCount = 1;
+
+    /** Runtime variable whether the patterns are drawn or only their bands. */
+    private boolean patternRequired = true;
+
 
 
     /**
@@ -449,12 +550,46 @@ public class Sim extends Run implements Monitorable {
 
 
 
+    /**
+     * Returns the number of threads simulating the patterns.
+     * 
+     * @return number of threads
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+
+
     @Override
     protected void initRuntimeVariables() {
         super.initRuntimeVariables();
 
         currentReflectors = null;
         currentRotation = null;
+        patternRequired = true;
+    }
+
+
+
+    /**
+     * Checks whether the simulated patterns must be drawn. The patterns are
+     * only needed when a listener is registered or when one of the output
+     * operations requires them. Otherwise, only the bands (and their Hough
+     * peaks) are calculated.
+     * 
+     * @return <code>true</code> if the patterns are drawn, <code>false</code>
+     *         if only the bands are calculated
+     */
+    public boolean isPatternRequired() {
+        if (!listeners.isEmpty())
+            return true;
+
+        for (OutputOps op : outputOps)
+            if (op.isPatternRequired())
+                return true;
+
+        return false;
     }
 
 
@@ -496,28 +631,37 @@ public class Sim extends Run implements Monitorable {
         for (OutputOps op : outputOps)
             op.setUp(this);
 
+        patternRequired = isPatternRequired();
+        if (!patternRequired)
+            setStatus("Only the bands of the patterns are calculated");
+
         // Loop through all the parameters
-        int index = 0;
         int size = reflectors.size() * rotations.size();
 
-        for (Reflectors reflectorz : reflectors) {
-            for (Rotation rotation : rotations) {
-                // Increment progress
-                progress = (double) index / (double) size;
+        if (threadCount > 1)
+            runParallel(size);
+        else {
+            int index = 0;
 
-                // Interrupt
-                if (isInterrupted())
-                    break;
+            for (Reflectors reflectorz : reflectors) {
+                for (Rotation rotation : rotations) {
+                    // Increment progress
+                    progress = (double) index / (double) size;
 
-                // Set current parameters
-                currentReflectors = reflectorz;
-                currentRotation = rotation;
-                currentIndex = index;
+                    // Interrupt
+                    if (isInterrupted())
+                        break;
 
-                // Run
-                runOnce(index, reflectorz, rotation);
+                    // Set current parameters
+                    currentReflectors = reflectorz;
+                    currentRotation = rotation;
+                    currentIndex = index;
 
-                index++;
+                    // Run
+                    runOnce(index, reflectorz, rotation);
+
+                    index++;
+                }
             }
         }
 
@@ -529,6 +673,9 @@ public class Sim extends Run implements Monitorable {
 
         initRuntimeVariables();
 
+        // Timings of the operations
+        saveProfile();
+
         setStatus("--- END ---");
     }
 
@@ -550,26 +697,60 @@ public class Sim extends Run implements Monitorable {
 
         setStatus("Performing " + patternSimOp.getName() + "...");
 
-        patternSimOp.simulate(this, getMetadata(), reflectorz, rotation);
-
-        firePatternSimOp(patternSimOp);
+        simulate(patternSimOp, reflectorz, rotation);
 
         setStatus("Performing " + patternSimOp.getName() + "... DONE");
 
+        runOutputOps(index, reflectorz, rotation, patternSimOp);
+    }
+
+
+
+    /**
+     * Runs the output operations on a simulated pattern and saves its
+     * parameters in the multimap.
+     * 
+     * @param index
+     *            index
+     * @param reflectorz
+     *            reflectors of the crystal
+     * @param rotation
+     *            rotation of the pattern
+     * @param op
+     *            pattern simulation operation holding the simulated pattern
+     */
+    private void runOutputOps(int index, Reflectors reflectorz,
+            Rotation rotation, PatternSimOp op) {
+        firePatternSimOp(op);
+
         // Output Ops
         setStatus("--- Output Operations ---");
-        for (OutputOps op : outputOps) {
-            setStatus("Saving to " + op.getName() + "...");
+        for (OutputOps outputOp : outputOps) {
+            setStatus("Saving to " + outputOp.getName() + "...");
+
+            OpProfiler profiler = getProfiler();
+            long startTime = 0;
+            long startAllocatedBytes = 0;
+            if (profiler != null) {
+                startAllocatedBytes = profiler.allocatedBytes();
+                startTime = System.nanoTime();
+            }
 
+            boolean error = true;
             try {
-                op.save(this, patternSimOp);
+                outputOp.save(this, op);
+                error = false;
             } catch (IOException e) {
                 throw new RuntimeException(e);
+            } finally {
+                if (profiler != null)
+                    profiler.record(outputOp.getName(), startTime,
+                            startAllocatedBytes, error);
             }
 
-            fireOutputOp(op);
+            fireOutputOp(outputOp);
 
-            setStatus("Saving to " + op.getName() + "... DONE");
+            setStatus("Saving to " + outputOp.getName() + "... DONE");
         }
 
         // Multimap
@@ -582,6 +763,124 @@ public class Sim extends Run implements Monitorable {
 
 
 
+    /**
+     * Simulates the patterns in parallel. Each pending pattern is simulated by
+     * a worker thread with its own copy of the pattern simulation operation.
+     * The copies are reused once their pattern has been handed to the output
+     * operations, so at most one copy per pending pattern is created. The
+     * simulated patterns are handed to the output operations in the
+     * order of their index, from the calling thread, so output operations
+     * writing sequentially (e.g. <code>SmpFile</code>) give the same result
+     * as a serial run.
+     * 
+     * @param size
+     *            number of patterns
+     */
+    private void runParallel(int size) {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        LinkedList<SimTask> pending = new LinkedList<SimTask>();
+        LinkedList<PatternSimOp> freeOps = new LinkedList<PatternSimOp>();
+
+        try {
+            int index = 0;
+
+            for (Reflectors reflectorz : reflectors) {
+                for (Rotation rotation : rotations) {
+                    if (isInterrupted())
+                        break;
+
+                    PatternSimOp op;
+                    if (freeOps.isEmpty())
+                        op = patternSimOp.duplicate();
+                    else
+                        op = freeOps.removeFirst();
+
+                    SimTask task =
+                            new SimTask(this, index, reflectorz, rotation, op);
+                    task.submit(executor);
+                    pending.add(task);
+
+                    // Limit the number of simulated patterns kept in memory
+                    if (pending.size() >= 2 * threadCount) {
+                        task = pending.removeFirst();
+                        runOutputOps(task, size);
+                        freeOps.add(task.op);
+                    }
+
+                    index++;
+                }
+            }
+
+            while (!pending.isEmpty() && !isInterrupted())
+                runOutputOps(pending.removeFirst(), size);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+
+    /**
+     * Waits for a simulated pattern and runs the output operations on it.
+     * 
+     * @param task
+     *            simulation task
+     * @param size
+     *            number of patterns
+     */
+    private void runOutputOps(SimTask task, int size) {
+        PatternSimOp op = task.get();
+
+        // Increment progress
+        progress = (double) task.index / (double) size;
+
+        // Set current parameters
+        currentReflectors = task.reflectors;
+        currentRotation = task.rotation;
+        currentIndex = task.index;
+
+        runOutputOps(task.index, task.reflectors, task.rotation, op);
+    }
+
+
+
+    /**
+     * Simulates a pattern, or only its bands if the patterns are not required
+     * by the output operations.
+     * 
+     * @param op
+     *            pattern simulation operation
+     * @param reflectorz
+     *            reflectors of the crystal
+     * @param rotation
+     *            rotation of the pattern
+     */
+    private void simulate(PatternSimOp op, Reflectors reflectorz,
+            Rotation rotation) {
+        OpProfiler profiler = getProfiler();
+        long startTime = 0;
+        long startAllocatedBytes = 0;
+        if (profiler != null) {
+            startAllocatedBytes = profiler.allocatedBytes();
+            startTime = System.nanoTime();
+        }
+
+        boolean error = true;
+        try {
+            if (patternRequired)
+                op.simulate(this, getMetadata(), reflectorz, rotation);
+            else
+                op.simulateBands(this, getMetadata(), reflectorz, rotation);
+            error = false;
+        } finally {
+            if (profiler != null)
+                profiler.record(op.getName(), startTime, startAllocatedBytes,
+                        error);
+        }
+    }
+
+
+
     @Override
     public void setDir(File dir) {
         super.setDir(dir);
@@ -598,4 +897,23 @@ public class Sim extends Run implements Monitorable {
         mmap.setName(name);
     }
 
+
+
+    /**
+     * Sets the number of threads simulating the patterns. With more than one
+     * thread, the patterns are simulated in parallel but the output
+     * operations are still executed in the order of the patterns.
+     * 
+     * @param threadCount
+     *            number of threads
+     * @throws IllegalArgumentException
+     *             if the number of threads is less than 1
+     */
+    public void setThreadCount(int threadCount) {
+        if (threadCount < 1)
+            throw new IllegalArgumentException("Thread count (" + threadCount
+                    + ") must be greater than 0.");
+        this.threadCount = threadCount;
+    }
+
 }
@@ -59,4 +59,11 @@ public class HoughPeaks extends OutputOps {
         new XmlSaver().saveArray(peaks, file);
     }
 
+
+
+    @Override
+    public boolean isPatternRequired() {
+        return false;
+    }
+
 }
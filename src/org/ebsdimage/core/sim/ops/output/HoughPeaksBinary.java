@@ -0,0 +1,101 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.sim.ops.output;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.ebsdimage.core.HoughPeak;
+import org.ebsdimage.core.HoughPeakIntensityComparator;
+import org.ebsdimage.core.sim.Sim;
+import org.ebsdimage.core.sim.ops.patternsim.PatternSimOp;
+import org.ebsdimage.io.PeaksOutputStream;
+
+import ptpshared.util.Arrays;
+
+/**
+ * Operation to save the Hough peaks of all the simulated patterns in a single
+ * binary file (<code>&lt;sim&gt;_peaks.pks</code>). The peaks are calculated
+ * directly from the bands and sorted by decreasing intensity. Since the
+ * simulated pattern is not needed, a simulation with only this kind of output
+ * operations does not draw the patterns.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class HoughPeaksBinary extends OutputOps {
+
+    /**
+     * Returns the binary file of a simulation.
+     * 
+     * @param sim
+     *            a simulation
+     * @return binary file
+     */
+    public static File getFile(Sim sim) {
+        return new File(sim.getDir(), sim.getName() + "_peaks.pks");
+    }
+
+    /** Binary file where the peaks are saved. */
+    private PeaksOutputStream out;
+
+
+
+    @Override
+    public boolean isPatternRequired() {
+        return false;
+    }
+
+
+
+    @Override
+    public void save(Sim sim, PatternSimOp patternSimOp) throws IOException {
+        HoughPeak[] peaks = bandsToHoughPeaks(patternSimOp);
+        Arrays.sort(peaks, new HoughPeakIntensityComparator(), true);
+
+        out.writePeaks(sim.getCurrentIndex(), peaks);
+    }
+
+
+
+    @Override
+    public void setUp(Sim sim) {
+        super.setUp(sim);
+
+        int size = sim.getReflectors().length * sim.getRotations().length;
+
+        try {
+            out = new PeaksOutputStream(getFile(sim), 0, size);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+
+
+    @Override
+    public void tearDown(Sim sim) {
+        super.tearDown(sim);
+
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
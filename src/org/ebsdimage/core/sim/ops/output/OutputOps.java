@@ -19,15 +19,11 @@ package org.ebsdimage.core.sim.ops.output;
 
 import java.io.IOException;
 
-import org.ebsdimage.core.HoughMath;
 import org.ebsdimage.core.HoughPeak;
-import org.ebsdimage.core.sim.Band;
 import org.ebsdimage.core.sim.Sim;
 import org.ebsdimage.core.sim.SimOperation;
 import org.ebsdimage.core.sim.ops.patternsim.PatternSimOp;
 
-import rmlimage.core.Map;
-
 /**
  * Superclass of operation to save the output(s).
  * 
@@ -44,17 +40,21 @@ public abstract class OutputOps extends SimOperation {
      * @return array of <code>HoughPeak</code>
      */
     protected HoughPeak[] bandsToHoughPeaks(PatternSimOp patternSimOp) {
-        Band[] bands = patternSimOp.getBands();
-        Map patternMap = patternSimOp.getPatternRealMap();
+        return patternSimOp.getHoughPeaks();
+    }
 
-        HoughPeak[] peaks = new HoughPeak[bands.length];
 
-        for (int i = 0; i < bands.length; i++)
-            peaks[i] =
-                    HoughMath.getHoughPeak(bands[i].middle, patternMap,
-                            bands[i].reflector.normalizedIntensity);
 
-        return peaks;
+    /**
+     * Returns whether this operation needs the simulated pattern maps. When
+     * none of the output operations of a simulation needs them, only the bands
+     * of the patterns are calculated.
+     * 
+     * @return <code>true</code> if the pattern maps are used,
+     *         <code>false</code> if only the bands are used
+     */
+    public boolean isPatternRequired() {
+        return true;
     }
 
 
@@ -72,13 +72,20 @@ public class SimHoughMap extends OutputOps {
 
 
 
+    @Override
+    public boolean isPatternRequired() {
+        return false;
+    }
+
+
+
     @Override
     public void save(Sim sim, PatternSimOp patternSimOp) throws IOException {
         HoughPeak[] peaks = bandsToHoughPeaks(patternSimOp);
         Arrays.sort(peaks, new HoughPeakIntensityComparator(), true);
 
         // Create a HoughMap
-        Magnitude dx = patternSimOp.getPatternMap().getCalibration().getDX();
+        Magnitude dx = patternSimOp.getCalibration().getDX();
 
         Magnitude a = dx.multiply(patternSimOp.width);
         Magnitude b = dx.multiply(patternSimOp.height);
@@ -18,6 +18,7 @@
 package org.ebsdimage.core.sim.ops.patternsim;
 
 import org.ebsdimage.core.sim.Band;
+import org.ebsdimage.core.sim.BandDrawing;
 import org.ebsdimage.core.sim.BandsCalculator;
 import org.ebsdimage.core.sim.LinearBandsCalculator;
 import org.simpleframework.xml.Attribute;
@@ -59,8 +60,9 @@ public class PatternFilledBand extends PatternSimOp {
 
 
     /**
-     * Draws a band on top of the current <code>patternMap</code>. The colour of
-     * the band is determined by {@link #getBandColorArray(Band)}.
+     * Fills the area between the edges of a band on top of the current
+     * <code>patternMap</code>. The intensity of the band is the normalized
+     * intensity of its reflector and the edges are anti-aliased.
      * 
      * @param canvas
      *            <code>RealMap</code> of the pattern
@@ -69,7 +71,8 @@ public class PatternFilledBand extends PatternSimOp {
      */
     @Override
     protected void drawBand(RealMap canvas, Band band) {
-        // TODO: PatternFilledBand drawBand when new fill method is created
+        BandDrawing.fill(canvas, band,
+                (float) band.reflector.normalizedIntensity, true);
     }
 
 
@@ -21,10 +21,13 @@ import java.util.logging.Logger;
 
 import org.apache.commons.math.geometry.Rotation;
 import org.ebsdimage.core.AcquisitionConfig;
+import org.ebsdimage.core.HoughMath;
+import org.ebsdimage.core.HoughPeak;
 import org.ebsdimage.core.sim.*;
 import org.simpleframework.xml.Attribute;
 
 import rmlimage.core.ByteMap;
+import rmlimage.core.Calibration;
 import rmlimage.module.real.core.Conversion;
 import rmlimage.module.real.core.RealMap;
 import rmlimage.module.real.core.ThreeSigmaRenderer;
@@ -35,7 +38,7 @@ import crystallography.core.Reflectors;
  * 
  * @author Philippe T. Pinard
  */
-public abstract class PatternSimOp extends SimOperation {
+public abstract class PatternSimOp extends SimOperation implements Cloneable {
 
     /** Width of the pattern. */
     @Attribute(name = "width")
@@ -54,6 +57,12 @@ public abstract class PatternSimOp extends SimOperation {
     /** Pattern's bands. */
     private Band[] bands;
 
+    /** Pattern's calibration. */
+    private Calibration calibration;
+
+    /** Calculator of the bands, shared with the copies of this operation. */
+    private BandsCalculator bandsCalculator;
+
 
 
     /**
@@ -95,7 +104,7 @@ public abstract class PatternSimOp extends SimOperation {
     private void calculateBands(AcquisitionConfig acqConfig,
             Reflectors reflectors, Rotation rotation) {
         bands =
-                getBandsCalculator().calculate(width, height, acqConfig,
+                getCachedBandsCalculator().calculate(width, height, acqConfig,
                         reflectors, rotation);
     }
 
@@ -150,6 +159,32 @@ public abstract class PatternSimOp extends SimOperation {
 
 
 
+    /**
+     * Returns a copy of this operation without simulated pattern. The copy
+     * keeps its own simulated pattern, so that several patterns can be
+     * simulated at the same time by different threads.
+     * 
+     * @return copy of this operation
+     */
+    public PatternSimOp duplicate() {
+        PatternSimOp other;
+        try {
+            other = (PatternSimOp) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException(e);
+        }
+
+        other.patternMap = null;
+        other.patternRealMap = null;
+        other.bands = null;
+        other.calibration = null;
+        other.bandsCalculator = getCachedBandsCalculator();
+
+        return other;
+    }
+
+
+
     @Override
     public boolean equals(Object obj) {
         if (!super.equals(obj))
@@ -179,6 +214,34 @@ public abstract class PatternSimOp extends SimOperation {
 
 
 
+    /**
+     * Returns the calibration of the simulated pattern.
+     * 
+     * @return calibration
+     */
+    public Calibration getCalibration() {
+        if (calibration == null)
+            throw new RuntimeException("Pattern is not yet simulated.");
+        return calibration;
+    }
+
+
+
+    /**
+     * Returns the <code>BandsCalculator</code> of this operation. The
+     * calculator is created once, so that it can keep its precalculated values
+     * between patterns.
+     * 
+     * @return <code>BandsCalculator</code>
+     */
+    private synchronized BandsCalculator getCachedBandsCalculator() {
+        if (bandsCalculator == null)
+            bandsCalculator = getBandsCalculator();
+        return bandsCalculator;
+    }
+
+
+
     /**
      * Returns the <code>BandsCalculator</code> to use to calculate the bands of
      * this simulated diffraction pattern.
@@ -189,6 +252,31 @@ public abstract class PatternSimOp extends SimOperation {
 
 
 
+    /**
+     * Returns the Hough peaks of the bands of the simulated pattern. The peaks
+     * are calculated from the centre line of the bands, so they are also
+     * available when only the bands were simulated (see
+     * {@link #simulateBands(Sim, SimMetadata, Reflectors, Rotation)}). The
+     * intensity of a peak is the normalized intensity of the reflector.
+     * 
+     * @return Hough peaks
+     */
+    public HoughPeak[] getHoughPeaks() {
+        Band[] bands = getBands();
+        Calibration cal = getCalibration();
+
+        HoughPeak[] peaks = new HoughPeak[bands.length];
+
+        for (int i = 0; i < bands.length; i++)
+            peaks[i] =
+                    HoughMath.getHoughPeak(bands[i].middle, width, height, cal,
+                            bands[i].reflector.normalizedIntensity);
+
+        return peaks;
+    }
+
+
+
     /**
      * Returns the simulated pattern <code>ByteMap</code>.
      * 
@@ -244,12 +332,39 @@ public abstract class PatternSimOp extends SimOperation {
         patternRealMap = drawRealMap(acqConfig, reflectors, rotation);
 
         // Set calibration
-        patternRealMap.setCalibration(acqConfig.camera.getCalibration(width,
-                height));
+        calibration = acqConfig.camera.getCalibration(width, height);
+        patternRealMap.setCalibration(calibration);
 
         // Use 3-sigma rendered
         patternRealMap.setMapRenderer(new ThreeSigmaRenderer());
         patternMap = Conversion.toByteMap(patternRealMap);
     }
 
+
+
+    /**
+     * Calculates the bands of a new pattern with the specified variables
+     * without drawing the pattern. Only the bands, the calibration and the
+     * Hough peaks are available afterwards. This is used when the output
+     * operations do not need the pattern maps.
+     * 
+     * @param sim
+     *            simulation executing this method
+     * @param reflectors
+     *            reflectors of the crystal
+     * @param metadata
+     *            simulation metadata
+     * @param rotation
+     *            rotation of the pattern
+     */
+    public void simulateBands(Sim sim, SimMetadata metadata,
+            Reflectors reflectors, Rotation rotation) {
+        AcquisitionConfig acqConfig = metadata.acquisitionConfig;
+        calculateBands(acqConfig, reflectors, rotation);
+
+        calibration = acqConfig.camera.getCalibration(width, height);
+        patternRealMap = null;
+        patternMap = null;
+    }
+
 }
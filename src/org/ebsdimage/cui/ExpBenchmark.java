@@ -0,0 +1,687 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.cui;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.math.geometry.Rotation;
+import org.apache.commons.math.geometry.RotationOrder;
+import org.ebsdimage.Init;
+import org.ebsdimage.core.exp.Exp;
+import org.ebsdimage.core.exp.ExpMMap;
+import org.ebsdimage.core.exp.ExpOperation;
+import org.ebsdimage.core.exp.ExpSplitter;
+import org.ebsdimage.core.exp.ops.pattern.op.PatternOp;
+import org.ebsdimage.core.exp.ops.pattern.op.PatternSmpLoader;
+import org.ebsdimage.core.run.OpProfiler;
+import org.ebsdimage.core.run.OpProfiler.OpStats;
+import org.ebsdimage.core.run.Operation;
+import org.ebsdimage.core.sim.Sim;
+import org.ebsdimage.core.sim.SimMetadata;
+import org.ebsdimage.core.sim.ops.patternsim.PatternFilledBand;
+import org.ebsdimage.core.sim.ops.patternsim.PatternSimOp;
+import org.ebsdimage.io.SmpOutputStream;
+import org.ebsdimage.io.exp.ExpLoader;
+import org.ebsdimage.io.exp.ExpMMapSaver;
+
+import ptpshared.cui.BaseCUI;
+import rmlimage.core.ByteMap;
+import rmlshared.cui.ErrorDialog;
+import rmlshared.cui.MessageDialog;
+import rmlshared.io.FileUtil;
+import crystallography.core.Crystal;
+import crystallography.core.ScatteringFactorsEnum;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Command line interface to measure the throughput (patterns/s) of an
+ * experiment on the current machine.
+ * <p/>
+ * The experiment is split in as many experiments as threads, which are run in
+ * parallel. For each number of threads, warmup passes are run, followed by
+ * measured passes. The throughput, the execution time of each operation, the
+ * time spent in the garbage collector and the peak heap usage are reported.
+ * <p/>
+ * The patterns of the experiment can be replaced by a SMP file of simulated
+ * patterns of the phases of the experiment. In the "no-save" mode, the
+ * listeners of the experiment are removed and the results are not saved, so
+ * that the computation can be measured separately from the I/O.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class ExpBenchmark extends BaseCUI {
+
+    /**
+     * Main entry.
+     * 
+     * @param args
+     *            arguments passed to the program
+     * @throws IOException
+     *             if an exception occurs while executing the program
+     */
+    public static void main(String[] args) throws IOException {
+        Init.initReflectorsCache();
+        new ExpBenchmark().parse(args);
+    }
+
+    /** Default number of warmup passes. */
+    public static final int DEFAULT_WARMUP = 1;
+
+    /** Default number of measured passes. */
+    public static final int DEFAULT_MEASURE = 3;
+
+    /** Maximum index of the reflectors of the simulated patterns. */
+    private static final int MAX_INDEX = 4;
+
+    /** Experiment input file. */
+    private File file;
+
+    /** Working directory of the runs. */
+    private File dir;
+
+    /** SMP file of the simulated patterns or <code>null</code>. */
+    private File smpFile;
+
+    /** Number of simulated patterns. */
+    private int patternCount;
+
+    /** Whether the listeners are run and the results are saved. */
+    private boolean save;
+
+    /** Whether the logger of the experiments is turned on. */
+    private boolean log;
+
+
+
+    /**
+     * Creates the experiments run in parallel. The experiment is loaded once
+     * per thread, so that the experiments do not share their operations. The
+     * experiments share the profiler, which records the copies of an
+     * operation under the same stage and name.
+     * 
+     * @param threadCount
+     *            number of threads
+     * @param profiler
+     *            profiler of the operations
+     * @return experiments
+     * @throws IOException
+     *             if an error occurs while loading the experiment
+     */
+    private Exp[] createExps(int threadCount, OpProfiler profiler)
+            throws IOException {
+        ArrayList<Exp> exps = new ArrayList<Exp>();
+
+        for (int i = 0; i < threadCount; i++) {
+            ExpSplitter splitter = new ExpSplitter(loadExp(), threadCount);
+            for (int j = 0; j < i && splitter.hasNext(); j++)
+                splitter.next();
+            if (!splitter.hasNext())
+                break;
+
+            Exp exp = splitter.next();
+            exp.setDir(new File(dir, exp.getName()));
+            exp.setProfiler(profiler);
+            if (!save)
+                exp.clearExpListners();
+            if (!log)
+                exp.turnOffLogger();
+
+            exps.add(exp);
+        }
+
+        return exps.toArray(new Exp[0]);
+    }
+
+
+
+    /**
+     * Returns the time spent in the garbage collector since the start of the
+     * JVM.
+     * 
+     * @return time (in ms)
+     */
+    private long getGcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory
+                .getGarbageCollectorMXBeans())
+            time += Math.max(0, bean.getCollectionTime());
+        return time;
+    }
+
+
+
+    /**
+     * Returns the experiment input file. The specified file is validated.
+     * 
+     * @param cmdLine
+     *            command line arguments
+     * @return experiment input file
+     */
+    @CheckForNull
+    private File getInputFile(CommandLine cmdLine) {
+        if (cmdLine.getArgs().length != 1) {
+            ErrorDialog.show("Please specify only one file ("
+                    + cmdLine.getArgs().length + "file(s) were given).");
+            return null;
+        }
+
+        File file = new File(cmdLine.getArgs()[0]);
+
+        if (!file.exists()) {
+            ErrorDialog.show("Specified file does not exist.");
+            return null;
+        }
+
+        if (!"xml".equalsIgnoreCase(FileUtil.getExtension(file))) {
+            ErrorDialog.show("The specified file must have an XML extension.");
+            return null;
+        }
+
+        return file;
+    }
+
+
+
+    /**
+     * Returns the command line options.
+     * 
+     * @return command line options
+     */
+    @Override
+    protected Options getOptions() {
+        Options options = super.getOptions();
+
+        options.addOption(new Option("d", "dir", true,
+                "Working directory of the runs"));
+        options.addOption(new Option("p", "patterns", true,
+                "Replace the patterns by N simulated patterns"));
+        options.addOption(new Option("s", "size", true,
+                "Size of the simulated patterns (e.g. 336x256)"));
+        options.addOption(new Option("t", "threads", true,
+                "Comma separated numbers of threads (default: 1 and the "
+                        + "number of processors)"));
+        options.addOption(new Option("w", "warmup", true,
+                "Number of warmup passes (default: " + DEFAULT_WARMUP + ")"));
+        options.addOption(new Option("m", "measure", true,
+                "Number of measured passes (default: " + DEFAULT_MEASURE
+                        + ")"));
+        options.addOption(new Option("n", "no-save", false,
+                "Do not run the listeners and do not save the results"));
+
+        return options;
+    }
+
+
+
+    /**
+     * Returns the peak heap usage since the last call to
+     * {@link #resetPeakHeap()}.
+     * 
+     * @return peak heap usage (in bytes)
+     */
+    private long getPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP && pool.isValid())
+                peak += pool.getPeakUsage().getUsed();
+        return peak;
+    }
+
+
+
+    /**
+     * Returns the size of the patterns to simulate, from the size option or
+     * from the first pattern of the experiment.
+     * 
+     * @param cmdLine
+     *            command line arguments
+     * @param exp
+     *            experiment
+     * @return width and height or <code>null</code> if the size is unknown
+     */
+    @CheckForNull
+    private int[] getPatternSize(CommandLine cmdLine, Exp exp) {
+        if (cmdLine.hasOption("size")) {
+            String size = cmdLine.getOptionValue("size");
+            int index = size.indexOf('x');
+
+            try {
+                return new int[] {
+                        Integer.parseInt(size.substring(0, index)),
+                        Integer.parseInt(size.substring(index + 1)) };
+            } catch (RuntimeException ex) {
+                ErrorDialog.show("Please specify a valid size (e.g. 336x256).");
+                return null;
+            }
+        }
+
+        PatternOp patternOp = exp.getPatternOp();
+        try {
+            ByteMap patternMap = patternOp.load(exp, patternOp.startIndex);
+            return new int[] { patternMap.width, patternMap.height };
+        } catch (Exception ex) {
+            ErrorDialog.show("The patterns of the experiment cannot be read, "
+                    + "please specify their size.");
+            return null;
+        }
+    }
+
+
+
+    /**
+     * Returns the numbers of threads from the arguments.
+     * 
+     * @param cmdLine
+     *            command line arguments
+     * @return numbers of threads or <code>null</code> if invalid
+     */
+    @CheckForNull
+    private int[] getThreadCounts(CommandLine cmdLine) {
+        if (!cmdLine.hasOption("threads")) {
+            int processors = Runtime.getRuntime().availableProcessors();
+            if (processors == 1)
+                return new int[] { 1 };
+            else
+                return new int[] { 1, processors };
+        }
+
+        String[] values = cmdLine.getOptionValue("threads").split(",");
+        int[] threadCounts = new int[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            try {
+                threadCounts[i] = Integer.parseInt(values[i].trim());
+            } catch (NumberFormatException ex) {
+                threadCounts[i] = 0;
+            }
+
+            if (threadCounts[i] < 1) {
+                ErrorDialog.show("Invalid number of threads: " + values[i]);
+                return null;
+            }
+        }
+
+        return threadCounts;
+    }
+
+
+
+    /**
+     * Loads the experiment and replaces its patterns by the simulated ones.
+     * 
+     * @return experiment
+     * @throws IOException
+     *             if an error occurs while loading the experiment
+     */
+    private Exp loadExp() throws IOException {
+        Exp exp = new ExpLoader().load(file);
+        if (smpFile == null)
+            return exp;
+
+        // Multimap of the size of the simulated patterns
+        ExpMMap mmap = exp.mmap.createMap(patternCount, 1);
+        mmap.setMetadata(exp.mmap.getMetadata());
+        for (Entry<Integer, Crystal> entry : exp.getPhases().entrySet())
+            if (entry.getKey() > 0)
+                mmap.getPhaseMap().register(entry.getKey(), entry.getValue());
+
+        // Replace the pattern operation
+        ArrayList<ExpOperation> ops = new ArrayList<ExpOperation>();
+        for (ExpOperation op : exp.getAllOperations())
+            if (!(op instanceof PatternOp))
+                ops.add(op);
+        ops.add(new PatternSmpLoader(0, patternCount, smpFile));
+
+        Exp other = new Exp(mmap, ops.toArray(new ExpOperation[0]));
+        other.setName(exp.getName());
+        other.addExpListeners(exp.getExpListeners());
+
+        return other;
+    }
+
+
+
+    /**
+     * Parses the command line arguments.
+     * 
+     * @param args
+     *            command line arguments
+     * @throws IOException
+     *             if an error occurs while executing
+     */
+    private void parse(String[] args) throws IOException {
+        CommandLine cmdLine = parseArguments(args);
+        if (cmdLine == null)
+            return;
+
+        setLogger(cmdLine);
+        log = cmdLine.hasOption("log");
+
+        // Parse input XML file
+        file = getInputFile(cmdLine);
+        if (file == null)
+            return;
+
+        // Parse options
+        int[] threadCounts = getThreadCounts(cmdLine);
+        if (threadCounts == null)
+            return;
+
+        int warmup = DEFAULT_WARMUP;
+        if (cmdLine.hasOption("warmup"))
+            warmup = getInteger(cmdLine, "warmup");
+        int measure = DEFAULT_MEASURE;
+        if (cmdLine.hasOption("measure"))
+            measure = getInteger(cmdLine, "measure");
+        if (warmup < 0 || measure < 1) {
+            ErrorDialog.show("Invalid number of passes.");
+            return;
+        }
+
+        save = !cmdLine.hasOption("no-save");
+        MessageDialog.show(save ? "Results are saved"
+                : "No-save mode: listeners are removed and results are not "
+                        + "saved");
+
+        if (cmdLine.hasOption("dir"))
+            dir = new File(cmdLine.getOptionValue("dir"));
+        else
+            dir = new File(FileUtil.getTempDirFile(), "expbenchmark");
+        if (!dir.exists() && !dir.mkdirs()) {
+            ErrorDialog.show("Cannot create working directory: " + dir);
+            return;
+        }
+
+        // Simulated patterns
+        if (cmdLine.hasOption("patterns")) {
+            patternCount = getInteger(cmdLine, "patterns");
+            if (patternCount < 1) {
+                ErrorDialog.show("Invalid number of patterns.");
+                return;
+            }
+
+            Exp exp;
+            try {
+                exp = new ExpLoader().load(file);
+            } catch (IOException ex) {
+                ErrorDialog.show(ex.getMessage());
+                return;
+            }
+
+            int[] size = getPatternSize(cmdLine, exp);
+            if (size == null)
+                return;
+
+            smpFile = new File(dir, exp.getName() + "_patterns.smp");
+            MessageDialog.show("Simulating " + patternCount + " patterns ("
+                    + size[0] + "x" + size[1] + ") in " + smpFile + "...");
+
+            try {
+                simulatePatterns(exp, size[0], size[1]);
+            } catch (IllegalArgumentException ex) {
+                ErrorDialog.show(ex.getMessage());
+                return;
+            }
+
+            MessageDialog.show("Simulating patterns... DONE");
+        }
+
+        // Benchmark
+        for (int threadCount : threadCounts) {
+            try {
+                runPasses(threadCount, warmup, measure);
+            } catch (Exception ex) {
+                ErrorDialog.show(ex.getMessage());
+                return;
+            }
+        }
+
+        if (smpFile != null && !smpFile.delete())
+            smpFile.deleteOnExit();
+    }
+
+
+
+    /**
+     * Prints the help of the program.
+     */
+    @Override
+    protected void printHelp() {
+        HelpFormatter formatter = new HelpFormatter();
+
+        String header =
+                "ExpBenchmark -- Measure the throughput of an experiment";
+        formatter.printHelp("ExpBenchmark [options] <xmlFile>", header,
+                getOptions(), "");
+    }
+
+
+
+    /**
+     * Resets the peak heap usage.
+     */
+    private void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP && pool.isValid())
+                pool.resetPeakUsage();
+    }
+
+
+
+    /**
+     * Runs one pass: the experiments are run in parallel and their results
+     * are saved (unless in no-save mode).
+     * 
+     * @param exps
+     *            experiments
+     * @return number of processed patterns
+     * @throws Exception
+     *             if an error occurs while running an experiment
+     */
+    private int runPass(Exp[] exps) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(exps.length);
+
+        try {
+            ArrayList<Future<Integer>> futures =
+                    new ArrayList<Future<Integer>>();
+
+            for (final Exp exp : exps) {
+                futures.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws IOException {
+                        exp.run();
+
+                        if (save)
+                            new ExpMMapSaver().save(exp.mmap, new File(
+                                    exp.getDir(), exp.getName() + ".zip"));
+
+                        return exp.getPatternOp().size;
+                    }
+                }));
+            }
+
+            int count = 0;
+            for (Future<Integer> future : futures) {
+                try {
+                    count += future.get();
+                } catch (ExecutionException ex) {
+                    if (ex.getCause() instanceof Exception)
+                        throw (Exception) ex.getCause();
+                    throw ex;
+                }
+            }
+
+            return count;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+
+
+    /**
+     * Runs the warmup and measured passes with the specified number of threads
+     * and reports the results.
+     * 
+     * @param threadCount
+     *            number of threads
+     * @param warmup
+     *            number of warmup passes
+     * @param measure
+     *            number of measured passes
+     * @throws Exception
+     *             if an error occurs while running an experiment
+     */
+    private void runPasses(int threadCount, int warmup, int measure)
+            throws Exception {
+        MessageDialog.show("--- " + threadCount + " thread(s) ---");
+
+        OpProfiler profiler = new OpProfiler();
+
+        for (int i = 0; i < warmup; i++) {
+            runPass(createExps(threadCount, profiler));
+            MessageDialog.show("Warmup pass " + (i + 1) + "/" + warmup
+                    + "... DONE");
+        }
+
+        profiler.clear();
+
+        double best = 0.0;
+        double sum = 0.0;
+        long gcTime = 0;
+        long peakHeap = 0;
+
+        for (int i = 0; i < measure; i++) {
+            Exp[] exps = createExps(threadCount, profiler);
+
+            System.gc();
+            resetPeakHeap();
+            long startGcTime = getGcTime();
+            long startTime = System.nanoTime();
+
+            int count = runPass(exps);
+
+            double time = (System.nanoTime() - startTime) / 1e9;
+            gcTime += getGcTime() - startGcTime;
+            peakHeap = Math.max(peakHeap, getPeakHeap());
+
+            double throughput = count / time;
+            best = Math.max(best, throughput);
+            sum += throughput;
+
+            MessageDialog.show(String.format(
+                    "Pass %d/%d: %d patterns in %.2f s (%.1f patterns/s)",
+                    i + 1, measure, count, time, throughput));
+        }
+
+        MessageDialog.show(String.format(
+                "Throughput: %.1f patterns/s (best: %.1f patterns/s)", sum
+                        / measure, best));
+        MessageDialog.show(String.format("GC time: %.0f ms per pass",
+                (double) gcTime / measure));
+        MessageDialog.show(String.format("Peak heap: %.1f MB",
+                peakHeap / (1024.0 * 1024.0)));
+
+        // Per-operation breakdown, aggregated over the threads and passes
+        OpStats[] allStats = profiler.getStats();
+        long totalTime = 0;
+        for (OpStats stats : allStats)
+            totalTime += stats.totalTime;
+
+        for (OpStats stats : allStats)
+            MessageDialog.show(String.format(
+                    "  %-50s %5.1f%%  %8.3f ms/call  p99 = %.3f ms",
+                    stats.name, 100.0 * stats.totalTime / totalTime,
+                    stats.getAverageTime() / 1e6, stats.p99 / 1e6));
+    }
+
+
+
+    /**
+     * Simulates the patterns of the phases of the experiment with random
+     * orientations and saves them in the SMP file.
+     * 
+     * @param exp
+     *            experiment
+     * @param width
+     *            width of the patterns
+     * @param height
+     *            height of the patterns
+     * @throws IOException
+     *             if an error occurs while writing the SMP file
+     * @throws IllegalArgumentException
+     *             if the experiment has no phase
+     */
+    private void simulatePatterns(Exp exp, int width, int height)
+            throws IOException {
+        Crystal[] phases = exp.mmap.getPhases();
+        if (phases.length == 0)
+            throw new IllegalArgumentException(
+                    "The experiment has no phase to simulate the patterns.");
+
+        SimMetadata metadata =
+                new SimMetadata(exp.mmap.getAcquisitionConfig(),
+                        ScatteringFactorsEnum.XRAY, MAX_INDEX);
+        Random random = new Random(0);
+
+        // One simulation per phase, to calculate its reflectors once
+        Sim[] sims = new Sim[phases.length];
+        for (int i = 0; i < phases.length; i++)
+            sims[i] =
+                    new Sim(metadata, new Operation[] { new PatternFilledBand(
+                            width, height) }, new Crystal[] { phases[i] },
+                            new Rotation[] { Rotation.IDENTITY });
+
+        SmpOutputStream smp = new SmpOutputStream(smpFile);
+        try {
+            for (int i = 0; i < patternCount; i++) {
+                Sim sim = sims[i % sims.length];
+                PatternSimOp op = sim.getPatternSimOp();
+
+                Rotation rotation =
+                        new Rotation(RotationOrder.ZXZ, 2 * Math.PI
+                                * random.nextDouble(), Math.PI
+                                * random.nextDouble(), 2 * Math.PI
+                                * random.nextDouble());
+                op.simulate(sim, metadata, sim.getReflectors()[0], rotation);
+
+                smp.writeMap(op.getPatternMap());
+            }
+        } finally {
+            smp.close();
+        }
+    }
+
+}
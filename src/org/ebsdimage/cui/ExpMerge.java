@@ -24,7 +24,9 @@ import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
+import org.ebsdimage.Init;
 import org.ebsdimage.core.exp.ExpMMap;
+import org.ebsdimage.io.EbsdMMapArchive;
 import org.ebsdimage.io.exp.ExpMMapLoader;
 import org.ebsdimage.io.exp.ExpMMapSaver;
 
@@ -63,6 +65,7 @@ public class ExpMerge extends BaseCUI {
      *             if an exception occurs while executing the program
      */
     public static void main(String[] args) throws IOException {
+        Init.initReflectorsCache();
         new ExpMerge().parse(args);
     }
 
@@ -236,14 +239,14 @@ public class ExpMerge extends BaseCUI {
 
         MessageDialog.show("Creating an empty multimap... DONE");
 
-        // Load other experiment multimap files
-        ExpMMap mmap;
+        // Add the experiment multimap files, one map at a time
+        EbsdMMapArchive archive;
         for (int i = 0; i < zipFiles.length; i++) {
             MessageDialog.show("Adding experiment multimap " + (i + 1) + "...");
 
-            // Load multimap
+            // Open multimap
             try {
-                mmap = new ExpMMapLoader().load(zipFiles[i]);
+                archive = new ExpMMapLoader().open(zipFiles[i], 0);
             } catch (Exception ex) {
                 ErrorDialog.show(ex.getMessage());
                 return;
@@ -251,10 +254,16 @@ public class ExpMerge extends BaseCUI {
 
             // Perform addition
             try {
-                MapMath.addition(dest, mmap, 1.0, 0.0, dest);
+                for (String alias : archive.getAliases()) {
+                    Map map = dest.getMap(alias);
+                    MapMath.addition(map, archive.getMap(alias), 1.0, 0.0,
+                            map);
+                }
             } catch (Exception ex) {
                 ErrorDialog.show(ex.getMessage());
                 return;
+            } finally {
+                archive.close();
             }
 
             MessageDialog.show("Adding experiment multimap " + (i + 1)
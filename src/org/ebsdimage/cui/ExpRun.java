@@ -24,7 +24,9 @@ import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
+import org.ebsdimage.Init;
 import org.ebsdimage.core.exp.Exp;
+import org.ebsdimage.core.exp.ExpCheckpoint;
 import org.ebsdimage.io.exp.ExpLoader;
 import org.ebsdimage.io.exp.ExpMMapSaver;
 
@@ -51,6 +53,7 @@ public class ExpRun extends BaseCUI {
      *             if an exception occurs while executing the program
      */
     public static void main(String[] args) throws IOException {
+        Init.initReflectorsCache();
         new ExpRun().parse(args);
     }
 
@@ -120,6 +123,50 @@ public class ExpRun extends BaseCUI {
 
 
 
+    /**
+     * Returns the checkpoint of the experiment if the checkpoint or resume
+     * option is specified in the arguments.
+     * 
+     * @param cmdLine
+     *            command line arguments
+     * @param exp
+     *            experiment
+     * @return checkpoint or <code>null</code> if no checkpoint is needed
+     * @throws IOException
+     *             if an error occurs
+     */
+    @CheckForNull
+    private ExpCheckpoint getCheckpoint(CommandLine cmdLine, Exp exp)
+            throws IOException {
+        int interval = ExpCheckpoint.DEFAULT_INTERVAL;
+
+        if (cmdLine.hasOption("checkpoint")) {
+            try {
+                interval =
+                        Integer.parseInt(cmdLine.getOptionValue("checkpoint"));
+            } catch (NumberFormatException ex) {
+                ErrorDialog.show("Please specify a valid checkpoint interval.");
+                return null;
+            }
+
+            if (interval < 1) {
+                ErrorDialog.show("The checkpoint interval must be greater "
+                        + "than 0.");
+                return null;
+            }
+        } else if (!cmdLine.hasOption("resume"))
+            return null;
+
+        ExpCheckpoint checkpoint =
+                new ExpCheckpoint(ExpCheckpoint.getDefaultFile(exp), interval);
+        MessageDialog.show("Checkpoint saved every " + interval
+                + " patterns in: " + checkpoint.file);
+
+        return checkpoint;
+    }
+
+
+
     /**
      * Returns the experiment input file. The specified file is validated.
      * 
@@ -168,6 +215,10 @@ public class ExpRun extends BaseCUI {
                 "Different working directory for the experiment"));
         options.addOption(new Option("n", "name", true,
                 "Different name for the experiment"));
+        options.addOption(new Option("c", "checkpoint", true,
+                "Save a checkpoint of the results every N patterns"));
+        options.addOption(new Option("r", "resume", false,
+                "Resume the experiment from its checkpoint"));
 
         return options;
     }
@@ -215,6 +266,14 @@ public class ExpRun extends BaseCUI {
         setLogger(cmdLine);
         setLogger(cmdLine, exp);
 
+        // Checkpoint
+        ExpCheckpoint checkpoint = getCheckpoint(cmdLine, exp);
+        if (checkpoint == null
+                && (cmdLine.hasOption("checkpoint") || cmdLine
+                        .hasOption("resume")))
+            return;
+        exp.setCheckpoint(checkpoint);
+
         // Run experiment
         MessageDialog.show("Running experiment...");
 
@@ -223,7 +282,10 @@ public class ExpRun extends BaseCUI {
         progressBar.start();
 
         try {
-            exp.run();
+            if (cmdLine.hasOption("resume"))
+                exp.resume();
+            else
+                exp.run();
         } catch (Exception ex) {
             ErrorDialog.show(ex.getMessage());
             return;
@@ -240,6 +302,10 @@ public class ExpRun extends BaseCUI {
         new ExpMMapSaver().save(exp.mmap, mmapFile);
 
         MessageDialog.show("Saving experiment multimap... DONE");
+
+        // Checkpoint is not needed anymore once the results are saved
+        if (checkpoint != null)
+            checkpoint.delete();
     }
 
 
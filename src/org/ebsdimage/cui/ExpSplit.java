@@ -24,6 +24,7 @@ import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
+import org.ebsdimage.Init;
 import org.ebsdimage.core.exp.Exp;
 import org.ebsdimage.core.exp.ExpSplitter;
 import org.ebsdimage.core.exp.ops.pattern.op.PatternSmpLoader;
@@ -52,6 +53,7 @@ public class ExpSplit extends BaseCUI {
      *             if an exception occurs while executing the program
      */
     public static void main(String[] args) throws IOException {
+        Init.initReflectorsCache();
         new ExpSplit().parse(args);
     }
 
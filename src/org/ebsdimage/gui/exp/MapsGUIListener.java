@@ -101,6 +101,12 @@ public class MapsGUIListener implements ExpListener {
 
 
 
+    @Override
+    public void expFinished(Exp exp) {
+    }
+
+
+
     @Override
     public void houghOpPerformed(Exp exp, HoughOp op, HoughMap houghMap) {
         showMap(exp, op, houghMap);
@@ -231,7 +237,8 @@ public class MapsGUIListener implements ExpListener {
 
 
     /**
-     * Shows a map in the graphical interface.
+     * Shows a copy of a map in the graphical interface. The map itself is
+     * reused by the experiment once the pattern is processed.
      * 
      * @param exp
      *            current experiment
@@ -241,8 +248,9 @@ public class MapsGUIListener implements ExpListener {
      *            map to display
      */
     protected void showMap(Exp exp, ExpOperation op, Map map) {
-        map.setName(createName(exp, op.getName()));
-        map.shouldSave(false);
-        RMLImage.getDesktop().add(map);
+        Map dup = map.duplicate();
+        dup.setName(createName(exp, op.getName()));
+        dup.shouldSave(false);
+        RMLImage.getDesktop().add(dup);
     }
 }
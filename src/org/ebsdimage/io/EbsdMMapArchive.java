@@ -0,0 +1,386 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.ebsdimage.core.EbsdMetadata;
+
+import ptpshared.util.simplexml.ApacheCommonMathMatcher;
+import ptpshared.util.simplexml.XmlLoader;
+import rmlimage.core.ByteMap;
+import rmlimage.core.Map;
+import rmlimage.io.IO;
+import rmlimage.module.real.core.RealMap;
+import rmlshared.io.FileUtil;
+
+/**
+ * Read-only access to the maps of an <code>EbsdMMap</code> zip file without
+ * loading all of them. Opening the archive only reads the list of aliases; a
+ * map is decoded from its zip entry the first time it is requested.
+ * <p/>
+ * The decoded maps are kept in memory up to a memory budget. When the budget
+ * is exceeded, the least recently used maps are released and decoded again if
+ * they are requested later. Modifications made to a released map are lost.
+ * The most recently requested map is always kept, even if it is larger than
+ * the budget.
+ * <p/>
+ * The entries of the zip file are indexed when the archive is opened. The
+ * files of a map are extracted in a temporary directory only while the map
+ * is decoded. The archive must be closed to release the zip file.
+ * 
+ * @author Philippe T. Pinard
+ * @see EbsdMMapLoader#open(File, long)
+ */
+public class EbsdMMapArchive {
+
+    /** Name of the file with the file name of each alias. */
+    private static final String ALIAS_FILENAME = "alias.properties";
+
+    /** Name of the file with the metadata. */
+    private static final String METADATA_FILENAME = "metadata.xml";
+
+
+
+    /**
+     * Returns the number of bytes used by the pixels of a map.
+     * 
+     * @param map
+     *            a map
+     * @return number of bytes
+     */
+    private static long getMemorySize(Map map) {
+        long size = (long) map.width * map.height;
+
+        if (map instanceof ByteMap)
+            return size;
+        else
+            return 4 * size;
+    }
+
+    /** Zip file. */
+    private final ZipFile zip;
+
+    /** File name of the map of each alias. */
+    private final Properties aliases = new Properties();
+
+    /** Entries of the zip file, grouped by base name. */
+    private final HashMap<String, ArrayList<ZipEntry>> entries =
+            new HashMap<String, ArrayList<ZipEntry>>();
+
+    /** Version of the file. */
+    public final int version;
+
+    /** Class of the metadata. */
+    private final Class<? extends EbsdMetadata> metadataClass;
+
+    /** Metadata or <code>null</code> if not loaded yet. */
+    private EbsdMetadata metadata = null;
+
+    /** Maximum number of bytes used by the loaded maps. */
+    public final long memoryBudget;
+
+    /** Number of bytes used by the loaded maps. */
+    private long memorySize = 0;
+
+    /** Loaded maps, from the least to the most recently used. */
+    private final LinkedHashMap<String, Map> maps =
+            new LinkedHashMap<String, Map>(16, 0.75f, true);
+
+    /** Directory where the files of the maps are extracted. */
+    private final File tmpDir;
+
+
+
+    /**
+     * Opens an <code>EbsdMMap</code> zip file.
+     * 
+     * @param file
+     *            zip file
+     * @param header
+     *            valid header of the zip file
+     * @param metadataClass
+     *            class of the metadata
+     * @param memoryBudget
+     *            maximum number of bytes used by the loaded maps
+     * @throws IllegalArgumentException
+     *             if the memory budget is negative
+     * @throws IOException
+     *             if the zip file is not valid
+     */
+    public EbsdMMapArchive(File file, String header,
+            Class<? extends EbsdMetadata> metadataClass, long memoryBudget)
+            throws IOException {
+        if (memoryBudget < 0)
+            throw new IllegalArgumentException("Memory budget ("
+                    + memoryBudget + ") must be >= 0.");
+        this.memoryBudget = memoryBudget;
+        this.metadataClass = metadataClass;
+
+        String comment = EbsdMMapLoader.readComment(file);
+        if (comment == null || !comment.startsWith(header))
+            throw new IOException("Invalid header, expected " + header + ".");
+
+        try {
+            version = Integer.parseInt(comment.substring(header.length()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid version: "
+                    + comment.substring(header.length()));
+        }
+
+        zip = new ZipFile(file);
+
+        try {
+            ZipEntry entry = zip.getEntry(ALIAS_FILENAME);
+            if (entry == null)
+                throw new IOException("The zip file does not contain a "
+                        + ALIAS_FILENAME + " file.");
+
+            InputStream in = zip.getInputStream(entry);
+            try {
+                aliases.load(in);
+            } finally {
+                in.close();
+            }
+
+            // Group the files of each map (map, properties and items)
+            Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+            while (zipEntries.hasMoreElements()) {
+                entry = zipEntries.nextElement();
+                if (entry.isDirectory() || entry.getName().indexOf('/') >= 0
+                        || entry.getName().indexOf('\\') >= 0)
+                    continue;
+
+                String baseName =
+                        FileUtil.getBaseName(new File(entry.getName()));
+                ArrayList<ZipEntry> group = entries.get(baseName);
+                if (group == null) {
+                    group = new ArrayList<ZipEntry>();
+                    entries.put(baseName, group);
+                }
+                group.add(entry);
+            }
+
+            tmpDir = EbsdMMapSaver.createTempDir();
+        } catch (IOException e) {
+            zip.close();
+            throw e;
+        }
+    }
+
+
+
+    /**
+     * Releases the loaded maps and closes the zip file.
+     * 
+     * @throws IOException
+     *             if an error occurs while closing the zip file
+     */
+    public synchronized void close() throws IOException {
+        maps.clear();
+        memorySize = 0;
+
+        try {
+            zip.close();
+        } finally {
+            FileUtil.rmdir(tmpDir);
+        }
+    }
+
+
+
+    /**
+     * Decodes the map of an alias from its zip entry. The files of the map are
+     * extracted and deleted once the map is loaded.
+     * 
+     * @param alias
+     *            alias of the map
+     * @return map
+     * @throws IOException
+     *             if an error occurs while decoding the map
+     */
+    private Map decode(String alias) throws IOException {
+        String name = aliases.getProperty(alias);
+        if (zip.getEntry(name) == null)
+            throw new IOException("Missing file (" + name + ") in zip file.");
+
+        File mapFile = new File(tmpDir, name);
+
+        // Extract the map with its properties and items
+        ArrayList<File> files = new ArrayList<File>();
+        try {
+            for (ZipEntry entry : entries.get(FileUtil.getBaseName(mapFile))) {
+                File file = new File(tmpDir, entry.getName());
+                files.add(file);
+                EbsdMMapLoader.extract(zip, entry, file);
+            }
+
+            Map map = IO.load(mapFile);
+            map.setName(alias);
+
+            return map;
+        } finally {
+            for (File file : files)
+                if (!file.delete())
+                    file.deleteOnExit();
+        }
+    }
+
+
+
+    /**
+     * Returns the aliases of the maps in the archive.
+     * 
+     * @return aliases, sorted alphabetically
+     */
+    public String[] getAliases() {
+        String[] names =
+                aliases.stringPropertyNames().toArray(new String[0]);
+        Arrays.sort(names);
+        return names;
+    }
+
+
+
+    /**
+     * Returns the map of an alias. The map is decoded if it is not loaded.
+     * 
+     * @param alias
+     *            alias of the map
+     * @return map
+     * @throws IllegalArgumentException
+     *             if the archive does not contain a map with this alias
+     * @throws IOException
+     *             if an error occurs while decoding the map
+     */
+    public synchronized Map getMap(String alias) throws IOException {
+        if (!aliases.containsKey(alias))
+            throw new IllegalArgumentException("No map with alias (" + alias
+                    + ").");
+
+        Map map = maps.get(alias);
+        if (map != null)
+            return map;
+
+        map = decode(alias);
+        maps.put(alias, map);
+        memorySize += getMemorySize(map);
+
+        // Release the least recently used maps
+        Iterator<Map> iterator = maps.values().iterator();
+        while (memorySize > memoryBudget && maps.size() > 1) {
+            Map eldest = iterator.next();
+            memorySize -= getMemorySize(eldest);
+            iterator.remove();
+        }
+
+        return map;
+    }
+
+
+
+    /**
+     * Returns the <code>RealMap</code> of an alias. The map is decoded if it
+     * is not loaded.
+     * 
+     * @param alias
+     *            alias of the map
+     * @return map
+     * @throws IllegalArgumentException
+     *             if the map of the alias is not a <code>RealMap</code>
+     * @throws IOException
+     *             if an error occurs while decoding the map
+     */
+    public RealMap getRealMap(String alias) throws IOException {
+        Map map = getMap(alias);
+        if (!(map instanceof RealMap))
+            throw new IllegalArgumentException("Map (" + alias
+                    + ") is not a RealMap.");
+        return (RealMap) map;
+    }
+
+
+
+    /**
+     * Returns the number of bytes used by the loaded maps.
+     * 
+     * @return number of bytes
+     */
+    public synchronized long getMemorySize() {
+        return memorySize;
+    }
+
+
+
+    /**
+     * Returns the metadata of the <code>EbsdMMap</code>. The metadata is
+     * loaded on the first call.
+     * 
+     * @return metadata
+     * @throws IOException
+     *             if an error occurs while loading the metadata
+     */
+    public synchronized EbsdMetadata getMetadata() throws IOException {
+        if (metadata != null)
+            return metadata;
+
+        ZipEntry entry = zip.getEntry(METADATA_FILENAME);
+        if (entry == null)
+            throw new IOException("The EbsdMMap does not contain a "
+                    + METADATA_FILENAME + " file.");
+
+        File file = new File(tmpDir, METADATA_FILENAME);
+        try {
+            EbsdMMapLoader.extract(zip, entry, file);
+
+            XmlLoader loader = new XmlLoader();
+            loader.matchers.registerMatcher(new ApacheCommonMathMatcher());
+            metadata = loader.load(metadataClass, file);
+        } finally {
+            if (!file.delete())
+                file.deleteOnExit();
+        }
+
+        return metadata;
+    }
+
+
+
+    /**
+     * Checks whether the map of an alias is currently loaded in memory.
+     * 
+     * @param alias
+     *            alias of the map
+     * @return <code>true</code> if the map is loaded
+     */
+    public synchronized boolean isLoaded(String alias) {
+        return maps.containsKey(alias);
+    }
+
+}
@@ -18,7 +18,13 @@
 package org.ebsdimage.io;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.ebsdimage.core.EbsdMMap;
 import org.ebsdimage.core.EbsdMetadata;
@@ -29,7 +35,8 @@ import rmlimage.module.multi.core.MultiMap;
 import rmlimage.module.multi.io.ZipLoader;
 
 /**
- * Loader for an <code>EbsdMMap</code> from a zip file.
+ * Loader for an <code>EbsdMMap</code> from a zip file. The maps can also be
+ * loaded one at a time with {@link #open(File, long)}.
  * 
  * @author Philippe T. Pinard
  */
@@ -43,6 +50,78 @@ public abstract class EbsdMMapLoader extends ZipLoader {
 
 
 
+    /**
+     * Extracts an entry of a zip file.
+     * 
+     * @param zip
+     *            zip file
+     * @param entry
+     *            entry to extract
+     * @param file
+     *            destination
+     * @throws IOException
+     *             if an error occurs while extracting the entry
+     */
+    static void extract(ZipFile zip, ZipEntry entry, File file)
+            throws IOException {
+        InputStream in = zip.getInputStream(entry);
+        try {
+            OutputStream out = new FileOutputStream(file);
+            try {
+                byte[] buffer = new byte[65536];
+                int count;
+                while ((count = in.read(buffer)) > 0)
+                    out.write(buffer, 0, count);
+            } finally {
+                out.close();
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+
+
+    /**
+     * Returns the comment of a zip file.
+     * 
+     * @param file
+     *            zip file
+     * @return comment or <code>null</code> if the end of the central
+     *         directory cannot be found
+     * @throws IOException
+     *             if an error occurs while reading the file
+     */
+    static String readComment(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            // End of central directory: 22 bytes and a comment up to 64 KB
+            int length = (int) Math.min(raf.length(), 22 + 0xFFFF);
+            byte[] data = new byte[length];
+            raf.seek(raf.length() - length);
+            raf.readFully(data);
+
+            for (int i = length - 22; i >= 0; i--) {
+                if (data[i] != 0x50 || data[i + 1] != 0x4b || data[i + 2] != 5
+                        || data[i + 3] != 6)
+                    continue;
+
+                int commentLength =
+                        (data[i + 20] & 0xFF) | ((data[i + 21] & 0xFF) << 8);
+                if (i + 22 + commentLength != length)
+                    continue;
+
+                return new String(data, i + 22, commentLength, "UTF-8");
+            }
+
+            return null;
+        } finally {
+            raf.close();
+        }
+    }
+
+
+
     /**
      * Returns the class of the <code>EbsdMetadata</code> for this
      * <code>EbsdMMap</code>.
@@ -70,4 +149,24 @@ public abstract class EbsdMMapLoader extends ZipLoader {
         ((EbsdMMap) mmap).setMetadata(metadata);
     }
 
+
+
+    /**
+     * Opens a zip file without loading its maps. The maps are loaded when
+     * they are requested, see {@link EbsdMMapArchive}.
+     * 
+     * @param file
+     *            zip file
+     * @param memoryBudget
+     *            maximum number of bytes used by the loaded maps
+     * @return archive
+     * @throws IOException
+     *             if the zip file is not valid
+     */
+    public EbsdMMapArchive open(File file, long memoryBudget)
+            throws IOException {
+        return new EbsdMMapArchive(file, getValidHeader(), getMetadataClass(),
+                memoryBudget);
+    }
+
 }
@@ -17,29 +17,419 @@
  */
 package org.ebsdimage.io;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.ebsdimage.core.EbsdMMap;
 
 import ptpshared.util.simplexml.ApacheCommonMathMatcher;
 import ptpshared.util.simplexml.XmlSaver;
+import rmlimage.core.Map;
+import rmlimage.io.BasicBmpSaver;
+import rmlimage.io.MapSaver;
 import rmlimage.module.multi.core.MultiMap;
 import rmlimage.module.multi.io.ZipSaver;
+import rmlimage.module.real.core.RealMap;
+import rmlimage.module.real.io.RmpSaver;
+import rmlshared.io.FileUtil;
 
 /**
  * Saver for an <code>EbsdMMap</code> to a zip file.
+ * <p/>
+ * The files of the maps are not written in a temporary directory which is
+ * zipped afterwards. The maps are saved in parallel by worker threads and
+ * their files are written in a <code>ZipOutputStream</code> as soon as they
+ * are ready, in the order of the maps. Only the files of the maps being
+ * processed are kept on the disk at the same time. The float planes of the
+ * <code>RealMap</code>s (RMP files), which barely compress, are stored
+ * without compression, the other files are deflated. The zip file has the
+ * same content as the one written by <code>ZipSaver</code>.
+ * <p/>
+ * The maps are saved at the location given to their saver: the file of the
+ * maps is never changed.
  * 
  * @author Philippe T. Pinard
  */
 public abstract class EbsdMMapSaver extends ZipSaver {
 
+    /** Files of a map waiting to be written in the zip file. */
+    private static class MapFiles {
+
+        /** Scratch directory of the files. */
+        public final File dir;
+
+        /** Entries of the files. */
+        public final ArrayList<ZipEntry> entries = new ArrayList<ZipEntry>();
+
+
+
+        /**
+         * Creates a new <code>MapFiles</code>.
+         * 
+         * @param dir
+         *            scratch directory of the files
+         */
+        public MapFiles(File dir) {
+            this.dir = dir;
+        }
+    }
+
+    /** Saver of the properties of a multimap to a PROP file. */
+    private static class PropertiesSaver extends MapSaver {
+
+        /** Header of the PROP file. */
+        private final String header;
+
+
+
+        /**
+         * Creates a new <code>PropertiesSaver</code>.
+         * 
+         * @param header
+         *            header of the PROP file
+         */
+        public PropertiesSaver(String header) {
+            this.header = header;
+        }
+
+
+
+        @Override
+        public boolean canSave(Object obj, String fileFormat) {
+            return (obj instanceof Map) && fileFormat.equalsIgnoreCase("prop");
+        }
+
+
+
+        @Override
+        public double getTaskProgress() {
+            return 0;
+        }
+
+
+
+        @Override
+        public void save(Object obj, File file) throws IOException {
+            saveProperties((Map) obj, file, header);
+        }
+    }
+
     static {
         rmlimage.io.IO.addSaver(rmlimage.module.real.io.RmpSaver.class);
         rmlimage.io.IO.addSaver(org.ebsdimage.io.PhaseMapSaver.class);
         rmlimage.io.IO.addSaver(org.ebsdimage.io.ErrorMapSaver.class);
     }
 
+    /** Name of the file with the calibration of the multimap. */
+    private static final String MULTIMAP_FILENAME = "multimap.properties";
+
+    /** Name of the file with the file name of each alias. */
+    private static final String ALIAS_FILENAME = "alias.properties";
+
+    /** Size of the buffer to copy the files. */
+    private static final int BUFFER_SIZE = 65536;
+
+
+
+    /**
+     * Copies a file in the current entry of the zip file.
+     * 
+     * @param file
+     *            a file
+     * @param out
+     *            zip file
+     * @throws IOException
+     *             if an error occurs while copying the file
+     */
+    private static void copy(File file, OutputStream out) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int count;
+            while ((count = in.read(buffer)) > 0)
+                out.write(buffer, 0, count);
+        } finally {
+            in.close();
+        }
+    }
+
+
+
+    /**
+     * Prepares the entries of all the files of a directory. The RMP files are
+     * stored, their CRC-32 is therefore computed beforehand. The other files
+     * are deflated.
+     * 
+     * @param dir
+     *            directory
+     * @return files of the directory
+     * @throws IOException
+     *             if an error occurs while reading the files
+     */
+    private static MapFiles createMapFiles(File dir) throws IOException {
+        MapFiles mapFiles = new MapFiles(dir);
+
+        File[] files = dir.listFiles();
+        if (files == null)
+            return mapFiles;
+
+        for (File file : files) {
+            if (!file.isFile())
+                continue;
+
+            ZipEntry entry = new ZipEntry(file.getName());
+
+            // RMP files are dense float planes which barely compress
+            if (FileUtil.getExtension(file).equalsIgnoreCase("rmp")) {
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(file.length());
+                entry.setCompressedSize(file.length());
+                entry.setCrc(getCrc(file));
+            } else
+                entry.setMethod(ZipEntry.DEFLATED);
+
+            mapFiles.entries.add(entry);
+        }
+
+        return mapFiles;
+    }
+
+
+
+    /**
+     * Creates an empty temporary directory.
+     * 
+     * @return temporary directory
+     * @throws IOException
+     *             if the directory cannot be created
+     */
+    protected static File createTempDir() throws IOException {
+        File dir = File.createTempFile("ebsdmmap", "");
+        if (!dir.delete() || !dir.mkdir())
+            throw new IOException("Cannot create temporary directory ("
+                    + dir.getAbsolutePath() + ").");
+        return dir;
+    }
+
+
+
+    /**
+     * Returns the CRC-32 of a file.
+     * 
+     * @param file
+     *            a file
+     * @return CRC-32
+     * @throws IOException
+     *             if an error occurs while reading the file
+     */
+    private static long getCrc(File file) throws IOException {
+        CRC32 crc = new CRC32();
+
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int count;
+            while ((count = in.read(buffer)) > 0)
+                crc.update(buffer, 0, count);
+        } finally {
+            in.close();
+        }
+
+        return crc.getValue();
+    }
+
+
+
+    /**
+     * Returns the extension of the file of a map.
+     * 
+     * @param map
+     *            a map
+     * @return extension
+     */
+    private static String getExtension(Map map) {
+        if (map instanceof RealMap)
+            return "rmp";
+        else
+            return "bmp";
+    }
+
+
+
+    /**
+     * Returns a new saver for a map. The savers registered by this class are
+     * tried first.
+     * 
+     * @param map
+     *            a map
+     * @param extension
+     *            extension of the file of the map
+     * @return saver
+     * @throws IOException
+     *             if the map cannot be saved in this format
+     */
+    private static MapSaver getSaver(Map map, String extension)
+            throws IOException {
+        MapSaver[] savers =
+                new MapSaver[] { new PhaseMapSaver(), new ErrorMapSaver(),
+                        new RmpSaver(), new BasicBmpSaver() };
+
+        for (MapSaver saver : savers)
+            if (saver.canSave(map, extension))
+                return saver;
+
+        throw new IOException("Map (" + map.getName()
+                + ") cannot be saved as " + extension + ".");
+    }
+
+
+
+    /**
+     * Saves a map in a new directory and prepares the entries of its files.
+     * The map is saved at the location given to the saver, the file of the
+     * map is not changed. Executed by a worker thread.
+     * 
+     * @param map
+     *            map to save
+     * @param filename
+     *            name of the file of the map
+     * @param dir
+     *            directory to create
+     * @return files of the map
+     * @throws IOException
+     *             if an error occurs while saving the map
+     */
+    private static MapFiles saveMap(Map map, String filename, File dir)
+            throws IOException {
+        if (!dir.mkdir())
+            throw new IOException("Cannot create temporary directory ("
+                    + dir.getAbsolutePath() + ").");
+
+        File file = new File(dir, filename);
+        getSaver(map, FileUtil.getExtension(file)).save(map, file);
+
+        return createMapFiles(dir);
+    }
+
+
+
+    /**
+     * Writes the files of a map in the zip file and deletes their scratch
+     * directory.
+     * 
+     * @param zip
+     *            zip file
+     * @param mapFiles
+     *            files of the map
+     * @throws IOException
+     *             if an error occurs while writing the files
+     */
+    private static void writeMapFiles(ZipOutputStream zip, MapFiles mapFiles)
+            throws IOException {
+        try {
+            for (ZipEntry entry : mapFiles.entries) {
+                zip.putNextEntry(entry);
+                copy(new File(mapFiles.dir, entry.getName()), zip);
+                zip.closeEntry();
+            }
+        } finally {
+            FileUtil.rmdir(mapFiles.dir);
+        }
+    }
+
+
+
+    @Override
+    public void save(Object obj, File file) throws IOException {
+        MultiMap mmap = (MultiMap) obj;
+
+        ArrayList<Entry<String, Map>> maps =
+                new ArrayList<Entry<String, Map>>(mmap.getEntrySet());
+
+        Properties aliases = new Properties();
+        for (Entry<String, Map> entry : maps)
+            aliases.setProperty(entry.getKey(), entry.getKey() + "."
+                    + getExtension(entry.getValue()));
+
+        File tmpDir = createTempDir();
+        ZipOutputStream zip =
+                new ZipOutputStream(new BufferedOutputStream(
+                        new FileOutputStream(file), BUFFER_SIZE));
+        zip.setComment(getHeader() + getVersion());
+        int nbThreads = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+
+        try {
+            // Metadata and the other files
+            File otherDir = new File(tmpDir, "other");
+            if (!otherDir.mkdir())
+                throw new IOException("Cannot create temporary directory ("
+                        + otherDir.getAbsolutePath() + ").");
+            saveOtherFiles(mmap, otherDir);
+
+            // Calibration
+            File calibrationFile = new File(otherDir, MULTIMAP_FILENAME);
+            if (!calibrationFile.exists())
+                new PropertiesSaver(getHeader()).save(mmap, calibrationFile);
+
+            // Aliases
+            if (!new File(otherDir, ALIAS_FILENAME).exists()) {
+                zip.putNextEntry(new ZipEntry(ALIAS_FILENAME));
+                aliases.store(zip, null);
+                zip.closeEntry();
+            }
+
+            writeMapFiles(zip, createMapFiles(otherDir));
+
+            // Maps, saved in parallel and written in order
+            LinkedList<Future<MapFiles>> pending =
+                    new LinkedList<Future<MapFiles>>();
+
+            for (int i = 0; i < maps.size(); i++) {
+                final Map map = maps.get(i).getValue();
+                final String filename =
+                        aliases.getProperty(maps.get(i).getKey());
+                final File mapDir = new File(tmpDir, "map" + i);
+
+                Callable<MapFiles> task = new Callable<MapFiles>() {
+                    @Override
+                    public MapFiles call() throws IOException {
+                        return saveMap(map, filename, mapDir);
+                    }
+                };
+                pending.add(executor.submit(task));
+
+                // Limit the number of maps waiting in the scratch directory
+                if (pending.size() >= 2 * nbThreads)
+                    writeMapFiles(zip, pending.removeFirst());
+            }
+
+            while (!pending.isEmpty())
+                writeMapFiles(zip, pending.removeFirst());
+        } finally {
+            executor.shutdownNow();
+            zip.close();
+            FileUtil.rmdir(tmpDir);
+        }
+    }
+
 
 
     @Override
@@ -54,4 +444,34 @@ public abstract class EbsdMMapSaver extends ZipSaver {
 
         saver.save(((EbsdMMap) mmap).getMetadata(), file);
     }
+
+
+
+    /**
+     * Waits for the files of a map and writes them in the zip file.
+     * 
+     * @param zip
+     *            zip file
+     * @param future
+     *            files of the map
+     * @throws IOException
+     *             if an error occurs while saving the map or writing the
+     *             files
+     */
+    private void writeMapFiles(ZipOutputStream zip, Future<MapFiles> future)
+            throws IOException {
+        MapFiles mapFiles;
+        try {
+            mapFiles = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Saving interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        }
+
+        writeMapFiles(zip, mapFiles);
+    }
 }
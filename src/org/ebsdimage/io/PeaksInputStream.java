@@ -0,0 +1,279 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.ebsdimage.core.HoughPeak;
+
+/**
+ * Reads the Hough peaks saved in the <code>PKS</code> format by a
+ * <code>PeaksOutputStream</code>. The peaks of any pattern can be read
+ * directly without reading the other patterns. If the file was not closed,
+ * for instance because the experiment was interrupted, the records are
+ * scanned to recover the peaks saved before the interruption.
+ * 
+ * @author Philippe T. Pinard
+ * @see PeaksOutputStream
+ */
+public class PeaksInputStream {
+
+    /** Random access file to read the peaks. */
+    private final RandomAccessFile raf;
+
+    /** Index of the first pattern. */
+    private final int startIndex;
+
+    /** Position of the records of the patterns. */
+    private final long[] offsets;
+
+    /** Position of the end of the last record. */
+    private final long recordsEnd;
+
+
+
+    /**
+     * Creates a new <code>PeaksInputStream</code>.
+     * 
+     * @param file
+     *            file containing the peaks
+     * @throws IOException
+     *             if the file is not a valid <code>PKS</code> file
+     * @throws IOException
+     *             if an error occurs while reading the file
+     */
+    public PeaksInputStream(File file) throws IOException {
+        raf = new RandomAccessFile(file, "r");
+
+        try {
+            byte[] header = new byte[PeaksOutputStream.HEADER.length()];
+            raf.readFully(header);
+            if (!new String(header).equals(PeaksOutputStream.HEADER))
+                throw new IOException("Invalid peaks file header.");
+
+            startIndex = raf.readInt();
+            int size = raf.readInt();
+            if (startIndex < 0 || size < 0)
+                throw new IOException("Invalid peaks file header.");
+
+            offsets = new long[size];
+            long tablePosition = readTablePosition();
+            if (tablePosition >= 0) {
+                raf.seek(tablePosition);
+                byte[] table = new byte[size * 8];
+                raf.readFully(table);
+                ByteBuffer.wrap(table).asLongBuffer().get(offsets);
+                recordsEnd = tablePosition;
+            } else {
+                Arrays.fill(offsets, -1);
+                recordsEnd = recover();
+            }
+        } catch (IOException e) {
+            raf.close();
+            throw e;
+        }
+    }
+
+
+
+    /**
+     * Returns the position of the table of the records if the file was
+     * closed. The table is only used if the file ends with the trailer and if
+     * the table fills the end of the file.
+     * 
+     * @return position of the table or -1 if the file was not closed
+     * @throws IOException
+     *             if an error occurs while reading the file
+     */
+    private long readTablePosition() throws IOException {
+        long length = raf.length();
+        long start = PeaksOutputStream.HEADER.length() + 8;
+        int trailerLength = PeaksOutputStream.TRAILER.length();
+        long tableLength = offsets.length * 8L;
+
+        if (length < start + tableLength + 8 + trailerLength)
+            return -1;
+
+        raf.seek(length - trailerLength);
+        byte[] trailer = new byte[trailerLength];
+        raf.readFully(trailer);
+        if (!new String(trailer).equals(PeaksOutputStream.TRAILER))
+            return -1;
+
+        raf.seek(length - trailerLength - 8);
+        long tablePosition = raf.readLong();
+        if (tablePosition + tableLength + 8 + trailerLength != length)
+            return -1;
+
+        return tablePosition;
+    }
+
+
+
+    /**
+     * Scans the records of a file which was not closed. The scan stops at the
+     * first incomplete or invalid record. If a pattern has more than one
+     * record, the last one is kept.
+     * 
+     * @return position of the end of the last complete record
+     * @throws IOException
+     *             if an error occurs while reading the file
+     */
+    private long recover() throws IOException {
+        long length = raf.length();
+        long position = PeaksOutputStream.HEADER.length() + 8;
+
+        while (position + 10 <= length) {
+            raf.seek(position);
+            int index = raf.readInt();
+            int count = raf.readInt();
+            if (index < startIndex || index >= getEndIndex() || count < 0)
+                break;
+
+            try {
+                raf.readUTF();
+            } catch (EOFException e) {
+                break;
+            }
+
+            long end = raf.getFilePointer() + count * 24L;
+            if (end > length)
+                break;
+
+            offsets[index - startIndex] = position;
+            position = end;
+        }
+
+        return position;
+    }
+
+
+
+    /**
+     * Closes the stream.
+     * 
+     * @throws IOException
+     *             if an error occurs while closing the stream
+     */
+    public void close() throws IOException {
+        raf.close();
+    }
+
+
+
+    /**
+     * Returns the index of the last pattern of the file plus one.
+     * 
+     * @return index of the last pattern plus one
+     */
+    public int getEndIndex() {
+        return startIndex + offsets.length;
+    }
+
+
+
+    /**
+     * Returns the position of the record of every pattern, -1 if the pattern
+     * has no record.
+     * 
+     * @return position of the records
+     */
+    long[] getOffsets() {
+        return offsets.clone();
+    }
+
+
+
+    /**
+     * Returns the position of the end of the last record. New records can be
+     * written from this position.
+     * 
+     * @return position of the end of the last record
+     */
+    long getRecordsEnd() {
+        return recordsEnd;
+    }
+
+
+
+    /**
+     * Returns the index of the first pattern of the file.
+     * 
+     * @return index of the first pattern
+     */
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+
+
+    /**
+     * Checks whether the peaks of the specified pattern were saved.
+     * 
+     * @param index
+     *            index of the pattern
+     * @return <code>true</code> if the file contains the peaks of the pattern
+     */
+    public boolean hasPeaks(int index) {
+        if (index < startIndex || index >= getEndIndex())
+            return false;
+        return offsets[index - startIndex] >= 0;
+    }
+
+
+
+    /**
+     * Reads the peaks of a pattern.
+     * 
+     * @param index
+     *            index of the pattern
+     * @return peaks of the pattern
+     * @throws IllegalArgumentException
+     *             if the file does not contain the peaks of the pattern
+     * @throws IOException
+     *             if an error occurs while reading the file
+     */
+    public synchronized HoughPeak[] readPeaks(int index) throws IOException {
+        if (!hasPeaks(index))
+            throw new IllegalArgumentException("No peaks for index (" + index
+                    + ").");
+
+        raf.seek(offsets[index - startIndex] + 4); // Skip the index
+        int count = raf.readInt();
+        String rhoUnits = raf.readUTF();
+
+        byte[] data = new byte[count * 24];
+        raf.readFully(data);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+
+        HoughPeak[] peaks = new HoughPeak[count];
+        for (int i = 0; i < count; i++)
+            peaks[i] =
+                    new HoughPeak(buffer.getDouble(i * 8),
+                            buffer.getDouble((count + i) * 8), rhoUnits,
+                            buffer.getDouble((2 * count + i) * 8));
+
+        return peaks;
+    }
+
+}
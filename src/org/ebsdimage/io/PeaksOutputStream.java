@@ -0,0 +1,240 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.ebsdimage.core.HoughPeak;
+
+/**
+ * Saves the Hough peaks of a series of patterns in a single binary file
+ * (<code>PKS</code> format). This format replaces one XML file per pattern
+ * when the peaks of a large number of patterns must be kept.
+ * <p/>
+ * The first three bytes of the file are 80, 75 and 83 which translate to PKS.
+ * The next byte is the version label. Then come the index of the first
+ * pattern and the number of patterns in integer format. The rest of the file
+ * is a series of records, one per pattern, in the order in which they were
+ * written. A record consists of the index of the pattern and the number of
+ * peaks (integers), the units of rho (UTF string) followed by the theta, rho
+ * and intensity values of all the peaks (three columns of doubles). The file
+ * ends with a table giving the position of the record of every pattern (long,
+ * -1 if the pattern has no record), the position of this table (long) and the
+ * bytes PKSE. Since the records are self-describing, the peaks of a file
+ * which was not closed can be recovered and the file can be appended.
+ * 
+ * @author Philippe T. Pinard
+ */
+public class PeaksOutputStream {
+
+    /** Header of the file. */
+    protected static final String HEADER = "PKS2";
+
+    /** Last bytes of a closed file. */
+    protected static final String TRAILER = "PKSE";
+
+    /** Position of the records of the patterns. */
+    private final long[] offsets;
+
+    /** Index of the first pattern. */
+    private final int startIndex;
+
+    /** Output stream. */
+    private final DataOutputStream outStream;
+
+    /** Number of bytes written to the stream. */
+    private long position;
+
+
+
+    /**
+     * Creates a new <code>PeaksOutputStream</code>.
+     * 
+     * @param file
+     *            file where to save the peaks
+     * @param startIndex
+     *            index of the first pattern
+     * @param size
+     *            number of patterns
+     * @throws IllegalArgumentException
+     *             if the start index is negative
+     * @throws IllegalArgumentException
+     *             if the size is negative
+     * @throws IOException
+     *             if an error occurs while writing the header
+     */
+    public PeaksOutputStream(File file, int startIndex, int size)
+            throws IOException {
+        this(file, startIndex, size, false);
+    }
+
+
+
+    /**
+     * Creates a new <code>PeaksOutputStream</code>. In append mode, the peaks
+     * already saved in the file are kept, even if the file was not closed,
+     * and the new peaks are written after them. Otherwise, or if the file does
+     * not exist, a new file is created.
+     * 
+     * @param file
+     *            file where to save the peaks
+     * @param startIndex
+     *            index of the first pattern
+     * @param size
+     *            number of patterns
+     * @param append
+     *            whether to append the peaks to an existing file
+     * @throws IllegalArgumentException
+     *             if the start index is negative
+     * @throws IllegalArgumentException
+     *             if the size is negative
+     * @throws IOException
+     *             if the existing file does not have the same start index and
+     *             size
+     * @throws IOException
+     *             if an error occurs while writing the header
+     */
+    public PeaksOutputStream(File file, int startIndex, int size,
+            boolean append) throws IOException {
+        if (startIndex < 0)
+            throw new IllegalArgumentException("startIndex (" + startIndex
+                    + ") must be >= 0.");
+        if (size < 0)
+            throw new IllegalArgumentException("size (" + size
+                    + ") must be >= 0.");
+
+        this.startIndex = startIndex;
+
+        if (append && file.exists()) {
+            PeaksInputStream in = new PeaksInputStream(file);
+            try {
+                if (in.getStartIndex() != startIndex
+                        || in.getEndIndex() != startIndex + size)
+                    throw new IOException("The patterns of the file ("
+                            + file.getName() + ") must start at "
+                            + startIndex + " and be " + size
+                            + " patterns long.");
+
+                offsets = in.getOffsets();
+                position = in.getRecordsEnd();
+            } finally {
+                in.close();
+            }
+
+            // Remove the table or the incomplete record at the end
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                raf.setLength(position);
+            } finally {
+                raf.close();
+            }
+
+            outStream =
+                    new DataOutputStream(new BufferedOutputStream(
+                            new FileOutputStream(file, true), 65536));
+        } else {
+            offsets = new long[size];
+            Arrays.fill(offsets, -1);
+
+            outStream =
+                    new DataOutputStream(new BufferedOutputStream(
+                            new FileOutputStream(file), 65536));
+
+            // Write the header
+            outStream.write(HEADER.getBytes());
+            outStream.writeInt(startIndex);
+            outStream.writeInt(size);
+            position = HEADER.length() + 8;
+        }
+    }
+
+
+
+    /**
+     * Writes the table of the records and closes the stream.
+     * 
+     * @throws IOException
+     *             if an error occurs while closing the stream
+     */
+    public void close() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(offsets.length * 8);
+        buffer.asLongBuffer().put(offsets);
+        outStream.write(buffer.array());
+        outStream.writeLong(position);
+        outStream.write(TRAILER.getBytes());
+        outStream.close();
+    }
+
+
+
+    /**
+     * Writes the peaks of a pattern. If the peaks of a pattern are written
+     * twice, the last peaks are kept.
+     * 
+     * @param index
+     *            index of the pattern
+     * @param peaks
+     *            peaks of the pattern
+     * @throws IllegalArgumentException
+     *             if the index is outside the range of the file
+     * @throws IllegalArgumentException
+     *             if the units of rho are not the same for all the peaks
+     * @throws IOException
+     *             if an error occurs while writing the peaks
+     */
+    public void writePeaks(int index, HoughPeak[] peaks) throws IOException {
+        if (index < startIndex || index >= startIndex + offsets.length)
+            throw new IllegalArgumentException("Index (" + index
+                    + ") must be between [" + startIndex + ", "
+                    + (startIndex + offsets.length) + "[.");
+
+        int count = peaks.length;
+        String rhoUnits = (count > 0) ? peaks[0].rhoUnits : "px";
+
+        ByteBuffer buffer = ByteBuffer.allocate(count * 24);
+        for (int i = 0; i < count; i++) {
+            if (!peaks[i].rhoUnits.equals(rhoUnits))
+                throw new IllegalArgumentException(
+                        "All the peaks must have the same rho units.");
+            buffer.putDouble(i * 8, peaks[i].theta);
+            buffer.putDouble((count + i) * 8, peaks[i].rho);
+            buffer.putDouble((2 * count + i) * 8, peaks[i].intensity);
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerStream = new DataOutputStream(header);
+        headerStream.writeInt(index);
+        headerStream.writeInt(count);
+        headerStream.writeUTF(rhoUnits);
+
+        outStream.write(header.toByteArray());
+        outStream.write(buffer.array());
+
+        offsets[index - startIndex] = position;
+        position += header.size() + buffer.capacity();
+    }
+
+}
@@ -27,6 +27,7 @@ import net.miginfocom.swing.MigLayout;
 
 import org.ebsdimage.core.EbsdMetadata;
 import org.ebsdimage.core.exp.ExpMMap;
+import org.ebsdimage.core.run.OpProfiler;
 import org.ebsdimage.gui.exp.MapsGUIListener;
 import org.ebsdimage.gui.exp.wizard.ExpWizard;
 import org.ebsdimage.io.exp.ExpMMapSaver;
@@ -73,6 +74,12 @@ public class Exp extends PlugIn implements Monitorable {
         }
     }
 
+    /**
+     * Preference to profile the operations of the experiments. The statistics
+     * are saved with the results and shown in the progress status.
+     */
+    public static final String PROFILER_ENABLED = "Exp.profiler";
+
     /** Experiment. */
     private org.ebsdimage.core.exp.Exp exp;
 
@@ -117,6 +124,9 @@ public class Exp extends PlugIn implements Monitorable {
         exp = new org.ebsdimage.core.exp.Exp(mmap, wizard.getOperations());
         exp.setName(wizard.getName());
         exp.setDir(wizard.getDir());
+
+        if (getPreferences().getPreference(PROFILER_ENABLED, false))
+            exp.setProfiler(new OpProfiler());
     }
 
 
@@ -162,9 +172,13 @@ public class Exp extends PlugIn implements Monitorable {
 
     @Override
     public String getTaskStatus() {
-        if (exp != null)
-            return exp.getTaskStatus();
-        else
+        if (exp != null) {
+            OpProfiler profiler = exp.getProfiler();
+            if (profiler == null)
+                return exp.getTaskStatus();
+            else
+                return exp.getTaskStatus() + " - " + profiler.getSummary();
+        } else
             return super.getTaskStatus();
     }
 
@@ -37,6 +37,9 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
  */
 public class RGBEulers extends PlugIn {
 
+    /** Sampling step of the first (coarse) rendering. */
+    private static final int COARSE_STEP = 8;
+
     /**
      * Dialog to select an EBSD multimap from those loaded in the GUI.
      * 
@@ -99,9 +102,12 @@ public class RGBEulers extends PlugIn {
             return null;
 
         EbsdMMap mmap = dialog.getSelectedMap();
+        int nbThreads = Runtime.getRuntime().availableProcessors();
 
-        // Convert
-        RGBMap rgbMap = Conversion.toRGBMap(mmap);
+        // Coarse conversion, displayed while the full map is converted
+        RGBMap rgbMap = new RGBMap(mmap.width, mmap.height);
+        Conversion.toRGBMap(mmap, rgbMap, COARSE_STEP, nbThreads);
+        rgbMap.resetChanged();
 
         // Add to EbsdMMap
         mmap.put("RGBEulers", rgbMap);
@@ -110,6 +116,10 @@ public class RGBEulers extends PlugIn {
         // Add to Desktop
         add(rgbMap);
 
+        // Full conversion
+        Conversion.toRGBMap(mmap, rgbMap, 1, nbThreads);
+        rgbMap.notifyListeners();
+
         return rgbMap;
     }
 
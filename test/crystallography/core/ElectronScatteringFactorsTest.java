@@ -161,4 +161,17 @@ public class ElectronScatteringFactorsTest {
         assertEquals(factor, expectedFactor, 1e-7);
     }
 
+
+
+    @Test
+    public void testGetFromSInterpolation() {
+        for (int atomicNumber = 1; atomicNumber <= 98; atomicNumber++) {
+            for (double s = 0.0; s < 6.0; s += 0.0013) {
+                double expected = scatter.calculateFromS(atomicNumber, s);
+                assertEquals(expected, scatter.getFromS(atomicNumber, s),
+                        1e-7);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,189 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package crystallography.core;
+
+import org.apache.commons.math.geometry.Rotation;
+import org.apache.commons.math.geometry.Vector3D;
+import org.junit.Test;
+
+import ptpshared.geom.RotationUtils;
+
+import static org.junit.Assert.assertEquals;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.toRadians;
+
+public class QuaternionsTest {
+
+    private static double[] toArray(Rotation r) {
+        return new double[] { r.getQ0(), r.getQ1(), r.getQ2(), r.getQ3() };
+    }
+
+
+
+    @Test
+    public void testGetOperators() {
+        double[] ops = Quaternions.getOperators(LaueGroup.LGm3m);
+        assertEquals(24 * 4, ops.length);
+        assertEquals(1.0, ops[0], 1e-6);
+
+        // Copy
+        ops[0] = 0.0;
+        assertEquals(1.0, Quaternions.getOperators(LaueGroup.LGm3m)[0], 1e-6);
+    }
+
+
+
+    @Test
+    public void testMisorientation() {
+        double[] a = toArray(Rotation.IDENTITY);
+        double[] b =
+                toArray(new Rotation(Vector3D.PLUS_K, toRadians(10.0)));
+        double[] c =
+                toArray(new Rotation(Vector3D.PLUS_K, toRadians(90.0)));
+
+        assertEquals(0.0,
+                Quaternions.misorientation(a, 0, a, 0, LaueGroup.LGm3m), 1e-6);
+        assertEquals(toRadians(10.0),
+                Quaternions.misorientation(a, 0, b, 0, LaueGroup.LGm3m), 1e-6);
+        assertEquals(toRadians(10.0),
+                Quaternions.misorientation(b, 0, a, 0, LaueGroup.LGm3m), 1e-6);
+        assertEquals(0.0,
+                Quaternions.misorientation(a, 0, c, 0, LaueGroup.LGm3m), 1e-6);
+        assertEquals(toRadians(90.0),
+                Quaternions.misorientation(a, 0, c, 0, LaueGroup.LG1), 1e-6);
+    }
+
+
+
+    @Test
+    public void testMisorientationSymmetric() {
+        Rotation r = RotationUtils.randomRotation(1);
+
+        for (Rotation op : LaueGroup.LGm3m.getOperators()) {
+            double[] a = toArray(r);
+            double[] b = toArray(op.applyTo(r));
+            assertEquals(0.0,
+                    Quaternions.misorientation(a, 0, b, 0, LaueGroup.LGm3m),
+                    1e-6);
+        }
+    }
+
+
+
+    @Test
+    public void testMisorientationFloat() {
+        Rotation r1 = RotationUtils.randomRotation(2);
+        Rotation r2 = RotationUtils.randomRotation(3);
+
+        float[] q0 = new float[] { (float) r1.getQ0(), (float) r2.getQ0() };
+        float[] q1 = new float[] { (float) r1.getQ1(), (float) r2.getQ1() };
+        float[] q2 = new float[] { (float) r1.getQ2(), (float) r2.getQ2() };
+        float[] q3 = new float[] { (float) r1.getQ3(), (float) r2.getQ3() };
+
+        double expected =
+                Quaternions.misorientation(toArray(r1), 0, toArray(r2), 0,
+                        LaueGroup.LG6mmm);
+        assertEquals(expected, Quaternions.misorientation(q0, q1, q2, q3, 0,
+                1, LaueGroup.LG6mmm), 1e-5);
+        assertEquals(expected, Quaternions.misorientation(q0, q1, q2, q3, 1,
+                0, LaueGroup.LG6mmm), 1e-5);
+        assertEquals(true, expected <= PI);
+    }
+
+
+
+    @Test
+    public void testMultiply() {
+        Rotation r1 = RotationUtils.randomRotation(4);
+        Rotation r2 = RotationUtils.randomRotation(5);
+        Rotation expected = r2.applyTo(r1);
+
+        double[] q = new double[8];
+        System.arraycopy(toArray(r1), 0, q, 0, 4);
+        System.arraycopy(toArray(r2), 0, q, 4, 4);
+
+        // In place
+        Quaternions.multiply(q, 0, q, 4, q, 0);
+
+        assertEquals(expected.getQ0(), q[0], 1e-6);
+        assertEquals(expected.getQ1(), q[1], 1e-6);
+        assertEquals(expected.getQ2(), q[2], 1e-6);
+        assertEquals(expected.getQ3(), q[3], 1e-6);
+    }
+
+
+
+    @Test
+    public void testReduce() {
+        for (LaueGroup lg : LaueGroup.values()) {
+            for (int i = 0; i < 20; i++) {
+                Rotation r = RotationUtils.randomRotation(i);
+
+                // Reference
+                Rotation expected = r;
+                for (Rotation op : lg.getOperators()) {
+                    Rotation out = op.applyTo(r);
+                    if (Math.abs(out.getQ0()) > Math.abs(expected.getQ0()))
+                        expected = out;
+                }
+
+                double[] q = toArray(r);
+                Quaternions.reduce(q, 0, lg);
+
+                assertEquals(expected.getQ0(), q[0], 1e-6);
+                assertEquals(expected.getQ1(), q[1], 1e-6);
+                assertEquals(expected.getQ2(), q[2], 1e-6);
+                assertEquals(expected.getQ3(), q[3], 1e-6);
+            }
+        }
+    }
+
+
+
+    @Test
+    public void testReduceArrays() {
+        int size = 2500;
+        float[] q0 = new float[size];
+        float[] q1 = new float[size];
+        float[] q2 = new float[size];
+        float[] q3 = new float[size];
+
+        double[][] expected = new double[size][];
+        for (int i = 0; i < size; i++) {
+            Rotation r = RotationUtils.randomRotation(i);
+            q0[i] = (float) r.getQ0();
+            q1[i] = (float) r.getQ1();
+            q2[i] = (float) r.getQ2();
+            q3[i] = (float) r.getQ3();
+
+            expected[i] = new double[] { q0[i], q1[i], q2[i], q3[i] };
+            Quaternions.reduce(expected[i], 0, LaueGroup.LGm3m);
+        }
+
+        Quaternions.reduce(q0, q1, q2, q3, LaueGroup.LGm3m);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(expected[i][0], q0[i], 1e-6);
+            assertEquals(expected[i][1], q1[i], 1e-6);
+            assertEquals(expected[i][2], q2[i], 1e-6);
+            assertEquals(expected[i][3], q3[i], 1e-6);
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package crystallography.core;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import rmlshared.io.FileUtil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ReflectorsCacheTest {
+
+    private File dir;
+
+    private ReflectorsCache cache;
+
+    private Crystal crystal;
+
+
+
+    private static void assertReflectorsEquals(Reflectors expected,
+            Reflectors actual) {
+        assertEquals(expected.size(), actual.size());
+
+        for (Reflector refl : expected) {
+            Reflector other = actual.get(refl.h, refl.k, refl.l);
+            assertEquals(refl.planeSpacing, other.planeSpacing, 1e-12);
+            assertEquals(refl.intensity, other.intensity, 1e-12);
+            assertEquals(refl.normalizedIntensity, other.normalizedIntensity,
+                    1e-12);
+        }
+    }
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        dir = new File(FileUtil.getTempDirFile(), "reflectorscache");
+        if (dir.exists())
+            FileUtil.rmdir(dir);
+
+        cache = new ReflectorsCache(dir);
+        crystal = CrystalFactory.silicon();
+    }
+
+
+
+    @After
+    public void tearDown() throws Exception {
+        ReflectorsFactory.setCache(null);
+
+        if (dir.exists())
+            FileUtil.rmdir(dir);
+    }
+
+
+
+    @Test
+    public void testClear() {
+        cache.get(crystal, ScatteringFactorsEnum.XRAY, 2);
+        assertEquals(1, dir.listFiles().length);
+
+        cache.clear();
+        assertEquals(0, dir.listFiles().length);
+    }
+
+
+
+    @Test
+    public void testGet() {
+        Reflectors expected =
+                ReflectorsFactory.calculate(crystal,
+                        ScatteringFactorsEnum.XRAY, 2);
+
+        Reflectors refls = cache.get(crystal, ScatteringFactorsEnum.XRAY, 2);
+        assertSame(crystal, refls.crystal);
+        assertReflectorsEquals(expected, refls);
+
+        // From the disk
+        ReflectorsCache other = new ReflectorsCache(dir);
+        Crystal crystal2 = CrystalFactory.silicon();
+        refls = other.get(crystal2, ScatteringFactorsEnum.XRAY, 2);
+        assertSame(crystal2, refls.crystal);
+        assertReflectorsEquals(expected, refls);
+    }
+
+
+
+    @Test
+    public void testGetCorrupted() throws Exception {
+        File file =
+                cache.getFile(ReflectorsCache.getKey(crystal,
+                        ScatteringFactorsEnum.XRAY, 2));
+        dir.mkdirs();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(new byte[] { 'R', 'F', 'L', '1', 0 });
+        out.close();
+
+        Reflectors refls = cache.get(crystal, ScatteringFactorsEnum.XRAY, 2);
+        assertReflectorsEquals(ReflectorsFactory.calculate(crystal,
+                ScatteringFactorsEnum.XRAY, 2), refls);
+
+        // The corrupted file is replaced
+        assertTrue(file.length() > 5);
+    }
+
+
+
+    @Test
+    public void testGetKey() {
+        String key =
+                ReflectorsCache.getKey(crystal, ScatteringFactorsEnum.XRAY, 2);
+        assertEquals(40, key.length());
+
+        assertEquals(key, ReflectorsCache.getKey(CrystalFactory.silicon(),
+                ScatteringFactorsEnum.XRAY, 2));
+        assertFalse(key.equals(ReflectorsCache.getKey(crystal,
+                ScatteringFactorsEnum.ELECTRON, 2)));
+        assertFalse(key.equals(ReflectorsCache.getKey(crystal,
+                ScatteringFactorsEnum.XRAY, 3)));
+        assertFalse(key.equals(ReflectorsCache.getKey(
+                CrystalFactory.ferrite(), ScatteringFactorsEnum.XRAY, 2)));
+    }
+
+
+
+    @Test
+    public void testReflectorsFactory() {
+        ReflectorsFactory.setCache(cache);
+
+        Reflectors refls =
+                ReflectorsFactory.generate(crystal, ScatteringFactorsEnum.XRAY,
+                        2);
+        assertSame(crystal, refls.crystal);
+        assertEquals(1, dir.listFiles().length);
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package crystallography.core;
+
+import java.util.HashSet;
+
+import org.apache.commons.math.geometry.Vector3D;
+import org.junit.Test;
+
+import ptpshared.geom.Vector3DUtils;
+import rmlshared.thread.Reflection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReflectorsFactoryTest {
+
+    private static void assertGenerate(Crystal crystal,
+            ScatteringFactorsEnum scatterType, int maxIndex) {
+        Reflectors reflectors =
+                ReflectorsFactory.generate(crystal, scatterType, maxIndex);
+
+        ScatteringFactors scatter =
+                (ScatteringFactors) Reflection.newInstance(scatterType.getScatteringFactors());
+        double maxIntensity =
+                Calculations.maximumDiffractionIntensity(crystal.unitCell,
+                        crystal.atoms, scatter);
+
+        // Reference: all the planes with the calculations of each plane
+        HashSet<Vector3D> planes = new HashSet<Vector3D>();
+        for (int h = -maxIndex; h <= maxIndex; h++)
+            for (int k = -maxIndex; k <= maxIndex; k++)
+                for (int l = -maxIndex; l <= maxIndex; l++) {
+                    if (h == 0 && k == 0 && l == 0)
+                        continue;
+
+                    Vector3D p =
+                            Vector3DUtils.positive(new Vector3D(h, k, l));
+                    double intensity =
+                            Calculations.diffractionIntensity(p,
+                                    crystal.unitCell, crystal.atoms, scatter);
+
+                    if (Calculations.isDiffracting(intensity, maxIntensity,
+                            1e-14))
+                        planes.add(p);
+                }
+
+        assertEquals(planes.size(), reflectors.size());
+
+        for (Vector3D p : planes) {
+            int h = (int) p.getX();
+            int k = (int) p.getY();
+            int l = (int) p.getZ();
+            assertTrue(reflectors.contains(h, k, l));
+
+            Reflector refl = reflectors.get(h, k, l);
+            assertEquals(Calculations.planeSpacing(p, crystal.unitCell),
+                    refl.planeSpacing, 1e-9);
+            assertEquals(Calculations.diffractionIntensity(p,
+                    crystal.unitCell, crystal.atoms, scatter), refl.intensity,
+                    1e-9);
+        }
+    }
+
+
+
+    @Test
+    public void testGenerateFerrite() {
+        assertGenerate(CrystalFactory.ferrite(), ScatteringFactorsEnum.XRAY,
+                4);
+    }
+
+
+
+    @Test
+    public void testGenerateSilicon() {
+        assertGenerate(CrystalFactory.silicon(),
+                ScatteringFactorsEnum.ELECTRON, 4);
+    }
+
+
+
+    @Test
+    public void testGenerateZirconium() {
+        assertGenerate(CrystalFactory.zirconium(), ScatteringFactorsEnum.XRAY,
+                3);
+    }
+
+}
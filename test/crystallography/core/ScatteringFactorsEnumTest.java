@@ -49,6 +49,13 @@ public class ScatteringFactorsEnumTest extends TestCase {
 
 
 
+    @Test
+    public void testGetVersion() {
+        assertEquals(1, scatterType.getVersion());
+    }
+
+
+
     @Test
     public void testXML() throws Exception {
         File tmpFile = createTempFile();
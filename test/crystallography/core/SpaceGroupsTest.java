@@ -20,6 +20,7 @@ package crystallography.core;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import static crystallography.core.CrystalSystem.*;
 import static crystallography.core.LaueGroup.*;
@@ -277,6 +278,21 @@ public class SpaceGroupsTest {
 
 
 
+    @Test
+    public void testFromIndexSameInstance() {
+        assertSame(SpaceGroups.fromIndex(225), SpaceGroups.fromIndex(225));
+        assertSame(SpaceGroups.SG225, SpaceGroups.fromSymbol("Fm-3m"));
+    }
+
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromIndexUnknown() {
+        SpaceGroups.fromIndex(231);
+    }
+
+
+
     @Test
     public void testFromSymbol() {
         SpaceGroup sg;
@@ -0,0 +1,124 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core;
+
+import org.ebsdimage.TestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import rmlimage.core.ByteMap;
+import rmlshared.util.Range;
+
+import static org.junit.Assert.assertEquals;
+
+public class ByteMapStatsTest extends TestCase {
+
+    private ByteMap map;
+
+    private ByteMapStats stats;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        map = (ByteMap) load("org/ebsdimage/testdata/pattern_masked.bmp");
+        stats = new ByteMapStats(map);
+    }
+
+
+
+    @Test
+    public void testAverage() {
+        assertEquals(MapStats.average(map), stats.average(), 1e-6);
+    }
+
+
+
+    @Test
+    public void testCount() {
+        int count = 0;
+        for (byte pixValue : map.pixArray)
+            if (pixValue != 0)
+                count++;
+
+        assertEquals(count, stats.count);
+    }
+
+
+
+    @Test
+    public void testEntropy() {
+        assertEquals(MapStats.entropy(map), stats.entropy(), 1e-6);
+    }
+
+
+
+    @Test
+    public void testGetHistogram() {
+        int[] histogram = stats.getHistogram();
+
+        int total = 0;
+        for (int nb : histogram)
+            total += nb;
+        assertEquals(map.size, total);
+        assertEquals(map.size - stats.count, histogram[0]);
+    }
+
+
+
+    @Test
+    public void testRange() {
+        Range<Integer> range = stats.range();
+
+        assertEquals(8, range.min.intValue());
+        assertEquals(232, range.max.intValue());
+    }
+
+
+
+    @Test
+    public void testRangeEmpty() {
+        Range<Integer> range = new ByteMapStats(new ByteMap(2, 2)).range();
+
+        assertEquals(0, range.min.intValue());
+        assertEquals(0, range.max.intValue());
+    }
+
+
+
+    @Test
+    public void testStandardDeviation() {
+        assertEquals(MapStats.standardDeviation(map),
+                stats.standardDeviation(), 1e-6);
+    }
+
+
+
+    @Test
+    public void testSum() {
+        assertEquals(rmlimage.core.MapStats.sum(map), stats.sum, 1e-6);
+    }
+
+
+
+    @Test
+    public void testVariance() {
+        assertEquals(MapStats.variance(map), stats.variance(), 1e-6);
+    }
+
+}
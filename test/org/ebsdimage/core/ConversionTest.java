@@ -222,4 +222,55 @@ public class ConversionTest extends TestCase {
         assertEquals(0, rgbMap.pixArray[2]); // no phase
         assertEquals(16711808, rgbMap.pixArray[3]);
     }
+
+
+
+    @Test
+    public void testToRGBMapStep() {
+        float S2_2 = (float) (Math.sqrt(2) / 2.0);
+
+        // Create ExpMMap
+        HashMap<String, Map> mapList = new HashMap<String, Map>();
+
+        // Pixel 0, the one sampled with a step of 2, has the same
+        // orientation as pixel 3
+        float[] pixArray = new float[] { S2_2, 0.0f, 0.0f, S2_2 };
+        RealMap q0Map = new RealMap(2, 2, pixArray);
+        mapList.put(EbsdMMap.Q0, q0Map);
+
+        pixArray = new float[] { 0.0f, S2_2, 0.0f, 0.0f };
+        RealMap q1Map = new RealMap(2, 2, pixArray);
+        mapList.put(EbsdMMap.Q1, q1Map);
+
+        pixArray = new float[] { 0.0f, 0.0f, S2_2, 0.0f };
+        RealMap q2Map = new RealMap(2, 2, pixArray);
+        mapList.put(EbsdMMap.Q2, q2Map);
+
+        pixArray = new float[] { S2_2, S2_2, S2_2, S2_2 };
+        RealMap q3Map = new RealMap(2, 2, pixArray);
+        mapList.put(EbsdMMap.Q3, q3Map);
+
+        HashMap<Integer, Crystal> items = new HashMap<Integer, Crystal>();
+        items.put(1, CrystalFactory.silicon());
+        PhaseMap phasesMap =
+                new PhaseMap(2, 2, new byte[] { 1, 1, 0, 1 }, items);
+        mapList.put(EbsdMMap.PHASES, phasesMap);
+
+        ExpMMap mmap = new ExpMMap(2, 2, mapList);
+
+        // Convert
+        RGBMap rgbMap = new RGBMap(2, 2);
+        Conversion.toRGBMap(mmap, rgbMap, 2, 2);
+
+        // Test: the color of pixel 0 fills the block, even pixel 2 which has
+        // no phase
+        for (int n = 0; n < 4; n++)
+            assertEquals(16711808, rgbMap.pixArray[n]);
+
+        Conversion.toRGBMap(mmap, rgbMap, 1, 2);
+        assertEquals(16711808, rgbMap.pixArray[0]);
+        assertEquals(12550335, rgbMap.pixArray[1]);
+        assertEquals(0, rgbMap.pixArray[2]);
+        assertEquals(16711808, rgbMap.pixArray[3]);
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core;
+
+import org.apache.commons.math.geometry.Rotation;
+import org.apache.commons.math.geometry.Vector3D;
+import org.ebsdimage.core.exp.ExpMMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import rmlimage.module.integer.core.IntMap;
+import rmlimage.module.real.core.RealMap;
+import crystallography.core.CrystalFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import static java.lang.Math.toRadians;
+
+public class GrainsTest {
+
+    private ExpMMap mmap;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        // Left half: identity, right half: 30 deg around z
+        // Pixel (0, 1) is not indexed
+        int width = 6;
+        int height = 8;
+        mmap = new ExpMMap(width, height);
+        mmap.getPhaseMap().register(1, CrystalFactory.silicon());
+
+        Rotation r1 = Rotation.IDENTITY;
+        Rotation r2 = new Rotation(Vector3D.PLUS_K, toRadians(30.0));
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int n = y * width + x;
+                if (x == 0 && y == 1)
+                    continue;
+
+                Rotation r = x < width / 2 ? r1 : r2;
+                mmap.getQ0Map().pixArray[n] = (float) r.getQ0();
+                mmap.getQ1Map().pixArray[n] = (float) r.getQ1();
+                mmap.getQ2Map().pixArray[n] = (float) r.getQ2();
+                mmap.getQ3Map().pixArray[n] = (float) r.getQ3();
+                mmap.getPhaseMap().pixArray[n] = 1;
+            }
+        }
+
+        // Small deviation of 1 deg in the left grain
+        Rotation r3 = new Rotation(Vector3D.PLUS_I, toRadians(1.0));
+        int n = 2 * width + 1;
+        mmap.getQ0Map().pixArray[n] = (float) r3.getQ0();
+        mmap.getQ1Map().pixArray[n] = (float) r3.getQ1();
+        mmap.getQ2Map().pixArray[n] = (float) r3.getQ2();
+        mmap.getQ3Map().pixArray[n] = (float) r3.getQ3();
+    }
+
+
+
+    @Test
+    public void testRun() {
+        new Grains(toRadians(5.0), toRadians(5.0), 2).run(mmap);
+
+        IntMap grains = (IntMap) mmap.getMap(Grains.GRAINS);
+        assertEquals(1, grains.pixArray[0]);
+        assertEquals(0, grains.pixArray[6]);
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 6; x++) {
+                if (x == 0 && y == 1)
+                    continue;
+                assertEquals(x < 3 ? 1 : 2, grains.pixArray[y * 6 + x]);
+            }
+        }
+
+        RealMap kam = (RealMap) mmap.getMap(Grains.KAM);
+        assertTrue(Float.isNaN(kam.pixArray[6]));
+        assertEquals(0.0, kam.pixArray[0], 1e-3);
+
+        // 30 deg misorientations are excluded
+        assertEquals(0.0, kam.pixArray[2], 1e-3);
+
+        // Pixel with a deviation of 1 deg and its 4 neighbours
+        assertEquals(toRadians(1.0), kam.pixArray[13], 1e-3);
+        assertEquals(toRadians(1.0) / 4.0, kam.pixArray[12 + 6 + 1], 1e-3);
+        assertEquals(toRadians(1.0) / 2.0, kam.pixArray[12], 1e-3);
+    }
+
+
+
+    @Test
+    public void testRunGrainThreshold() {
+        new Grains(toRadians(40.0), toRadians(5.0), 1).run(mmap);
+
+        IntMap grains = (IntMap) mmap.getMap(Grains.GRAINS);
+        for (int n = 0; n < grains.size; n++)
+            assertEquals(n == 6 ? 0 : 1, grains.pixArray[n]);
+    }
+
+
+
+    @Test
+    public void testRunTwice() {
+        Grains grains = new Grains();
+        grains.run(mmap);
+        grains.run(mmap);
+
+        assertEquals(2, ((IntMap) mmap.getMap(Grains.GRAINS)).pixArray[5]);
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core;
+
+import org.ebsdimage.TestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import rmlimage.core.BinMap;
+import rmlimage.core.ByteMap;
+
+import static java.lang.Math.toRadians;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MapPoolTest extends TestCase {
+
+    private MapPool pool;
+
+    private ByteMap map;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        pool = new MapPool();
+
+        map = new ByteMap(4, 3);
+        for (int i = 0; i < map.size; i++)
+            map.pixArray[i] = (byte) (i + 1);
+        map.setProperty("test", 7);
+    }
+
+
+
+    @Test
+    public void testAcquire() {
+        ByteMap other = pool.acquire(map);
+
+        assertFalse(other == map);
+        assertEquals(ByteMap.class, other.getClass());
+        assertEquals(4, other.width);
+        assertEquals(3, other.height);
+        assertEquals(7, other.getProperty("test", 0));
+        for (int i = 0; i < other.size; i++)
+            assertEquals(0, other.pixArray[i]);
+
+        assertEquals(1, pool.getUsedCount());
+        assertEquals(0, pool.getFreeCount());
+    }
+
+
+
+    @Test
+    public void testAcquireCopy() {
+        ByteMap other = pool.acquireCopy(map);
+
+        assertFalse(other == map);
+        for (int i = 0; i < other.size; i++)
+            assertEquals(map.pixArray[i], other.pixArray[i]);
+        assertEquals(7, other.getProperty("test", 0));
+    }
+
+
+
+    @Test
+    public void testAcquireCopyHoughMap() {
+        HoughMap houghMap = new HoughMap(5, 5, toRadians(1), 2);
+        houghMap.pixArray[3] = 9;
+
+        HoughMap other = pool.acquireCopy(houghMap);
+        assertEquals(9, other.pixArray[3]);
+        assertEquals(1.0, other.getDeltaTheta().getValue("deg"), 1e-6);
+        assertEquals(2.0, other.getDeltaRho().getValue("px"), 1e-6);
+
+        // Reused for a Hough map with a different resolution
+        pool.releaseAll();
+        HoughMap other2 = new HoughMap(5, 5, toRadians(2), 3);
+        assertSame(other, pool.acquire(other2));
+        assertEquals(2.0, other.getDeltaTheta().getValue("deg"), 1e-6);
+        assertEquals(3.0, other.getDeltaRho().getValue("px"), 1e-6);
+        assertEquals(0, other.pixArray[3]);
+    }
+
+
+
+    @Test
+    public void testAdd() {
+        ByteMap other = new ByteMap(4, 3);
+        pool.add(other);
+        assertEquals(1, pool.getUsedCount());
+
+        pool.releaseAll();
+        assertSame(other, pool.poll(ByteMap.class, 4, 3));
+    }
+
+
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        pool.add(null);
+    }
+
+
+
+    @Test
+    public void testClear() {
+        pool.acquire(map);
+        pool.acquire(map);
+        pool.releaseAll();
+        pool.acquire(map);
+
+        pool.clear();
+        assertEquals(0, pool.getUsedCount());
+        assertEquals(0, pool.getFreeCount());
+    }
+
+
+
+    @Test
+    public void testPoll() {
+        assertNull(pool.poll(ByteMap.class, 4, 3));
+
+        ByteMap other = pool.acquire(map);
+        pool.releaseAll();
+
+        assertNull(pool.poll(BinMap.class, 4, 3));
+        assertNull(pool.poll(ByteMap.class, 3, 4));
+        assertSame(other, pool.poll(ByteMap.class, 4, 3));
+        assertEquals(1, pool.getUsedCount());
+        assertNull(pool.poll(ByteMap.class, 4, 3));
+    }
+
+
+
+    @Test
+    public void testRelease() {
+        ByteMap other1 = pool.acquire(map);
+        ByteMap other2 = pool.acquire(map);
+        assertFalse(other1 == other2);
+
+        pool.release(other1);
+        assertEquals(1, pool.getUsedCount());
+        assertEquals(1, pool.getFreeCount());
+        assertSame(other1, pool.acquire(map));
+
+        // Not from the pool
+        pool.release(map);
+        assertEquals(2, pool.getUsedCount());
+    }
+
+
+
+    @Test
+    public void testReleaseAll() {
+        ByteMap other1 = pool.acquire(map);
+        BinMap binMap = pool.acquire(new BinMap(4, 3));
+        assertEquals(2, pool.getUsedCount());
+
+        pool.releaseAll();
+        assertEquals(0, pool.getUsedCount());
+        assertEquals(2, pool.getFreeCount());
+
+        assertSame(binMap, pool.acquire(new BinMap(4, 3)));
+        assertSame(other1, pool.acquireCopy(map));
+        assertEquals(0, pool.getFreeCount());
+    }
+
+}
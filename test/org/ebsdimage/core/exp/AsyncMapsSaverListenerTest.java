@@ -0,0 +1,170 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.ZipFile;
+
+import org.ebsdimage.TestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ptpshared.util.simplexml.XmlLoader;
+import ptpshared.util.simplexml.XmlSaver;
+import rmlimage.core.ByteMap;
+import rmlshared.io.FileUtil;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncMapsSaverListenerTest extends TestCase {
+
+    private Exp exp;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        exp = ExpTester.createExp();
+        exp.clearExpListners();
+    }
+
+
+
+    @After
+    public void tearDown() throws Exception {
+        if (ExpTester.expPath.exists())
+            FileUtil.rmdir(ExpTester.expPath);
+    }
+
+
+
+    private ByteMap loadMap(ZipFile zip, String name) throws IOException {
+        File file = new File(createTempDir(), name);
+
+        InputStream in = zip.getInputStream(zip.getEntry(name));
+        OutputStream out = new FileOutputStream(file);
+        try {
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = in.read(buffer)) > 0)
+                out.write(buffer, 0, length);
+        } finally {
+            in.close();
+            out.close();
+        }
+
+        return (ByteMap) load(file);
+    }
+
+
+
+    @Test
+    public void testIsSampled() {
+        AsyncMapsSaverListener listener = new AsyncMapsSaverListener(3);
+        assertTrue(listener.isSampled(0, 0));
+        assertFalse(listener.isSampled(1, 0));
+        assertTrue(listener.isSampled(3, 0));
+
+        // Counted from the first pattern
+        assertTrue(listener.isSampled(1, 1));
+        assertFalse(listener.isSampled(3, 1));
+        assertTrue(listener.isSampled(4, 1));
+
+        listener = new AsyncMapsSaverListener(new int[] { 5, 1 });
+        assertFalse(listener.isSampled(0, 0));
+        assertTrue(listener.isSampled(1, 0));
+        assertTrue(listener.isSampled(5, 0));
+        assertTrue(listener.isSampled(5, 1));
+    }
+
+
+
+    @Test
+    public void testSaveMap() throws Exception {
+        exp.addExpListener(new AsyncMapsSaverListener(1));
+        exp.run();
+
+        File zipFile =
+                new File(ExpTester.expPath, "ExpTester_PatternOpMock.zip");
+        assertTrue(zipFile.exists());
+
+        ZipFile zip = new ZipFile(zipFile);
+        try {
+            assertNotNull(zip.getEntry("ExpTester_PatternOpMock_0.bmp"));
+            assertNotNull(zip.getEntry("ExpTester_PatternOpMock_0.prop"));
+            assertNotNull(zip.getEntry("ExpTester_PatternOpMock_1.bmp"));
+            assertNotNull(zip.getEntry("ExpTester_PatternOpMock_1.prop"));
+
+            ByteMap map = loadMap(zip, "ExpTester_PatternOpMock_1.bmp");
+            assertEquals(1, map.pixArray[0]);
+        } finally {
+            zip.close();
+        }
+    }
+
+
+
+    @Test
+    public void testSaveMapIndexes() throws Exception {
+        exp.addExpListener(new AsyncMapsSaverListener(new int[] { 1 }));
+        exp.run();
+
+        File zipFile =
+                new File(ExpTester.expPath, "ExpTester_PatternOpMock.zip");
+        ZipFile zip = new ZipFile(zipFile);
+        try {
+            assertEquals(2, zip.size());
+            assertNull(zip.getEntry("ExpTester_PatternOpMock_0.bmp"));
+
+            ByteMap map = loadMap(zip, "ExpTester_PatternOpMock_1.bmp");
+            assertEquals(1, map.pixArray[0]);
+        } finally {
+            zip.close();
+        }
+    }
+
+
+
+    @Test
+    public void testXML() throws Exception {
+        File tmpFile = createTempFile();
+
+        new XmlSaver().save(new AsyncMapsSaverListener(new int[] { 5, 1 }),
+                tmpFile);
+        AsyncMapsSaverListener other =
+                new XmlLoader().load(AsyncMapsSaverListener.class, tmpFile);
+        assertArrayEquals(new int[] { 1, 5 }, other.getIndexes());
+
+        new XmlSaver().save(new AsyncMapsSaverListener(3, 8), tmpFile);
+        other = new XmlLoader().load(AsyncMapsSaverListener.class, tmpFile);
+        assertEquals(3, other.step);
+        assertEquals(8, other.queueSize);
+        assertNull(other.getIndexes());
+    }
+
+}
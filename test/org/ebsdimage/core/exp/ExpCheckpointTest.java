@@ -0,0 +1,124 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.ebsdimage.core.exp.ops.hough.results.HoughResultsOpsMock;
+import org.ebsdimage.core.exp.ops.pattern.results.PatternResultsOpsMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import rmlimage.core.ByteMap;
+import rmlimage.module.real.core.RealMap;
+import rmlshared.io.FileUtil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ExpCheckpointTest {
+
+    private Exp exp;
+
+    private File file;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        exp = ExpTester.createExp();
+        exp.clearExpListners();
+
+        file = ExpCheckpoint.getDefaultFile(exp);
+        exp.setCheckpoint(new ExpCheckpoint(file, 1));
+    }
+
+
+
+    @After
+    public void tearDown() throws Exception {
+        if (ExpTester.expPath.exists())
+            FileUtil.rmdir(ExpTester.expPath);
+    }
+
+
+
+    @Test
+    public void testRestore() throws Exception {
+        exp.run();
+        assertTrue(file.exists());
+
+        Exp other = ExpTester.createExp();
+        ExpCheckpoint checkpoint = new ExpCheckpoint(file, 1);
+        assertNull(other.mmap.getMap(PatternResultsOpsMock.class.getSimpleName()));
+
+        assertEquals(2, checkpoint.restore(other));
+
+        ByteMap byteMap =
+                (ByteMap) other.mmap.getMap(PatternResultsOpsMock.class.getSimpleName());
+        assertEquals(18, byteMap.pixArray[0]);
+        assertEquals(20, byteMap.pixArray[1]);
+
+        RealMap realMap =
+                (RealMap) other.mmap.getMap(HoughResultsOpsMock.class.getSimpleName());
+        assertEquals(132, realMap.pixArray[0], 1e-6);
+        assertEquals(144, realMap.pixArray[1], 1e-6);
+    }
+
+
+
+    @Test
+    public void testRestoreNoFile() throws Exception {
+        assertFalse(file.exists());
+        assertEquals(0, exp.getCheckpoint().restore(exp));
+    }
+
+
+
+    @Test
+    public void testRestoreTruncated() throws Exception {
+        exp.run();
+
+        // Simulate a crash while writing the second record
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(raf.length() - 3);
+        raf.close();
+
+        Exp other = ExpTester.createExp();
+        other.clearExpListners();
+        other.setCheckpoint(new ExpCheckpoint(file, 1));
+        assertEquals(1, other.getCheckpoint().restore(other));
+
+        ByteMap byteMap =
+                (ByteMap) other.mmap.getMap(PatternResultsOpsMock.class.getSimpleName());
+        assertEquals(18, byteMap.pixArray[0]);
+        assertEquals(0, byteMap.pixArray[1]);
+
+        // Resume runs the remaining pattern
+        other.resume();
+
+        assertEquals(18, byteMap.pixArray[0]);
+        assertEquals(20, byteMap.pixArray[1]);
+        assertEquals(2, new ExpCheckpoint(file, 1).restore(ExpTester.createExp()));
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp;
+
+import java.io.IOException;
+
+import org.ebsdimage.core.EbsdMMap;
+import org.ebsdimage.core.ErrorMap;
+import org.ebsdimage.core.exp.ops.hough.results.HoughResultsOpsMock;
+import org.ebsdimage.core.exp.ops.indexing.results.IndexingResultsOpsMock;
+import org.ebsdimage.core.exp.ops.pattern.results.PatternResultsOpsMock;
+import org.ebsdimage.core.exp.ops.positioning.post.PositioningPostOps2Mock;
+import org.ebsdimage.core.exp.ops.positioning.results.PeaksBinary;
+import org.ebsdimage.core.exp.ops.positioning.results.PositioningResultsOpsMock;
+import org.ebsdimage.io.PeaksInputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import rmlimage.core.ByteMap;
+import rmlimage.module.real.core.RealMap;
+import rmlshared.io.FileUtil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ExpSweepTest {
+
+    private Exp exp1;
+
+    private Exp exp2;
+
+    private ExpSweep sweep;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        exp1 = ExpTester.createExp();
+        exp1.setName("Sweep1");
+
+        // Same operations with an extra positioning post operation
+        exp2 = ExpTester.createExp();
+        exp2.setName("Sweep2");
+        exp2.addOperation(new PositioningPostOps2Mock());
+
+        sweep = new ExpSweep(new Exp[] { exp1, exp2 });
+    }
+
+
+
+    @After
+    public void tearDown() throws Exception {
+        if (ExpTester.expPath.exists())
+            FileUtil.rmdir(ExpTester.expPath);
+    }
+
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExpSweepEmpty() {
+        new ExpSweep(new Exp[0]);
+    }
+
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExpSweepSharedOperation() {
+        PeaksBinary op = new PeaksBinary();
+        exp1.addOperation(op);
+        exp2.addOperation(op);
+
+        new ExpSweep(new Exp[] { exp1, exp2 });
+    }
+
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExpSweepTwice() {
+        new ExpSweep(new Exp[] { exp1, exp1 });
+    }
+
+
+
+    @Test
+    public void testGetExps() {
+        Exp[] exps = sweep.getExps();
+
+        assertEquals(2, exps.length);
+        assertSame(exp1, exps[0]);
+        assertSame(exp2, exps[1]);
+    }
+
+
+
+    @Test
+    public void testGetStepCount() {
+        // 8 shared steps up to the detection post operations, then 11 and 12
+        // steps executed by each experiment
+        assertEquals(31, sweep.getStepCount());
+        assertEquals(39, sweep.getTotalStepCount());
+    }
+
+
+
+    @Test
+    public void testGetStepCountSame() {
+        Exp exp3 = ExpTester.createExp();
+        sweep = new ExpSweep(new Exp[] { exp1, exp3 });
+
+        assertEquals(30, sweep.getStepCount());
+        assertEquals(38, sweep.getTotalStepCount());
+    }
+
+
+
+    @Test
+    public void testRun() {
+        sweep.run();
+
+        // Shared steps
+        for (Exp exp : new Exp[] { exp1, exp2 }) {
+            ByteMap byteMap =
+                    (ByteMap) exp.mmap.getMap(PatternResultsOpsMock.class.getSimpleName());
+            assertEquals(18, byteMap.pixArray[0]);
+            assertEquals(20, byteMap.pixArray[1]);
+
+            RealMap realMap =
+                    (RealMap) exp.mmap.getMap(HoughResultsOpsMock.class.getSimpleName());
+            assertEquals(132, realMap.pixArray[0], 1e-6);
+            assertEquals(144, realMap.pixArray[1], 1e-6);
+        }
+
+        // Different steps
+        RealMap realMap =
+                (RealMap) exp1.mmap.getMap(PositioningResultsOpsMock.class.getSimpleName());
+        assertEquals(0.26, realMap.pixArray[0], 1e-6);
+        assertEquals(0.30, realMap.pixArray[1], 1e-6);
+
+        realMap =
+                (RealMap) exp1.mmap.getMap(IndexingResultsOpsMock.class.getSimpleName());
+        assertEquals(0.5, realMap.pixArray[0], 1e-6);
+        assertEquals(0.5, realMap.pixArray[1], 1e-6);
+
+        ErrorMap errorMap = (ErrorMap) exp1.mmap.getMap(EbsdMMap.ERRORS);
+        assertEquals(0, errorMap.pixArray[0]);
+        assertEquals(0, errorMap.pixArray[1]);
+
+        realMap =
+                (RealMap) exp2.mmap.getMap(PositioningResultsOpsMock.class.getSimpleName());
+        assertEquals(0.26, realMap.pixArray[0], 1e-6);
+        assertEquals(Float.NaN, realMap.pixArray[1], 1e-6);
+
+        realMap =
+                (RealMap) exp2.mmap.getMap(IndexingResultsOpsMock.class.getSimpleName());
+        assertEquals(0.5, realMap.pixArray[0], 1e-6);
+        assertEquals(Float.NaN, realMap.pixArray[1], 1e-6);
+
+        errorMap = (ErrorMap) exp2.mmap.getMap(EbsdMMap.ERRORS);
+        assertEquals(0, errorMap.pixArray[0]);
+        assertEquals(1, errorMap.pixArray[1]);
+    }
+
+
+
+    @Test
+    public void testRunFiles() throws IOException {
+        exp1.addOperation(new PeaksBinary());
+        exp2.addOperation(new PeaksBinary());
+        sweep = new ExpSweep(new Exp[] { exp1, exp2 });
+
+        sweep.run();
+
+        // Each experiment saves its own peaks
+        PeaksInputStream in = new PeaksInputStream(PeaksBinary.getFile(exp1));
+        try {
+            assertTrue(in.hasPeaks(0));
+            assertTrue(in.hasPeaks(1));
+        } finally {
+            in.close();
+        }
+
+        in = new PeaksInputStream(PeaksBinary.getFile(exp2));
+        try {
+            assertTrue(in.hasPeaks(0));
+            assertFalse(in.hasPeaks(1));
+        } finally {
+            in.close();
+        }
+    }
+
+}
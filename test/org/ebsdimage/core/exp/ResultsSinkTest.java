@@ -0,0 +1,111 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp;
+
+import org.ebsdimage.core.exp.ops.hough.results.HoughResultsOpsMock;
+import org.ebsdimage.core.exp.ops.pattern.results.PatternResultsOpsMock;
+import org.junit.Before;
+import org.junit.Test;
+
+import rmlimage.core.BinMap;
+import rmlimage.core.ByteMap;
+import rmlimage.module.real.core.RealMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ResultsSinkTest {
+
+    private Exp exp;
+
+    private ResultsSink sink;
+
+    private ExpOperation op;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        exp = ExpTester.createExp();
+        sink = new ResultsSink(exp);
+        op = new PatternResultsOpsMock();
+    }
+
+
+
+    @Test
+    public void testSave() {
+        OpResult[] results =
+                new OpResult[] { new OpResult("A", 1.5, RealMap.class),
+                        new OpResult("B", 7, ByteMap.class),
+                        new OpResult("C", 3, BinMap.class) };
+
+        sink.save(op, results, 0);
+        sink.save(op, new OpResult[] { new OpResult("A", 2.5, RealMap.class),
+                new OpResult("B", 8, ByteMap.class),
+                new OpResult("C", 0, BinMap.class) }, 1);
+
+        RealMap realMap = (RealMap) exp.mmap.getMap("A");
+        assertEquals(1.5, realMap.pixArray[0], 1e-6);
+        assertEquals(2.5, realMap.pixArray[1], 1e-6);
+
+        ByteMap byteMap = (ByteMap) exp.mmap.getMap("B");
+        assertEquals(7, byteMap.pixArray[0]);
+        assertEquals(8, byteMap.pixArray[1]);
+
+        BinMap binMap = (BinMap) exp.mmap.getMap("C");
+        assertEquals(1, binMap.pixArray[0]);
+        assertEquals(0, binMap.pixArray[1]);
+    }
+
+
+
+    @Test
+    public void testSaveChangingAliases() {
+        ExpOperation other = new HoughResultsOpsMock();
+
+        sink.save(op, new OpResult[] { new OpResult("A", 1.5,
+                RealMap.class) }, 0);
+        sink.save(other, new OpResult[] { new OpResult("A", 2.5,
+                RealMap.class) }, 1);
+        sink.save(op, new OpResult[] { new OpResult("B", 3, ByteMap.class),
+                new OpResult("A", 4.5, RealMap.class) }, 1);
+
+        RealMap realMap = (RealMap) exp.mmap.getMap("A");
+        assertEquals(1.5, realMap.pixArray[0], 1e-6);
+        assertEquals(4.5, realMap.pixArray[1], 1e-6);
+
+        ByteMap byteMap = (ByteMap) exp.mmap.getMap("B");
+        assertEquals(3, byteMap.pixArray[1]);
+    }
+
+
+
+    @Test
+    public void testSaveExistingMap() {
+        RealMap realMap = new RealMap(2, 1);
+        exp.mmap.add("A", realMap);
+
+        sink.save(op, new OpResult[] { new OpResult("A", 1.5,
+                RealMap.class) }, 1);
+
+        assertTrue(realMap == exp.mmap.getMap("A"));
+        assertEquals(1.5, realMap.pixArray[1], 1e-6);
+    }
+
+}
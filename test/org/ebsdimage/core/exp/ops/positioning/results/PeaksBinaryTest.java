@@ -0,0 +1,101 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.exp.ops.positioning.results;
+
+import java.io.File;
+
+import org.ebsdimage.TestCase;
+import org.ebsdimage.core.HoughPeak;
+import org.ebsdimage.io.PeaksOutputStream;
+import org.junit.Before;
+import org.junit.Test;
+
+import ptpshared.util.simplexml.XmlLoader;
+import ptpshared.util.simplexml.XmlSaver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import static junittools.test.Assert.assertEquals;
+
+public class PeaksBinaryTest extends TestCase {
+
+    private PeaksBinary op;
+
+    private HoughPeak peak1;
+
+    private HoughPeak peak2;
+
+    private HoughPeak peak3;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        op = new PeaksBinary();
+
+        peak1 = new HoughPeak(0.5, 3.0, 1);
+        peak2 = new HoughPeak(1.5, 5.0, 3);
+        peak3 = new HoughPeak(1.0, 4.0, 2);
+    }
+
+
+
+    @Test
+    public void testExportXml() throws Exception {
+        File dir = createTempDir();
+        File file = new File(dir, "test_peaks.pks");
+
+        PeaksOutputStream out = new PeaksOutputStream(file, 0, 3);
+        out.writePeaks(1, new HoughPeak[] { peak1, peak2, peak3 });
+        out.close();
+
+        PeaksBinary.exportXml(file, dir, "test");
+
+        assertFalse(new File(dir, "test_0_peaks.xml").exists());
+        assertFalse(new File(dir, "test_2_peaks.xml").exists());
+
+        HoughPeak[] other =
+                new XmlLoader().loadArray(HoughPeak.class, new File(dir,
+                        "test_1_peaks.xml"));
+
+        assertEquals(3, other.length);
+        assertEquals(peak2, other[0], 1e-6);
+        assertEquals(peak3, other[1], 1e-6);
+        assertEquals(peak1, other[2], 1e-6);
+    }
+
+
+
+    @Test
+    public void testToString() {
+        assertEquals(op.toString(), "Binary");
+    }
+
+
+
+    @Test
+    public void testXML() throws Exception {
+        File file = createTempFile();
+        new XmlSaver().save(op, file);
+
+        PeaksBinary other = new XmlLoader().load(PeaksBinary.class, file);
+        assertEquals(op, other, 1e-6);
+    }
+
+}
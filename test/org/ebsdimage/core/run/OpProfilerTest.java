@@ -0,0 +1,162 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.run;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+
+import org.ebsdimage.TestCase;
+import org.ebsdimage.core.run.OpProfiler.OpStats;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OpProfilerTest extends TestCase {
+
+    private OpProfiler profiler;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        profiler = new OpProfiler();
+
+        // 100 executions of A from 1 to 100 ms, the last one failed
+        long now = System.nanoTime();
+        for (int i = 1; i <= 100; i++)
+            profiler.record("A", now - i * 1000000L, -1, i == 100);
+
+        // 1 execution of B of 10 s
+        profiler.record("B", System.nanoTime() - 10000000000L, -1, false);
+    }
+
+
+
+    @Test
+    public void testClear() {
+        profiler.clear();
+        assertEquals(0, profiler.getStats().length);
+        assertEquals("", profiler.getSummary());
+    }
+
+
+
+    @Test
+    public void testGetStats() {
+        OpStats[] stats = profiler.getStats();
+        assertEquals(2, stats.length);
+
+        // Sorted by total time
+        assertEquals("B", stats[0].name);
+        assertEquals(1, stats[0].count);
+        assertEquals(0, stats[0].errors);
+        assertEquals(-1, stats[0].allocatedBytes);
+
+        OpStats a = stats[1];
+        assertEquals("A", a.name);
+        assertEquals(100, a.count);
+        assertEquals(1, a.errors);
+        assertTrue(a.totalTime >= 5050000000L);
+
+        // Percentiles within 25%
+        assertEquals(50e6, a.p50, 0.25 * 50e6);
+        assertEquals(95e6, a.p95, 0.25 * 95e6);
+        assertEquals(99e6, a.p99, 0.25 * 99e6);
+        assertTrue(a.p50 <= a.p95);
+        assertTrue(a.p95 <= a.p99);
+    }
+
+
+
+    @Test
+    public void testGetStatsSameName() {
+        profiler.record("B", System.nanoTime() - 1000000L, -1, false);
+
+        OpStats[] stats = profiler.getStats();
+        assertEquals(2, stats.length);
+        assertEquals("B", stats[0].name);
+        assertEquals(2, stats[0].count);
+        assertTrue(stats[0].totalTime >= 10001000000L);
+    }
+
+
+
+    @Test
+    public void testGetSummary() {
+        assertTrue(profiler.getSummary().contains("B"));
+    }
+
+
+
+    @Test
+    public void testWriteCsv() throws Exception {
+        File file = createTempFile();
+        profiler.writeCsv(file);
+
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            assertTrue(reader.readLine().startsWith("Operation,Count"));
+            assertTrue(reader.readLine().startsWith("B,1,0,"));
+            assertTrue(reader.readLine().startsWith("A,100,1,"));
+        } finally {
+            reader.close();
+        }
+    }
+
+
+
+    @Test
+    public void testWriteCsvEscape() throws Exception {
+        profiler.clear();
+        profiler.record("Threshold \"auto\", 2", System.nanoTime(), -1, false);
+
+        File file = createTempFile();
+        profiler.writeCsv(file);
+
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            reader.readLine();
+            assertTrue(reader.readLine().startsWith(
+                    "\"Threshold \"\"auto\"\", 2\",1,0,"));
+        } finally {
+            reader.close();
+        }
+    }
+
+
+
+    @Test
+    public void testWriteJson() throws Exception {
+        File file = createTempFile();
+        profiler.writeJson(file);
+
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            assertEquals("[", reader.readLine());
+            assertTrue(reader.readLine().contains("\"operation\": \"B\""));
+            assertTrue(reader.readLine().contains("\"count\": 100"));
+            assertEquals("]", reader.readLine());
+        } finally {
+            reader.close();
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.sim;
+
+import java.awt.Rectangle;
+import java.awt.geom.Line2D;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import rmlimage.module.real.core.RealMap;
+
+import static org.junit.Assert.assertEquals;
+
+public class BandDrawingTest {
+
+    private RealMap canvas;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        canvas = new RealMap(8, 8);
+    }
+
+
+
+    @Test
+    public void testFill() {
+        Band band =
+                new Band(null, new Line2D.Double(3.5, 0, 3.5, 8),
+                        new Line2D.Double(2, 0, 2, 8), new Line2D.Double(5, 8,
+                                5, 0));
+        BandDrawing.fill(canvas, band, 2.0f, false);
+
+        for (int y = 0; y < 8; y++) {
+            assertEquals(0.0, canvas.pixArray[y * 8 + 1], 1e-6);
+            assertEquals(2.0, canvas.pixArray[y * 8 + 2], 1e-6);
+            assertEquals(2.0, canvas.pixArray[y * 8 + 4], 1e-6);
+            assertEquals(0.0, canvas.pixArray[y * 8 + 5], 1e-6);
+        }
+
+        // Bands accumulate
+        BandDrawing.fill(canvas, band, 2.0f, false);
+        assertEquals(4.0, canvas.pixArray[3], 1e-6);
+    }
+
+
+
+    @Test
+    public void testFillAntialiased() {
+        Band band =
+                new Band(null, new Line2D.Double(0, 4, 8, 4),
+                        new Line2D.Double(0, 3.2, 8, 3.2), new Line2D.Double(
+                                0, 4.8, 8, 4.8));
+        BandDrawing.fill(canvas, band, 1.0f, true);
+
+        float sum = 0.0f;
+        for (int x = 0; x < 8; x++) {
+            assertEquals(0.0, canvas.pixArray[2 * 8 + x], 1e-6);
+            assertEquals(0.8, canvas.pixArray[3 * 8 + x], 1e-6);
+            assertEquals(0.8, canvas.pixArray[4 * 8 + x], 1e-6);
+            assertEquals(0.0, canvas.pixArray[5 * 8 + x], 1e-6);
+            sum += canvas.pixArray[3 * 8 + x] + canvas.pixArray[4 * 8 + x];
+        }
+
+        // Total coverage is the area of the band
+        assertEquals(1.6 * 8, sum, 1e-4);
+    }
+
+
+
+    @Test
+    public void testFillDiagonal() {
+        Band band =
+                new Band(null, new Line2D.Double(0, 0, 8, 8),
+                        new Line2D.Double(2, 0, 8, 6), new Line2D.Double(0, 2,
+                                6, 8));
+        BandDrawing.fill(canvas, band, 1.0f, true);
+
+        // Diagonal is inside the band
+        for (int i = 0; i < 8; i++)
+            assertEquals(1.0, canvas.pixArray[i * 8 + i], 1e-6);
+
+        // Corners are outside
+        assertEquals(0.0, canvas.pixArray[7], 1e-6);
+        assertEquals(0.0, canvas.pixArray[7 * 8], 1e-6);
+    }
+
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFillException() {
+        Band band =
+                new Band(null, new Line2D.Double(0, 0, 8, 8), new Rectangle(0,
+                        0, 1, 1), new Line2D.Double(0, 2, 6, 8));
+        BandDrawing.fill(canvas, band, 1.0f, true);
+    }
+
+}
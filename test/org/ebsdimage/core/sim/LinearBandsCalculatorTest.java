@@ -0,0 +1,216 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.sim;
+
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+
+import org.apache.commons.math.geometry.Rotation;
+import org.apache.commons.math.geometry.RotationOrder;
+import org.apache.commons.math.geometry.Vector3D;
+import org.ebsdimage.core.AcquisitionConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+import ptpshared.geom.AffineTransform3D;
+import ptpshared.geom.Line3D;
+import ptpshared.geom.Plane;
+import ptpshared.geom.PlaneUtil;
+import rmlshared.geom.LineUtil;
+import crystallography.core.Calculations;
+import crystallography.core.CrystalFactory;
+import crystallography.core.Reflector;
+import crystallography.core.Reflectors;
+import crystallography.core.ReflectorsFactory;
+import crystallography.core.ScatteringFactorsEnum;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+public class LinearBandsCalculatorTest {
+
+    private static final int WIDTH = 168;
+
+    private static final int HEIGHT = 128;
+
+    private LinearBandsCalculator calculator;
+
+    private AcquisitionConfig acqConfig;
+
+    private Reflectors reflectors;
+
+
+
+    private static Line2D getLine(Plane plane, Plane cameraPlane,
+            AffineTransform3D atFromMicroscopeToCamera, double dx, double dy) {
+        Line3D line;
+        try {
+            line = PlaneUtil.planesIntersection(plane, cameraPlane);
+        } catch (ArithmeticException ex) {
+            return null;
+        }
+
+        line = line.transform(atFromMicroscopeToCamera);
+        Line2D line2D =
+                new Line2D.Double(line.p.getX() * dx, line.p.getY() * dy,
+                        line.getPointFromS(1).getX() * dx,
+                        line.getPointFromS(1).getY() * dy);
+
+        try {
+            LineUtil.extendTo(line2D, new Rectangle2D.Double(0, 0, WIDTH,
+                    HEIGHT));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+
+        return line2D;
+    }
+
+
+
+    /**
+     * Calculates the bands with the geometrical objects, as the calculator
+     * used to.
+     */
+    private static Line2D[] getReferenceLines(AcquisitionConfig acqConfig,
+            Reflector reflector, Rotation rotation) {
+        AffineTransform3D atFromAcqPositionToMicroscope =
+                acqConfig.getAcquisitionPositionCS().getTransformationTo(
+                        acqConfig.getMicroscopeCS());
+        AffineTransform3D atFromMicroscopeToCamera =
+                acqConfig.getMicroscopeCS().getTransformationTo(
+                        acqConfig.getCameraCS());
+        Plane cameraPlane = acqConfig.getCameraPlane();
+        double dx = WIDTH / acqConfig.camera.width;
+        double dy = HEIGHT / acqConfig.camera.height;
+
+        Plane plane =
+                new Plane(new Vector3D(0, 0, 0),
+                        rotation.applyTo(reflector.getNormal()));
+        plane = plane.transform(atFromAcqPositionToMicroscope);
+
+        Line2D middle =
+                getLine(plane, cameraPlane, atFromMicroscopeToCamera, dx, dy);
+        if (middle == null)
+            return null;
+
+        double theta =
+                Calculations.diffractionAngle(reflector.planeSpacing,
+                        Calculations.electronWavelength(acqConfig.beamEnergy));
+        Line3D intersectLine =
+                PlaneUtil.planesIntersection(plane, cameraPlane);
+        AffineTransform3D atOpening =
+                new AffineTransform3D(new Rotation(intersectLine.v, theta),
+                        new Vector3D(0, 0, 0));
+
+        Line2D edge1 =
+                getLine(plane.transform(atOpening), cameraPlane,
+                        atFromMicroscopeToCamera, dx, dy);
+        Line2D edge2 =
+                getLine(plane.transform(atOpening.inverse()), cameraPlane,
+                        atFromMicroscopeToCamera, dx, dy);
+        if (edge1 == null || edge2 == null)
+            return null;
+
+        return new Line2D[] { middle, edge1, edge2 };
+    }
+
+
+
+    private static void assertLineEquals(Line2D expected, Line2D actual) {
+        assertEquals(expected.getX1(), actual.getX1(), 1e-6);
+        assertEquals(expected.getY1(), actual.getY1(), 1e-6);
+        assertEquals(expected.getX2(), actual.getX2(), 1e-6);
+        assertEquals(expected.getY2(), actual.getY2(), 1e-6);
+    }
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        calculator = new LinearBandsCalculator();
+        acqConfig = SimTester.createMetadata().acquisitionConfig;
+        reflectors =
+                ReflectorsFactory.generate(CrystalFactory.silicon(),
+                        ScatteringFactorsEnum.XRAY, 2);
+    }
+
+
+
+    @Test
+    public void testCalculate() {
+        Rotation[] rotations =
+                new Rotation[] {
+                        Rotation.IDENTITY,
+                        new Rotation(RotationOrder.ZXZ, 0.1, 0.2, 0.3),
+                        new Rotation(RotationOrder.ZXZ, 1.5, 0.7, -2.1) };
+
+        for (Rotation rotation : rotations) {
+            Band[] bands =
+                    calculator.calculate(WIDTH, HEIGHT, acqConfig, reflectors,
+                            rotation);
+
+            int count = 0;
+            for (Reflector reflector : reflectors.getReflectorsSortedByIntensity(true)) {
+                Line2D[] expected =
+                        getReferenceLines(acqConfig, reflector, rotation);
+                if (expected == null)
+                    continue;
+
+                Band band = bands[count];
+                assertSame(reflector, band.reflector);
+                assertLineEquals(expected[0], band.middle);
+                assertLineEquals(expected[1], (Line2D) band.edge1);
+                assertLineEquals(expected[2], (Line2D) band.edge2);
+                count++;
+            }
+
+            assertEquals(count, bands.length);
+        }
+    }
+
+
+
+    @Test
+    public void testCalculateCache() {
+        Rotation rotation = new Rotation(RotationOrder.ZXZ, 0.1, 0.2, 0.3);
+
+        Band[] bands1 =
+                calculator.calculate(WIDTH, HEIGHT, acqConfig, reflectors,
+                        rotation);
+        Band[] bands2 =
+                calculator.calculate(WIDTH, HEIGHT, acqConfig, reflectors,
+                        rotation);
+
+        assertEquals(bands1.length, bands2.length);
+        for (int i = 0; i < bands1.length; i++) {
+            assertSame(bands1[i].reflector, bands2[i].reflector);
+            assertLineEquals(bands1[i].middle, bands2[i].middle);
+        }
+
+        // Another size
+        Band[] bands3 =
+                calculator.calculate(WIDTH * 2, HEIGHT * 2, acqConfig,
+                        reflectors, rotation);
+        assertNotNull(bands3);
+        assertEquals(bands1[0].middle.getX1() * 2, bands3[0].middle.getX1(),
+                1e-6);
+    }
+
+}
@@ -17,7 +17,25 @@
  */
 package org.ebsdimage.core.sim;
 
+import java.io.File;
+
+import org.apache.commons.math.geometry.Rotation;
+import org.apache.commons.math.geometry.RotationOrder;
+import org.ebsdimage.core.HoughPeak;
+import org.ebsdimage.core.sim.ops.output.HoughPeaksBinary;
+import org.ebsdimage.core.sim.ops.output.SmpFile;
+import org.ebsdimage.core.sim.ops.patternsim.PatternFilledBand;
+import org.ebsdimage.io.PeaksInputStream;
+import org.ebsdimage.io.SmpInputStream;
 import org.junit.Before;
+import org.junit.Test;
+
+import rmlimage.core.ByteMap;
+import crystallography.core.Crystal;
+import crystallography.core.CrystalFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class SimTest extends SimTester {
 
@@ -25,4 +43,93 @@ public class SimTest extends SimTester {
     public void setUp() throws Exception {
         sim = createSim();
     }
+
+
+
+    private Sim createParallelSim(String name, Rotation[] rotations) {
+        // Each simulation has its own operations
+        SimOperation[] ops =
+                new SimOperation[] { new PatternFilledBand(40, 30),
+                        new SmpFile(), new HoughPeaksBinary() };
+        Crystal[] phases = new Crystal[] { CrystalFactory.silicon() };
+
+        Sim sim = new Sim(createMetadata(), ops, phases, rotations);
+        sim.setName(name);
+        sim.setDir(simPath);
+
+        return sim;
+    }
+
+
+
+    @Test
+    public void testRunParallel() throws Exception {
+        Rotation[] rotations = new Rotation[6];
+        for (int i = 0; i < rotations.length; i++)
+            rotations[i] =
+                    new Rotation(RotationOrder.ZXZ, 0.1 * i, 0.2, 0.3 * i);
+
+        Sim serial = createParallelSim("Serial", rotations);
+        serial.run();
+
+        Sim parallel = createParallelSim("Parallel", rotations);
+        parallel.setThreadCount(3);
+        parallel.run();
+
+        // Same parameters at the same index
+        for (int i = 0; i < rotations.length; i++) {
+            assertEquals(serial.mmap.getQ0Map().pixArray[i],
+                    parallel.mmap.getQ0Map().pixArray[i], 1e-6);
+            assertEquals(serial.mmap.getQ3Map().pixArray[i],
+                    parallel.mmap.getQ3Map().pixArray[i], 1e-6);
+        }
+
+        // Same bands in the same order
+        PeaksInputStream serialPeaks =
+                new PeaksInputStream(HoughPeaksBinary.getFile(serial));
+        PeaksInputStream parallelPeaks =
+                new PeaksInputStream(HoughPeaksBinary.getFile(parallel));
+        for (int i = 0; i < rotations.length; i++) {
+            HoughPeak[] expected = serialPeaks.readPeaks(i);
+            HoughPeak[] actual = parallelPeaks.readPeaks(i);
+
+            assertTrue(expected.length > 0);
+            assertEquals(expected.length, actual.length);
+            for (int j = 0; j < expected.length; j++) {
+                assertEquals(expected[j].theta, actual[j].theta, 1e-6);
+                assertEquals(expected[j].rho, actual[j].rho, 1e-6);
+                assertEquals(expected[j].intensity, actual[j].intensity,
+                        1e-6);
+            }
+        }
+        serialPeaks.close();
+        parallelPeaks.close();
+
+        // Same patterns in the same order
+        SmpInputStream serialSmp =
+                new SmpInputStream(new File(simPath, "Serial.smp"));
+        SmpInputStream parallelSmp =
+                new SmpInputStream(new File(simPath, "Parallel.smp"));
+        for (int i = 0; i < rotations.length; i++) {
+            ByteMap expected = (ByteMap) serialSmp.readMap(i);
+
+            // The bands are drawn
+            boolean drawn = false;
+            for (byte pixel : expected.pixArray)
+                drawn |= pixel != 0;
+            assertTrue(drawn);
+
+            ((ByteMap) parallelSmp.readMap(i)).assertEquals(expected);
+        }
+        serialSmp.close();
+        parallelSmp.close();
+    }
+
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetThreadCountException() {
+        sim.setThreadCount(0);
+    }
+
 }
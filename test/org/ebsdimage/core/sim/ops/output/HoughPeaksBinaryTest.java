@@ -0,0 +1,138 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.core.sim.ops.output;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.ebsdimage.TestCase;
+import org.ebsdimage.core.HoughPeak;
+import org.ebsdimage.core.sim.Sim;
+import org.ebsdimage.core.sim.SimOperation;
+import org.ebsdimage.core.sim.SimTester;
+import org.ebsdimage.core.sim.ops.patternsim.PatternSimOp;
+import org.ebsdimage.core.sim.ops.patternsim.PatternSimOpMock;
+import org.ebsdimage.io.PeaksInputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ptpshared.util.simplexml.XmlLoader;
+import ptpshared.util.simplexml.XmlSaver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HoughPeaksBinaryTest extends TestCase {
+
+    private HoughPeaksBinary op;
+
+    private PatternSimOp patternSimOp;
+
+    private Sim sim;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        op = new HoughPeaksBinary();
+        patternSimOp = PatternSimOpMock.DEFAULT;
+        SimOperation[] ops = new SimOperation[] { op, patternSimOp };
+
+        sim = SimTester.createSim(ops);
+    }
+
+
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        SimTester.removeSimPath();
+    }
+
+
+
+    @Test
+    public void testEqualsObject() {
+        assertTrue(op.equals(op));
+        assertFalse(op.equals(null));
+        assertFalse(op.equals(new Object()));
+
+        assertTrue(op.equals(new HoughPeaksBinary()));
+    }
+
+
+
+    @Test
+    public void testIsPatternRequired() {
+        assertFalse(op.isPatternRequired());
+        assertFalse(sim.isPatternRequired());
+    }
+
+
+
+    @Test
+    public void testSave() throws IOException {
+        sim.run();
+
+        // Expected peaks from a drawn pattern
+        PatternSimOp other = patternSimOp.duplicate();
+        other.simulate(sim, sim.getMetadata(), sim.getReflectors()[0],
+                sim.getRotations()[0]);
+        HoughPeak[] expected = other.getHoughPeaks();
+
+        PeaksInputStream in =
+                new PeaksInputStream(HoughPeaksBinary.getFile(sim));
+        try {
+            assertEquals(0, in.getStartIndex());
+            assertEquals(1, in.getEndIndex());
+
+            HoughPeak[] peaks = in.readPeaks(0);
+            assertEquals(expected.length, peaks.length);
+
+            double sum = 0.0;
+            double expectedSum = 0.0;
+            for (int i = 0; i < peaks.length; i++) {
+                sum += peaks[i].theta + peaks[i].rho;
+                expectedSum += expected[i].theta + expected[i].rho;
+
+                // Sorted by decreasing intensity
+                if (i > 0)
+                    assertTrue(peaks[i - 1].intensity >= peaks[i].intensity);
+            }
+            assertEquals(expectedSum, sum, 1e-6);
+        } finally {
+            in.close();
+        }
+    }
+
+
+
+    @Test
+    public void testXML() throws Exception {
+        File file = createTempFile();
+        new XmlSaver().save(op, file);
+
+        HoughPeaksBinary other =
+                new XmlLoader().load(HoughPeaksBinary.class, file);
+        assertEquals(op, other);
+    }
+
+}
@@ -35,6 +35,7 @@ import crystallography.core.ReflectorsFactory;
 import crystallography.core.ScatteringFactorsEnum;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 public class PatternSimOpMockTest extends TestCase {
 
@@ -73,6 +74,22 @@ public class PatternSimOpMockTest extends TestCase {
 
 
 
+    @Test
+    public void testSimulateBands() {
+        op.simulateBands(null, metadata, reflectors, rotation);
+
+        assertEquals(4, op.getBands().length);
+        assertEquals(4, op.getHoughPeaks().length);
+
+        try {
+            op.getPatternMap();
+            fail();
+        } catch (RuntimeException ex) {
+        }
+    }
+
+
+
     @Test
     public void testXML() throws Exception {
         File file = createTempFile();
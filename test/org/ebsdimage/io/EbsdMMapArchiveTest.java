@@ -0,0 +1,119 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.io;
+
+import org.ebsdimage.TestCase;
+import org.ebsdimage.core.EbsdMMap;
+import org.ebsdimage.core.PhaseMap;
+import org.ebsdimage.io.exp.ExpMMapLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import rmlimage.module.real.core.RealMap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class EbsdMMapArchiveTest extends TestCase {
+
+    private EbsdMMapArchive archive;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        archive =
+                new ExpMMapLoader().open(
+                        getFile("org/ebsdimage/testdata/expmmap.zip"), 20);
+    }
+
+
+
+    @After
+    public void tearDown() throws Exception {
+        archive.close();
+    }
+
+
+
+    @Test
+    public void testGetAliases() {
+        String[] expected =
+                new String[] { EbsdMMap.ERRORS, EbsdMMap.PHASES, EbsdMMap.Q0,
+                        EbsdMMap.Q1, EbsdMMap.Q2, EbsdMMap.Q3 };
+        java.util.Arrays.sort(expected);
+
+        assertArrayEquals(expected, archive.getAliases());
+        assertFalse(archive.isLoaded(EbsdMMap.Q0));
+        assertEquals(0, archive.getMemorySize());
+    }
+
+
+
+    @Test
+    public void testGetMap() throws Exception {
+        RealMap q0 = archive.getRealMap(EbsdMMap.Q0);
+        assertEquals(2, q0.width);
+        assertEquals(2, q0.height);
+        assertEquals(1.0, q0.pixArray[0], 1e-6);
+        assertTrue(archive.isLoaded(EbsdMMap.Q0));
+        assertEquals(16, archive.getMemorySize());
+
+        PhaseMap phases = (PhaseMap) archive.getMap(EbsdMMap.PHASES);
+        assertEquals(2, phases.width);
+        assertEquals(20, archive.getMemorySize());
+    }
+
+
+
+    @Test
+    public void testGetMapEviction() throws Exception {
+        RealMap q0 = archive.getRealMap(EbsdMMap.Q0);
+        archive.getRealMap(EbsdMMap.Q1);
+
+        // Budget of 20 bytes: Q0 is released
+        assertFalse(archive.isLoaded(EbsdMMap.Q0));
+        assertTrue(archive.isLoaded(EbsdMMap.Q1));
+        assertEquals(16, archive.getMemorySize());
+
+        // Q0 is decoded again
+        RealMap other = archive.getRealMap(EbsdMMap.Q0);
+        assertFalse(q0 == other);
+        assertEquals(q0.pixArray[0], other.pixArray[0], 1e-6);
+    }
+
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetMapException() throws Exception {
+        archive.getMap("Unknown");
+    }
+
+
+
+    @Test
+    public void testGetMetadata() throws Exception {
+        assertNotNull(archive.getMetadata());
+        assertEquals(20e3, archive.getMetadata().acquisitionConfig.beamEnergy, 1e-6);
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.ebsdimage.TestCase;
+import org.ebsdimage.core.HoughPeak;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static junittools.test.Assert.assertEquals;
+
+public class PeaksInputStreamTest extends TestCase {
+
+    private File file;
+
+    private PeaksInputStream inStream;
+
+    private HoughPeak peak1;
+
+    private HoughPeak peak2;
+
+    private HoughPeak peak3;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        peak1 = new HoughPeak(0.5, 3.0, 1);
+        peak2 = new HoughPeak(1.5, -5.0, 3);
+        peak3 = new HoughPeak(1.0, 4.0, "nm", 2);
+
+        file = new File(createTempDir(), "PeaksInputStreamTest.pks");
+        PeaksOutputStream outStream = new PeaksOutputStream(file, 10, 4);
+        outStream.writePeaks(13, new HoughPeak[] { peak3 });
+        outStream.writePeaks(10, new HoughPeak[] { peak1, peak2 });
+        outStream.writePeaks(11, new HoughPeak[0]);
+        outStream.close();
+
+        inStream = new PeaksInputStream(file);
+    }
+
+
+
+    @After
+    public void tearDown() throws Exception {
+        inStream.close();
+    }
+
+
+
+    @Test
+    public void testGetEndIndex() {
+        assertEquals(14, inStream.getEndIndex());
+    }
+
+
+
+    @Test
+    public void testGetStartIndex() {
+        assertEquals(10, inStream.getStartIndex());
+    }
+
+
+
+    @Test
+    public void testHasPeaks() {
+        assertTrue(inStream.hasPeaks(10));
+        assertTrue(inStream.hasPeaks(11));
+        assertFalse(inStream.hasPeaks(12));
+        assertTrue(inStream.hasPeaks(13));
+        assertFalse(inStream.hasPeaks(9));
+        assertFalse(inStream.hasPeaks(14));
+    }
+
+
+
+    @Test
+    public void testReadPeaks() throws IOException {
+        HoughPeak[] peaks = inStream.readPeaks(13);
+        assertEquals(1, peaks.length);
+        assertEquals(peak3, peaks[0], 1e-6);
+        assertEquals("nm", peaks[0].rhoUnits);
+
+        peaks = inStream.readPeaks(10);
+        assertEquals(2, peaks.length);
+        assertEquals(peak1, peaks[0], 1e-6);
+        assertEquals(peak2, peaks[1], 1e-6);
+
+        peaks = inStream.readPeaks(11);
+        assertEquals(0, peaks.length);
+    }
+
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadPeaksException() throws IOException {
+        inStream.readPeaks(12);
+    }
+
+
+
+    @Test
+    public void testRecover() throws IOException {
+        inStream.close();
+
+        // Remove the table, as if the stream was never closed
+        truncate(inStream.getRecordsEnd());
+        inStream = new PeaksInputStream(file);
+
+        assertTrue(inStream.hasPeaks(10));
+        assertTrue(inStream.hasPeaks(11));
+        assertFalse(inStream.hasPeaks(12));
+        assertTrue(inStream.hasPeaks(13));
+
+        HoughPeak[] peaks = inStream.readPeaks(10);
+        assertEquals(2, peaks.length);
+        assertEquals(peak1, peaks[0], 1e-6);
+        assertEquals(peak2, peaks[1], 1e-6);
+    }
+
+
+
+    @Test
+    public void testRecoverIncompleteRecord() throws IOException {
+        long start = inStream.getOffsets()[1];
+        long end = inStream.getRecordsEnd();
+        inStream.close();
+
+        // Cut the last record, the one of pattern 11
+        truncate(end - 1);
+        inStream = new PeaksInputStream(file);
+
+        assertTrue(inStream.hasPeaks(10));
+        assertFalse(inStream.hasPeaks(11));
+        assertTrue(inStream.hasPeaks(13));
+        assertEquals(start, inStream.getRecordsEnd());
+
+        HoughPeak[] peaks = inStream.readPeaks(13);
+        assertEquals(1, peaks.length);
+        assertEquals(peak3, peaks[0], 1e-6);
+    }
+
+
+
+    private void truncate(long length) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(length);
+        } finally {
+            raf.close();
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * EBSD-Image
+ * Copyright (C) 2010-2011 Philippe T. Pinard
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.ebsdimage.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.ebsdimage.TestCase;
+import org.ebsdimage.core.HoughPeak;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static junittools.test.Assert.assertEquals;
+
+public class PeaksOutputStreamTest extends TestCase {
+
+    private File file;
+
+    private HoughPeak peak1;
+
+    private HoughPeak peak2;
+
+    private HoughPeak peak3;
+
+
+
+    @Before
+    public void setUp() throws Exception {
+        peak1 = new HoughPeak(0.5, 3.0, 1);
+        peak2 = new HoughPeak(1.5, -5.0, 3);
+        peak3 = new HoughPeak(1.0, 4.0, 2);
+
+        file = new File(createTempDir(), "PeaksOutputStreamTest.pks");
+        PeaksOutputStream outStream = new PeaksOutputStream(file, 10, 4);
+        outStream.writePeaks(10, new HoughPeak[] { peak1 });
+        outStream.writePeaks(11, new HoughPeak[] { peak2 });
+        outStream.close();
+    }
+
+
+
+    @Test
+    public void testAppend() throws IOException {
+        PeaksOutputStream outStream =
+                new PeaksOutputStream(file, 10, 4, true);
+        outStream.writePeaks(12, new HoughPeak[] { peak3 });
+        outStream.writePeaks(11, new HoughPeak[] { peak1, peak3 });
+        outStream.close();
+
+        PeaksInputStream inStream = new PeaksInputStream(file);
+        try {
+            assertEquals(peak1, inStream.readPeaks(10)[0], 1e-6);
+            assertEquals(peak3, inStream.readPeaks(12)[0], 1e-6);
+            assertFalse(inStream.hasPeaks(13));
+
+            HoughPeak[] peaks = inStream.readPeaks(11);
+            assertEquals(2, peaks.length);
+            assertEquals(peak1, peaks[0], 1e-6);
+            assertEquals(peak3, peaks[1], 1e-6);
+        } finally {
+            inStream.close();
+        }
+    }
+
+
+
+    @Test
+    public void testAppendNotClosed() throws IOException {
+        // Remove the table and part of the record of pattern 11
+        PeaksInputStream inStream = new PeaksInputStream(file);
+        long end = inStream.getRecordsEnd();
+        inStream.close();
+
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(end - 1);
+        raf.close();
+
+        PeaksOutputStream outStream =
+                new PeaksOutputStream(file, 10, 4, true);
+        outStream.writePeaks(11, new HoughPeak[] { peak2 });
+        outStream.writePeaks(13, new HoughPeak[] { peak3 });
+        outStream.close();
+
+        inStream = new PeaksInputStream(file);
+        try {
+            assertEquals(peak1, inStream.readPeaks(10)[0], 1e-6);
+            assertEquals(peak2, inStream.readPeaks(11)[0], 1e-6);
+            assertFalse(inStream.hasPeaks(12));
+            assertEquals(peak3, inStream.readPeaks(13)[0], 1e-6);
+        } finally {
+            inStream.close();
+        }
+    }
+
+
+
+    @Test
+    public void testAppendNewFile() throws IOException {
+        File other = new File(file.getParentFile(), "other.pks");
+        PeaksOutputStream outStream =
+                new PeaksOutputStream(other, 10, 4, true);
+        outStream.writePeaks(12, new HoughPeak[] { peak3 });
+        outStream.close();
+
+        PeaksInputStream inStream = new PeaksInputStream(other);
+        try {
+            assertFalse(inStream.hasPeaks(10));
+            assertTrue(inStream.hasPeaks(12));
+        } finally {
+            inStream.close();
+        }
+    }
+
+
+
+    @Test(expected = IOException.class)
+    public void testAppendException() throws IOException {
+        new PeaksOutputStream(file, 0, 4, true);
+    }
+
+
+
+    @Test
+    public void testOverwrite() throws IOException {
+        PeaksOutputStream outStream = new PeaksOutputStream(file, 10, 4);
+        outStream.writePeaks(12, new HoughPeak[] { peak3 });
+        outStream.close();
+
+        PeaksInputStream inStream = new PeaksInputStream(file);
+        try {
+            assertFalse(inStream.hasPeaks(10));
+            assertFalse(inStream.hasPeaks(11));
+            assertTrue(inStream.hasPeaks(12));
+        } finally {
+            inStream.close();
+        }
+    }
+
+}
@@ -18,15 +18,22 @@
 package org.ebsdimage.io.exp;
 
 import java.io.File;
+import java.io.IOException;
 
 import org.ebsdimage.core.exp.ExpMMap;
 import org.ebsdimage.core.exp.ExpMMapTester;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
+import rmlimage.core.ByteMap;
+import rmlimage.module.real.core.RealMap;
 import rmlshared.io.FileUtil;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
 public class ExpMMapSaverTest extends ExpMMapTester {
 
     private static File zipFile = new File(FileUtil.getTempDirFile(),
@@ -59,4 +66,39 @@ public class ExpMMapSaverTest extends ExpMMapTester {
         mmap = new ExpMMapLoader().load(zipFile);
     }
 
+
+
+    @Test
+    public void testSaveLoadMaps() throws IOException {
+        ExpMMap expMMap = ExpMMapTester.createExpMMap();
+        int size = expMMap.size;
+
+        ByteMap byteMap = new ByteMap(expMMap.width, expMMap.height);
+        RealMap realMap = new RealMap(expMMap.width, expMMap.height);
+        for (int i = 0; i < size; i++) {
+            byteMap.pixArray[i] = (byte) (i * 60);
+            realMap.pixArray[i] = i * 1.5f - 1.0f;
+        }
+
+        expMMap.add("ByteTest", byteMap);
+        expMMap.add("RealTest", realMap);
+
+        File file = new File(FileUtil.getTempDirFile(), "expmmap_maps.zip");
+        try {
+            new ExpMMapSaver().save(expMMap, file);
+            ExpMMap other = new ExpMMapLoader().load(file);
+
+            assertTrue(other.getMap("ByteTest") instanceof ByteMap);
+            assertArrayEquals(byteMap.pixArray,
+                    ((ByteMap) other.getMap("ByteTest")).pixArray);
+
+            assertTrue(other.getMap("RealTest") instanceof RealMap);
+            assertArrayEquals(realMap.pixArray,
+                    ((RealMap) other.getMap("RealTest")).pixArray, 1e-6f);
+        } finally {
+            if (!file.delete())
+                file.deleteOnExit();
+        }
+    }
+
 }